@@ -37,15 +37,15 @@ ON CONFLICT (email) DO NOTHING;
 
 -- Insert Events
 -- Note: Adjust category_id and event_user_id based on your actual IDs
-INSERT INTO events (title, description, poster_url, location, date, event_category_id, event_user_id) VALUES
-    ('Rock Festival 2024', 'Büyük rock festivali! 20+ sanatçı sahne alacak.', 'https://example.com/posters/rock-festival.jpg', 'Ankara Hipodrom', NOW() + INTERVAL '30 days', 1, 2),
-    ('Marathon Istanbul', 'İstanbul Maratonu - Tüm seviyeler için koşu etkinliği', 'https://example.com/posters/marathon.jpg', 'İstanbul Tarihi Yarımada', NOW() + INTERVAL '15 days', 2, 2),
-    ('Tech Conference 2024', 'Yazılım geliştirme ve teknoloji konferansı', 'https://example.com/posters/tech-conf.jpg', 'İstanbul Kongre Merkezi', NOW() + INTERVAL '45 days', 3, 5),
-    ('Resim Sergisi', 'Modern sanat resim sergisi - Ücretsiz giriş', 'https://example.com/posters/art-exhibition.jpg', 'İstanbul Modern Sanat Müzesi', NOW() + INTERVAL '10 days', 4, 5),
-    ('Yazılım Geliştirme Bootcamp', 'Full-stack yazılım geliştirme eğitimi', 'https://example.com/posters/bootcamp.jpg', 'Online', NOW() + INTERVAL '20 days', 5, 2),
-    ('Klasik Müzik Konseri', 'Senfoni orkestrası ile klasik müzik gecesi', 'https://example.com/posters/classical.jpg', 'Ankara CSO Konser Salonu', NOW() + INTERVAL '25 days', 1, 2),
-    ('Startup Meetup', 'Girişimciler ve yatırımcılar buluşması', 'https://example.com/posters/startup.jpg', 'İstanbul Koç Üniversitesi', NOW() + INTERVAL '35 days', 8, 5),
-    ('Film Festivali', 'Bağımsız sinema filmleri gösterimi', 'https://example.com/posters/film-fest.jpg', 'İstanbul Sinema Müzesi', NOW() + INTERVAL '40 days', 6, 2)
+INSERT INTO events (title, description, poster_url, location, date, latitude, longitude, event_category_id, event_user_id) VALUES
+    ('Rock Festival 2024', 'Büyük rock festivali! 20+ sanatçı sahne alacak.', 'https://example.com/posters/rock-festival.jpg', 'Ankara Hipodrom', NOW() + INTERVAL '30 days', 39.9487, 32.8419, 1, 2),
+    ('Marathon Istanbul', 'İstanbul Maratonu - Tüm seviyeler için koşu etkinliği', 'https://example.com/posters/marathon.jpg', 'İstanbul Tarihi Yarımada', NOW() + INTERVAL '15 days', 41.0082, 28.9784, 2, 2),
+    ('Tech Conference 2024', 'Yazılım geliştirme ve teknoloji konferansı', 'https://example.com/posters/tech-conf.jpg', 'İstanbul Kongre Merkezi', NOW() + INTERVAL '45 days', 41.0466, 28.9906, 3, 5),
+    ('Resim Sergisi', 'Modern sanat resim sergisi - Ücretsiz giriş', 'https://example.com/posters/art-exhibition.jpg', 'İstanbul Modern Sanat Müzesi', NOW() + INTERVAL '10 days', 41.0265, 28.9830, 4, 5),
+    ('Yazılım Geliştirme Bootcamp', 'Full-stack yazılım geliştirme eğitimi', 'https://example.com/posters/bootcamp.jpg', 'Online', NOW() + INTERVAL '20 days', NULL, NULL, 5, 2),
+    ('Klasik Müzik Konseri', 'Senfoni orkestrası ile klasik müzik gecesi', 'https://example.com/posters/classical.jpg', 'Ankara CSO Konser Salonu', NOW() + INTERVAL '25 days', 39.9385, 32.8540, 1, 2),
+    ('Startup Meetup', 'Girişimciler ve yatırımcılar buluşması', 'https://example.com/posters/startup.jpg', 'İstanbul Koç Üniversitesi', NOW() + INTERVAL '35 days', 41.2054, 29.0727, 8, 5),
+    ('Film Festivali', 'Bağımsız sinema filmleri gösterimi', 'https://example.com/posters/film-fest.jpg', 'İstanbul Sinema Müzesi', NOW() + INTERVAL '40 days', 41.0340, 28.9770, 6, 2)
 ON CONFLICT DO NOTHING;
 
 -- Insert Ticket Types
@@ -98,6 +98,13 @@ INSERT INTO registrations (registered_at, status, registration_user_id, registra
     (NOW() - INTERVAL '1 hour', 'ACTIVE', 4, 7)
 ON CONFLICT DO NOTHING;
 
+-- Sync sold counters with the inserted ACTIVE registrations
+-- (sold is normally maintained by the quota UPDATE in RegistrationManager)
+UPDATE ticket_types t SET sold = (
+    SELECT COUNT(*) FROM registrations r
+    WHERE r.registration_ticket_type_id = t.ticket_type_id AND r.status = 'ACTIVE'
+);
+
 -- Verify inserted data
 SELECT 'Categories' as table_name, COUNT(*) as count FROM categories
 UNION ALL
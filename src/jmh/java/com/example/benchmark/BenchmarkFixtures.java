@@ -0,0 +1,82 @@
+package com.example.benchmark;
+
+import com.example.dto.response.EventResponse;
+import com.example.entities.Category;
+import com.example.entities.Event;
+import com.example.entities.Registration;
+import com.example.entities.TicketType;
+import com.example.entities.User;
+import com.example.enums.AuthProvider;
+import com.example.enums.RegistrationStatus;
+import com.example.enums.Role;
+
+import java.time.LocalDateTime;
+
+/**
+ * Benchmark'larda kullanılan, veritabanı gerektirmeyen örnek entity ve DTO'lar.
+ * Alanlar seed verisindeki gerçekçi uzunluklarda doldurulur.
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static User user(long id) {
+        User user = new User();
+        user.setId(id);
+        user.setName("Kullanıcı " + id);
+        user.setEmail("user" + id + "@example.com");
+        user.setAuthProvider(AuthProvider.LOCAL);
+        user.setRole(Role.USER);
+        user.setCreatedAt(LocalDateTime.of(2026, 1, 1, 9, 0));
+        return user;
+    }
+
+    static Event event(long id) {
+        Category category = new Category();
+        category.setId(1L);
+        category.setName("Müzik");
+
+        Event event = new Event();
+        event.setId(id);
+        event.setTitle("Açık Hava Konseri " + id);
+        event.setDescription("Yaz akşamı boğaz kıyısında canlı müzik performansı ve sürpriz konuklar");
+        event.setPosterUrl("/uploads/" + id + "_poster.png");
+        event.setLocation("Harbiye Cemil Topuzlu Açık Hava Tiyatrosu, İstanbul");
+        event.setDate(LocalDateTime.of(2026, 7, 15, 21, 0));
+        event.setLatitude(41.0451);
+        event.setLongitude(28.9903);
+        event.setCategory(category);
+        event.setUser(user(2L));
+        return event;
+    }
+
+    static TicketType ticketType(long id, Event event) {
+        TicketType ticketType = new TicketType();
+        ticketType.setId(id);
+        ticketType.setName("VIP");
+        ticketType.setPrice(750.0);
+        ticketType.setQuota(500);
+        ticketType.setSold(120);
+        ticketType.setRemaining(380);
+        ticketType.setEvent(event);
+        return ticketType;
+    }
+
+    static Registration registration(long id, TicketType ticketType) {
+        Registration registration = new Registration();
+        registration.setId(id);
+        registration.setRegisteredAt(LocalDateTime.of(2026, 6, 1, 12, 30));
+        registration.setStatus(RegistrationStatus.ACTIVE);
+        registration.setUser(user(100L + id));
+        registration.setTicketType(ticketType);
+        return registration;
+    }
+
+    static EventResponse eventResponse(long id) {
+        return new EventResponse(id, "Açık Hava Konseri " + id,
+                "Yaz akşamı boğaz kıyısında canlı müzik performansı ve sürpriz konuklar",
+                "/uploads/" + id + "_poster.png", "Harbiye Cemil Topuzlu Açık Hava Tiyatrosu, İstanbul",
+                LocalDateTime.of(2026, 7, 15, 21, 0), 41.0451, 28.9903, 1L, "Müzik", 2L, "Kullanıcı 2");
+    }
+}
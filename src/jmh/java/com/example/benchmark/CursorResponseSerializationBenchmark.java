@@ -0,0 +1,67 @@
+package com.example.benchmark;
+
+import com.example.dto.response.CursorResponse;
+import com.example.dto.response.EventResponse;
+import com.example.result.CursorCodec;
+import com.example.result.ResultData;
+import com.example.result.ResultHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cursor sayfalı liste endpoint'lerinin response tarafı: ResultHelper.cursor ile zarfın kurulması,
+ * sonraki cursor'ın üretilmesi ve CursorResponse&lt;EventResponse&gt;'in JSON'a serialize edilmesi.
+ * pageSize varsayılan (5) ve izin verilen en büyük (100) sayfa boyutları için ölçülür.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CursorResponseSerializationBenchmark {
+
+    @Param({"5", "100"})
+    private int pageSize;
+
+    private JsonMapper jsonMapper;
+    private Slice<EventResponse> slice;
+
+    @Setup
+    public void setUp() {
+        this.jsonMapper = JsonMapper.builder().build();
+        List<EventResponse> items = new ArrayList<>(this.pageSize);
+        for (long id = 1; id <= this.pageSize; id++) {
+            items.add(BenchmarkFixtures.eventResponse(id));
+        }
+        this.slice = new SliceImpl<>(items, PageRequest.ofSize(this.pageSize), true);
+    }
+
+    @Benchmark
+    public ResultData<CursorResponse<EventResponse>> cursor() {
+        return ResultHelper.cursor(this.slice, CursorCodec.next(this.slice, EventResponse::getId), null);
+    }
+
+    @Benchmark
+    public byte[] cursorAndSerialize() {
+        return this.jsonMapper.writeValueAsBytes(
+                ResultHelper.cursor(this.slice, CursorCodec.next(this.slice, EventResponse::getId), null));
+    }
+}
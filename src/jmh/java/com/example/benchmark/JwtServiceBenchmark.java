@@ -0,0 +1,65 @@
+package com.example.benchmark;
+
+import com.example.entities.User;
+import com.example.jwt.JwtService;
+import com.example.jwt.VerifiedToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Her authenticated istekte çalışan JWT işlemleri: login/refresh'te token üretimi,
+ * JwtAuthenticationFilter'da geçerlilik kontrolü ve username okunması.
+ * isTokenValid/getUsernameByToken doğrulanmış token cache'inden döner; verifyUncached cache'i kapalı
+ * bir JwtService ile her seferinde parse + HMAC doğrulamasının maliyetini ölçer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private JwtService uncachedJwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        this.jwtService = new JwtService(10_000);
+        this.uncachedJwtService = new JwtService(0);
+        this.user = BenchmarkFixtures.user(1L);
+        this.token = this.jwtService.generateToken(this.user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return this.jwtService.generateToken(this.user);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return this.jwtService.isTokenValid(this.token);
+    }
+
+    @Benchmark
+    public String getUsernameByToken() {
+        return this.jwtService.getUsernameByToken(this.token);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyUncached() {
+        return this.uncachedJwtService.verify(this.token);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.benchmark;
+
+import com.example.dto.response.EventResponse;
+import com.example.dto.response.RegistrationResponse;
+import com.example.dto.response.TicketTypeResponse;
+import com.example.dto.response.UserResponse;
+import com.example.entities.Event;
+import com.example.entities.Registration;
+import com.example.entities.TicketType;
+import com.example.entities.User;
+import com.example.mapper.IModelMapperService;
+import com.example.mapper.ModelManagerService;
+import com.example.support.LegacyModelMappers;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ModelManagerService üzerinden yapılan entity → response dönüşümleri (satır başına maliyet).
+ * Elle yazılmış mapper'lar ile ModelMapper kullanan forResponse() yolu aynı raporda yer alır.
+ * Registration için eski iki yol da ölçülür: her çağrıda yeni ModelMapper kurmak (değişiklik öncesi davranış)
+ * ve bir kez kurulup paylaşılan ModelMapper.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private IModelMapperService modelMapperService;
+    private Event event;
+    private TicketType ticketType;
+    private Registration registration;
+    private User user;
+    private ModelMapper sharedLegacyRegistrationMapper;
+
+    @Setup
+    public void setUp() {
+        this.modelMapperService = new ModelManagerService(new ModelMapper());
+        this.event = BenchmarkFixtures.event(1L);
+        this.ticketType = BenchmarkFixtures.ticketType(1L, this.event);
+        this.registration = BenchmarkFixtures.registration(1L, this.ticketType);
+        this.user = BenchmarkFixtures.user(1L);
+        this.sharedLegacyRegistrationMapper = LegacyModelMappers.registration();
+    }
+
+    @Benchmark
+    public EventResponse eventResponse() {
+        return this.modelMapperService.forEventResponse().map(this.event);
+    }
+
+    @Benchmark
+    public TicketTypeResponse ticketTypeResponse() {
+        return this.modelMapperService.forTicketTypeResponse().map(this.ticketType);
+    }
+
+    @Benchmark
+    public RegistrationResponse registrationResponse() {
+        return this.modelMapperService.forRegistrationResponse().map(this.registration);
+    }
+
+    @Benchmark
+    public RegistrationResponse registrationResponseLegacyPerCall() {
+        return LegacyModelMappers.registration().map(this.registration, RegistrationResponse.class);
+    }
+
+    @Benchmark
+    public RegistrationResponse registrationResponseLegacyShared() {
+        return this.sharedLegacyRegistrationMapper.map(this.registration, RegistrationResponse.class);
+    }
+
+    @Benchmark
+    public UserResponse userResponse() {
+        return this.modelMapperService.forResponse().map(this.user, UserResponse.class);
+    }
+}
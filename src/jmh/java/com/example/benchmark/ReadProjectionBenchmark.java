@@ -0,0 +1,144 @@
+package com.example.benchmark;
+
+import com.example.EventHubRestApiApplication;
+import com.example.dao.CategoryRepo;
+import com.example.dao.EventRepo;
+import com.example.dao.RegistrationRepo;
+import com.example.dao.TicketTypeRepo;
+import com.example.dao.UserRepo;
+import com.example.dto.response.EventResponse;
+import com.example.dto.response.RegistrationResponse;
+import com.example.entities.Category;
+import com.example.entities.Event;
+import com.example.entities.Registration;
+import com.example.entities.TicketType;
+import com.example.entities.User;
+import com.example.mapper.IModelMapperService;
+import com.example.support.TestData;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Okuma endpoint'lerinin eski (managed entity + response mapper) ve yeni (DTO projeksiyonu) yolları, işlem başına.
+ *
+ * Her iki yol da aynı satırları tek sorguda okur (eski yol N+1 olmadan, JOIN FETCH ile); fark yalnızca
+ * entity hydration, persistence context snapshot'ları ve entity → DTO kopyalamadır.
+ * Uygulama context'i ve örnek veri trial başında bir kez kurulur, sonunda silinir. application.properties'teki
+ * veritabanını gerektirdiği için varsayılan çalıştırmada hariç tutulur (pom.xml'de jmh.exclude):
+ * ./mvnw -Pjmh -DskipTests verify -Djmh.include=ReadProjectionBenchmark -Djmh.exclude=NONE
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadProjectionBenchmark {
+
+    private static final int ROWS = 100;
+
+    private ConfigurableApplicationContext context;
+    private TestData data;
+    private EventRepo eventRepo;
+    private RegistrationRepo registrationRepo;
+    private IModelMapperService modelMapperService;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnly;
+    private long firstEventId;
+    private long ticketTypeId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = new SpringApplicationBuilder(EventHubRestApiApplication.class)
+                .properties("server.port=0")
+                .run();
+        this.eventRepo = this.context.getBean(EventRepo.class);
+        this.registrationRepo = this.context.getBean(RegistrationRepo.class);
+        this.modelMapperService = this.context.getBean(IModelMapperService.class);
+        this.entityManager = SharedEntityManagerCreator.createSharedEntityManager(this.context.getBean(EntityManagerFactory.class));
+        this.readOnly = new TransactionTemplate(this.context.getBean(PlatformTransactionManager.class));
+        this.readOnly.setReadOnly(true);
+
+        this.data = new TestData(this.context.getBean(CategoryRepo.class), this.context.getBean(UserRepo.class), this.eventRepo,
+                this.context.getBean(TicketTypeRepo.class), this.registrationRepo);
+        String suffix = UUID.randomUUID().toString();
+        Category category = this.data.saveCategory("bench-" + suffix);
+
+        User organizer = this.data.saveUser("bench-org-" + suffix);
+        Event first = null;
+        for (int i = 0; i < ROWS; i++) {
+            Event event = this.data.saveEvent("Benchmark Event " + i, category, organizer);
+            if (first == null) {
+                first = event;
+            }
+        }
+        this.firstEventId = first.getId();
+
+        TicketType ticketType = this.data.saveTicketType(first, ROWS);
+        this.ticketTypeId = ticketType.getId();
+        for (int i = 0; i < ROWS; i++) {
+            this.data.saveRegistration(this.data.saveUser("bench-att-" + i + "-" + suffix), ticketType);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.data.deleteAll();
+        this.context.close();
+    }
+
+    @Benchmark
+    public List<EventResponse> eventPageEntity() {
+        return this.readOnly.execute(status ->
+                this.entityManager.createQuery("SELECT e FROM Event e JOIN FETCH e.category JOIN FETCH e.user " +
+                                "WHERE e.id >= :firstId ORDER BY e.id", Event.class)
+                        .setParameter("firstId", this.firstEventId)
+                        .setMaxResults(ROWS)
+                        .getResultList().stream()
+                        .map(event -> this.modelMapperService.forEventResponse().map(event))
+                        .toList());
+    }
+
+    @Benchmark
+    public List<EventResponse> eventPageProjection() {
+        return this.readOnly.execute(status -> this.eventRepo.findResponsesAfter(this.firstEventId - 1, Limit.of(ROWS)));
+    }
+
+    @Benchmark
+    public List<RegistrationResponse> registrationsByTicketTypeEntity() {
+        return this.readOnly.execute(status ->
+                this.entityManager.createQuery("SELECT r FROM Registration r JOIN FETCH r.user JOIN FETCH r.ticketType t " +
+                                "JOIN FETCH t.event WHERE t.id = :ticketTypeId ORDER BY r.id", Registration.class)
+                        .setParameter("ticketTypeId", this.ticketTypeId)
+                        .getResultList().stream()
+                        .map(registration -> this.modelMapperService.forRegistrationResponse().map(registration))
+                        .toList());
+    }
+
+    @Benchmark
+    public List<RegistrationResponse> registrationsByTicketTypeProjection() {
+        return this.readOnly.execute(status -> this.registrationRepo.findResponsesByTicketTypeId(this.ticketTypeId, 0L, Limit.of(ROWS)));
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.api;
+
+import com.example.business.abstracts.IAttendeeExportService;
+import com.example.business.export.AttendeeExportJob;
+import com.example.dto.request.export.AttendeeExportRequest;
+import com.example.dto.response.AttendeeExportResponse;
+import com.example.enums.ExportStatus;
+import com.example.enums.Role;
+import com.example.jwt.JwtPrincipal;
+import com.example.result.ResultData;
+import com.example.result.ResultHelper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Endpoint'ler:
+ * - POST    /v1/attendee-exports                  → Etkinliğin katılımcı listesi için CSV export işi başlatma (202)
+ * - GET     /v1/attendee-exports/{jobId}          → Export işinin durumu
+ * - GET     /v1/attendee-exports/{jobId}/download → Tamamlanan gzip'li CSV dosyasını indirme
+ *
+ * Dosya arka planda üretilir; client durumu DONE olana kadar sorgular, ardından downloadUrl'den indirir.
+ * Export'u etkinliğin organizatörü veya admin başlatabilir; iş durumu ve dosyası sadece başlatan kullanıcıya (ve adminlere) açıktır.
+ */
+@RestController
+@RequestMapping("/v1/attendee-exports")
+public class AttendeeExportController {
+    private static final String GZIP_CONTENT_TYPE = "application/gzip";
+
+    // Tomcat'in sendfile (zero-copy) desteği: bu attribute'lar set edilirse dosya çekirdek içinde doğrudan socket'e kopyalanır
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final IAttendeeExportService attendeeExportService;
+
+    public AttendeeExportController(IAttendeeExportService attendeeExportService) {
+        this.attendeeExportService = attendeeExportService;
+    }
+
+    @PostMapping()
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ResultData<AttendeeExportResponse> submit(@Valid @RequestBody AttendeeExportRequest request,
+                                                     @AuthenticationPrincipal JwtPrincipal principal) {
+        AttendeeExportJob job = this.attendeeExportService.submit(request.getEventId(), principal.getUserId(), isAdmin(principal));
+        return ResultHelper.accepted(toResponse(job));
+    }
+
+    @GetMapping("/{jobId}")
+    @ResponseStatus(HttpStatus.OK)
+    public ResultData<AttendeeExportResponse> get(@PathVariable("jobId") String jobId,
+                                                  @AuthenticationPrincipal JwtPrincipal principal) {
+        return ResultHelper.success(toResponse(this.attendeeExportService.get(jobId, principal.getUserId(), isAdmin(principal))));
+    }
+
+    @GetMapping("/{jobId}/download")
+    public void download(@PathVariable("jobId") String jobId,
+                         @AuthenticationPrincipal JwtPrincipal principal,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        AttendeeExportJob job = this.attendeeExportService.download(jobId, principal.getUserId(), isAdmin(principal));
+        Path file = job.getFile();
+        long size = job.getFileSize();
+
+        response.setContentType(GZIP_CONTENT_TYPE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("attendees-" + job.getEventId() + ".csv.gz")
+                .build()
+                .toString());
+        response.setContentLengthLong(size);
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, size);
+            return;
+        }
+
+        // sendfile yoksa (ör. başka bir servlet container) dosya FileChannel.transferTo ile heap'e alınmadan kopyalanır
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, out);
+            }
+        }
+    }
+
+    private static boolean isAdmin(JwtPrincipal principal) {
+        return Role.ADMIN.name().equals(principal.getRole());
+    }
+
+    private static AttendeeExportResponse toResponse(AttendeeExportJob job) {
+        String downloadUrl = job.getStatus() == ExportStatus.DONE ? "/v1/attendee-exports/" + job.getId() + "/download" : null;
+        return new AttendeeExportResponse(job.getId(), job.getEventId(), job.getStatus(), job.getRowCount(), job.getFileSize(),
+                job.getCreatedAt(), job.getFinishedAt(), job.getError(), downloadUrl);
+    }
+}
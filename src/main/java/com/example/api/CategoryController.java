@@ -1,17 +1,21 @@
 package com.example.api;
 
 import com.example.business.abstracts.ICategoryService;
+import com.example.business.abstracts.IRowCountService;
+import com.example.business.paging.PageTotal;
 import com.example.dto.request.category.CategorySaveRequest;
 import com.example.dto.request.category.CategoryUpdateRequest;
 import com.example.dto.response.CategoryResponse;
 import com.example.dto.response.CursorResponse;
 import com.example.entities.Category;
+import com.example.enums.TotalMode;
 import com.example.mapper.IModelMapperService;
+import com.example.result.CursorCodec;
 import com.example.result.Result;
 import com.example.result.ResultData;
 import com.example.result.ResultHelper;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
@@ -20,7 +24,7 @@ import org.springframework.web.bind.annotation.*;
  * - POST    /v1/categories        → Kategori oluşturma
  * - GET     /v1/categories/{id}   → ID ile kategori getirme
  * - PUT     /v1/categories        → Kategori güncelleme
- * - GET     /v1/categories        → Sayfalı kategori listeleme
+ * - GET     /v1/categories        → Cursor (keyset) sayfalı kategori listeleme
  * - DELETE  /v1/categories/{id}   → Kategori silme
  */
 @RestController
@@ -29,10 +33,12 @@ public class CategoryController {
 
     private final ICategoryService categoryService;
     private final IModelMapperService modelMapperService;
+    private final IRowCountService rowCountService;
 
-    public CategoryController(ICategoryService categoryService, IModelMapperService modelMapperService) {
+    public CategoryController(ICategoryService categoryService, IModelMapperService modelMapperService, IRowCountService rowCountService) {
         this.categoryService = categoryService;
         this.modelMapperService = modelMapperService;
+        this.rowCountService = rowCountService;
     }
 
     @PostMapping()
@@ -64,15 +70,18 @@ public class CategoryController {
     @GetMapping()
     @ResponseStatus(HttpStatus.OK)
     public ResultData<CursorResponse<CategoryResponse>> cursor(
-            @RequestParam(name = "page",required = false,defaultValue = "0") int page,
-            @RequestParam(name = "pageSize",required = false,defaultValue = "5") int pageSize
-    ){
-        Page<Category> categoryPage = this.categoryService.cursor(page,pageSize);
-        Page<CategoryResponse> categoryResponsePage = categoryPage.map(category ->
-                this.modelMapperService.forResponse().map(category,CategoryResponse.class)
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "pageSize", required = false, defaultValue = "5") int pageSize,
+            @RequestParam(name = "total", required = false, defaultValue = "NONE") TotalMode totalMode
+    ) {
+        Slice<Category> categorySlice = this.categoryService.cursor(CursorCodec.decode(cursor), pageSize);
+        Slice<CategoryResponse> categoryResponseSlice = categorySlice.map(category ->
+                this.modelMapperService.forResponse().map(category, CategoryResponse.class)
         );
 
-        return ResultHelper.cursor(categoryResponsePage);
+        // NONE: count yok, EXACT: count(*), ESTIMATED: planner istatistiklerinden yaklaşık değer
+        PageTotal total = this.rowCountService.total("categories", totalMode, this.categoryService::count);
+        return ResultHelper.cursor(categoryResponseSlice, CursorCodec.next(categorySlice, Category::getId), total);
     }
 
     @DeleteMapping("/{id}")
@@ -1,27 +1,46 @@
 package com.example.api;
 
+import com.example.business.abstracts.IEventFacetService;
 import com.example.business.abstracts.IEventService;
+import com.example.business.abstracts.IEventTimelineService;
 import com.example.business.abstracts.IImageStorageService;
+import com.example.business.abstracts.IRowCountService;
+import com.example.business.facet.EventFacets;
+import com.example.business.geo.NearbyEvent;
+import com.example.business.paging.KeysetPaging;
+import com.example.business.paging.PageTotal;
+import com.example.business.search.RankedEvent;
+import com.example.business.timeline.TimelineEvent;
 import com.example.dao.CategoryRepo;
 import com.example.dao.UserRepo;
 import com.example.dto.request.event.EventSaveRequest;
 import com.example.dto.request.event.EventUpdateRequest;
 import com.example.dto.response.CursorResponse;
+import com.example.dto.response.EventFacetResponse;
 import com.example.dto.response.EventResponse;
+import com.example.dto.response.FacetCountResponse;
+import com.example.dto.response.NearbyEventResponse;
 import com.example.entities.Category;
 import com.example.entities.Event;
 import com.example.entities.User;
+import com.example.enums.NearbySort;
+import com.example.enums.TotalMode;
 import com.example.mapper.IModelMapperService;
+import com.example.result.CursorCodec;
+import com.example.result.NdjsonWriter;
 import com.example.result.Result;
 import com.example.result.ResultData;
 import com.example.result.ResultHelper;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -30,10 +49,15 @@ import java.util.List;
  * - POST    /v1/events/with-poster → Etkinlik oluşturma (Multipart - Poster ile)
  * - GET     /v1/events/{id}         → ID ile etkinlik getirme
  * - PUT     /v1/events              → Etkinlik güncelleme
- * - GET     /v1/events              → Sayfalı etkinlik listeleme
- * - GET     /v1/events/category/{categoryId} → Kategoriye göre etkinlikler
- * - GET     /v1/events/organizer/{organizerId} → Organizer'a göre etkinlikler
+ * - GET     /v1/events              → Cursor (keyset) sayfalı etkinlik listeleme
+ * - GET     /v1/events/category/{categoryId} → Kategoriye göre etkinlikler (cursor sayfalı)
+ * - GET     /v1/events/user/{userId} → Organizer'a göre etkinlikler (cursor sayfalı)
  * - DELETE  /v1/events/{id}        → Etkinlik silme
+ * - GET     /v1/events/search?q=    → Tam metin arama (ilgililik sırasıyla, cursor sayfalı)
+ * - GET     /v1/events/nearby?lat=&lon=&radiusKm= → Yarıçap içindeki etkinlikler (mesafe veya tarih sırasıyla)
+ * - GET     /v1/events/upcoming?from=&to=&categoryId= → Tarih aralığındaki yaklaşan etkinlikler (bellekteki index'ten)
+ * - GET     /v1/events/facets?categoryId=&priceBand=&month= → Facet sayıları ve filtrelenmiş etkinlikler (bitmap index'ten)
+ * - GET     /v1/events/export       → Tüm etkinlikleri NDJSON olarak stream etme
  */
 @RestController
 @RequestMapping("/v1/events")
@@ -43,13 +67,21 @@ public class EventController {
     private final CategoryRepo categoryRepo;
     private final UserRepo userRepo;
     private final IImageStorageService imageStorageService;
+    private final IRowCountService rowCountService;
+    private final IEventTimelineService eventTimelineService;
+    private final IEventFacetService eventFacetService;
+    private final NdjsonWriter ndjsonWriter;
 
-    public EventController(IEventService eventService, IModelMapperService modelMapperService, CategoryRepo categoryRepo, UserRepo userRepo, IImageStorageService imageStorageService) {
+    public EventController(IEventService eventService, IModelMapperService modelMapperService, CategoryRepo categoryRepo, UserRepo userRepo, IImageStorageService imageStorageService, IRowCountService rowCountService, IEventTimelineService eventTimelineService, IEventFacetService eventFacetService, NdjsonWriter ndjsonWriter) {
         this.eventService = eventService;
         this.modelMapperService = modelMapperService;
         this.categoryRepo = categoryRepo;
         this.userRepo = userRepo;
         this.imageStorageService = imageStorageService;
+        this.rowCountService = rowCountService;
+        this.eventTimelineService = eventTimelineService;
+        this.eventFacetService = eventFacetService;
+        this.ndjsonWriter = ndjsonWriter;
     }
 
     @PostMapping()
@@ -69,7 +101,7 @@ public class EventController {
         eventToSave.setUser(user);
 
         Event savedEvent = this.eventService.save(eventToSave);
-        EventResponse response = this.modelMapperService.forEventResponse().map(savedEvent,EventResponse.class);
+        EventResponse response = this.modelMapperService.forEventResponse().map(savedEvent);
 
         return ResultHelper.created(response);
     }
@@ -77,23 +109,23 @@ public class EventController {
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     public ResultData<EventResponse> get(@PathVariable("id") Long id){
-        Event event = this.eventService.get(id);
-        EventResponse response = this.modelMapperService.forEventResponse().map(event,EventResponse.class);
+        // Entity yüklenmez, response kolonları doğrudan DTO'ya okunur
+        EventResponse response = this.eventService.getResponse(id);
         return ResultHelper.success(response);
     }
 
     @GetMapping()
     @ResponseStatus(HttpStatus.OK)
     public ResultData<CursorResponse<EventResponse>> cursor(
-            @RequestParam(name = "page", required = false, defaultValue = "0") int page,
-            @RequestParam(name = "pageSize", required = false, defaultValue = "5") int pageSize
-    ){
-        Page<Event> eventPage = this.eventService.cursor(page,pageSize);
-        Page<EventResponse> eventResponsePage = eventPage.map(event ->
-                this.modelMapperService.forEventResponse().map(event,EventResponse.class)
-        );
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "pageSize", required = false, defaultValue = "5") int pageSize,
+            @RequestParam(name = "total", required = false, defaultValue = "NONE") TotalMode totalMode
+    ) {
+        Slice<EventResponse> eventResponseSlice = this.eventService.cursor(CursorCodec.decode(cursor), pageSize);
 
-        return ResultHelper.cursor(eventResponsePage);
+        // NONE: count yok, EXACT: count(*), ESTIMATED: planner istatistiklerinden yaklaşık değer
+        PageTotal total = this.rowCountService.total("events", totalMode, this.eventService::count);
+        return ResultHelper.cursor(eventResponseSlice, CursorCodec.next(eventResponseSlice, EventResponse::getId), total);
     }
 
     @PutMapping()
@@ -111,7 +143,7 @@ public class EventController {
         eventToUpdate.setUser(user);
 
         Event updatedEvent = this.eventService.update(eventToUpdate);
-        EventResponse response = this.modelMapperService.forEventResponse().map(updatedEvent,EventResponse.class);
+        EventResponse response = this.modelMapperService.forEventResponse().map(updatedEvent);
 
         return ResultHelper.success(response);
     }
@@ -123,30 +155,125 @@ public class EventController {
         return ResultHelper.ok();
     }
 
-    @GetMapping("/category/{categoryId}")
+    @GetMapping("/search")
     @ResponseStatus(HttpStatus.OK)
-    public ResultData<List<EventResponse>> getByCategory(@PathVariable("categoryId") Long categoryId) {
-        List<Event> events = this.eventService.getByCategory(categoryId);
+    public ResultData<CursorResponse<EventResponse>> search(
+            @RequestParam(name = "q") String query,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "pageSize", required = false, defaultValue = "5") int pageSize
+    ) {
+        CursorCodec.RankedKey after = CursorCodec.decodeRanked(cursor);
+        Slice<RankedEvent> resultSlice = this.eventService.search(query,
+                after != null ? after.getRank() : null,
+                after != null ? after.getId() : null,
+                pageSize);
+        Slice<EventResponse> eventResponseSlice = resultSlice.map(result ->
+                this.modelMapperService.forEventResponse().map(result.getEvent())
+        );
 
-        List<EventResponse> eventResponses = events.stream()
-                .map(event -> this.modelMapperService.forEventResponse().map(event,EventResponse.class))
-                .collect(java.util.stream.Collectors.toList());
+        return ResultHelper.cursor(eventResponseSlice,
+                CursorCodec.nextRanked(resultSlice, RankedEvent::getRank, result -> result.getEvent().getId()), null);
+    }
 
-        return ResultHelper.success(eventResponses);
+    @GetMapping("/nearby")
+    @ResponseStatus(HttpStatus.OK)
+    public ResultData<List<NearbyEventResponse>> nearby(
+            @RequestParam(name = "lat") double latitude,
+            @RequestParam(name = "lon") double longitude,
+            @RequestParam(name = "radiusKm", required = false, defaultValue = "10") double radiusKm,
+            @RequestParam(name = "sort", required = false, defaultValue = "DISTANCE") NearbySort sort,
+            @RequestParam(name = "limit", required = false, defaultValue = "20") int limit
+    ) {
+        List<NearbyEvent> nearbyEvents = this.eventService.nearby(latitude, longitude, radiusKm, sort, limit);
+
+        List<NearbyEventResponse> responses = nearbyEvents.stream()
+                .map(nearby -> new NearbyEventResponse(
+                        this.modelMapperService.forEventResponse().map(nearby.getEvent()),
+                        nearby.getDistanceKm()))
+                .toList();
+
+        return ResultHelper.success(responses);
     }
 
-    @GetMapping("/user/{userId}")
+    // Satırlar DB cursor'ından okundukça yazılır; gövde request thread'i yerine MVC async executor'da çalışır
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(this.ndjsonWriter.body(this.eventService::export));
+    }
+
+    @GetMapping("/upcoming")
     @ResponseStatus(HttpStatus.OK)
-    public ResultData<List<EventResponse>> getByUser(@PathVariable("userId") Long userId) {
-        List<Event> events = this.eventService.getByUser(userId);
+    public ResultData<List<EventResponse>> upcoming(
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(name = "categoryId", required = false) Long categoryId,
+            @RequestParam(name = "limit", required = false, defaultValue = "20") int limit
+    ) {
+        // Veritabanına gidilmez; sonuçlar bellekteki tarih sıralı index'ten okunur
+        List<TimelineEvent> events = this.eventTimelineService.upcoming(from, to, categoryId, KeysetPaging.pageSize(limit));
 
         List<EventResponse> eventResponses = events.stream()
-                .map(event -> this.modelMapperService.forEventResponse().map(event,EventResponse.class))
-                .collect(java.util.stream.Collectors.toList());
+                .map(event -> new EventResponse(event.getId(), event.getTitle(), event.getDescription(),
+                        event.getPosterUrl(), event.getLocation(), event.getDate(), event.getLatitude(),
+                        event.getLongitude(), event.getCategoryId(), event.getCategoryName(),
+                        event.getUserId(), event.getOrganizerName()))
+                .toList();
 
         return ResultHelper.success(eventResponses);
     }
 
+    @GetMapping("/facets")
+    @ResponseStatus(HttpStatus.OK)
+    public ResultData<EventFacetResponse> facets(
+            @RequestParam(name = "categoryId", required = false) Long categoryId,
+            @RequestParam(name = "priceBand", required = false) String priceBand,
+            @RequestParam(name = "month", required = false) String month,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "pageSize", required = false, defaultValue = "5") int pageSize
+    ) {
+        EventFacets facets = this.eventFacetService.browse(categoryId, priceBand, month, CursorCodec.decode(cursor), pageSize);
+        Slice<EventResponse> eventResponseSlice = facets.getEvents().map(event ->
+                this.modelMapperService.forEventResponse().map(event)
+        );
+
+        EventFacetResponse response = new EventFacetResponse(
+                facets.getCategoryCounts().entrySet().stream()
+                        .map(entry -> new FacetCountResponse(String.valueOf(entry.getKey()), entry.getValue())).toList(),
+                facets.getPriceBandCounts().entrySet().stream()
+                        .map(entry -> new FacetCountResponse(entry.getKey(), entry.getValue())).toList(),
+                facets.getMonthCounts().entrySet().stream()
+                        .map(entry -> new FacetCountResponse(entry.getKey(), entry.getValue())).toList(),
+                new CursorResponse<>(eventResponseSlice.getSize(), eventResponseSlice.hasNext(),
+                        CursorCodec.next(facets.getEvents(), Event::getId), facets.getTotal(), true,
+                        eventResponseSlice.getContent()));
+
+        return ResultHelper.success(response);
+    }
+
+    @GetMapping("/category/{categoryId}")
+    @ResponseStatus(HttpStatus.OK)
+    public ResultData<CursorResponse<EventResponse>> getByCategory(
+            @PathVariable("categoryId") Long categoryId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "pageSize", required = false, defaultValue = "5") int pageSize
+    ) {
+        Slice<EventResponse> eventResponseSlice = this.eventService.getByCategory(categoryId, CursorCodec.decode(cursor), pageSize);
+        return ResultHelper.cursor(eventResponseSlice, CursorCodec.next(eventResponseSlice, EventResponse::getId), null);
+    }
+
+    @GetMapping("/user/{userId}")
+    @ResponseStatus(HttpStatus.OK)
+    public ResultData<CursorResponse<EventResponse>> getByUser(
+            @PathVariable("userId") Long userId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "pageSize", required = false, defaultValue = "5") int pageSize
+    ) {
+        Slice<EventResponse> eventResponseSlice = this.eventService.getByUser(userId, CursorCodec.decode(cursor), pageSize);
+        return ResultHelper.cursor(eventResponseSlice, CursorCodec.next(eventResponseSlice, EventResponse::getId), null);
+    }
+
 
     @PostMapping(value = "/with-poster", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<EventResponse> posterSave(
@@ -160,6 +287,8 @@ public class EventController {
         event.setDescription(request.getDescription());
         event.setLocation(request.getLocation());
         event.setDate(request.getDate());
+        event.setLatitude(request.getLatitude());
+        event.setLongitude(request.getLongitude());
         event.setPosterUrl(posterUrl);
 
         // Category doğrulaması
@@ -176,7 +305,7 @@ public class EventController {
         // Event kaydedilir
         Event saved = eventService.save(event);
         // Entity → Response DTO dönüşümü
-        EventResponse response = this.modelMapperService.forEventResponse().map(saved, EventResponse.class);
+        EventResponse response = this.modelMapperService.forEventResponse().map(saved);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
@@ -1,25 +1,48 @@
 package com.example.api;
 
+import com.example.business.abstracts.IRegistrationBatchService;
 import com.example.business.abstracts.IRegistrationService;
+import com.example.business.abstracts.IWaitingRoomService;
+import com.example.business.abstracts.IRowCountService;
+import com.example.business.paging.PageTotal;
 import com.example.dao.TicketTypeRepo;
 import com.example.dao.UserRepo;
+import com.example.business.registration.BulkRegistrationOutcome;
+import com.example.business.waitingroom.QueueAdmission;
+import com.example.dto.request.registration.RegistrationBulkItemRequest;
+import com.example.dto.request.registration.RegistrationBulkRequest;
+import com.example.dto.request.registration.RegistrationConfirmRequest;
+import com.example.dto.request.registration.RegistrationHoldRequest;
 import com.example.dto.request.registration.RegistrationSaveRequest;
 import com.example.dto.request.registration.RegistrationUpdateRequest;
 import com.example.dto.response.CursorResponse;
+import com.example.dto.response.RegistrationBulkItemResponse;
+import com.example.dto.response.RegistrationBulkResponse;
 import com.example.dto.response.RegistrationResponse;
 import com.example.entities.Registration;
 import com.example.entities.TicketType;
 import com.example.entities.User;
 import com.example.enums.RegistrationStatus;
+import com.example.enums.TotalMode;
+import com.example.exception.UnauthorizedException;
+import com.example.jwt.JwtPrincipal;
 import com.example.mapper.IModelMapperService;
+import com.example.result.CursorCodec;
+import com.example.result.NdjsonWriter;
 import com.example.result.Result;
 import com.example.result.ResultData;
 import com.example.result.ResultHelper;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -27,10 +50,15 @@ import java.util.stream.Collectors;
  * - POST    /v1/registrations        → Kayıt oluşturma
  * - GET     /v1/registrations/{id}   → ID ile kayıt getirme
  * - PUT     /v1/registrations        → Kayıt güncelleme
- * - GET     /v1/registrations        → Sayfalı kayıt listeleme
- * - GET     /v1/registrations/user/{userId} → Kullanıcıya göre kayıtlar
- * - GET     /v1/registrations/ticket-type/{ticketTypeId} → Bilet türüne göre kayıtlar
+ * - GET     /v1/registrations        → Cursor (keyset) sayfalı kayıt listeleme
+ * - GET     /v1/registrations/user/{userId} → Kullanıcıya göre kayıtlar (cursor sayfalı)
+ * - GET     /v1/registrations/ticket-type/{ticketTypeId} → Bilet türüne göre kayıtlar (cursor sayfalı)
+ * - GET     /v1/registrations/status/{status} → Duruma göre kayıtlar (cursor sayfalı)
  * - DELETE  /v1/registrations/{id}   → Kayıt silme
+ * - POST    /v1/registrations/hold    → Koltukları süreli olarak tutma (HELD)
+ * - POST    /v1/registrations/confirm → Tutulan koltukları onaylama (HELD → ACTIVE)
+ * - POST    /v1/registrations/bulk    → Grup kaydı (kalem bazında sonuç döner)
+ * - GET     /v1/registrations/export  → Tüm kayıtları NDJSON olarak stream etme
  */
 @RestController
 @RequestMapping("/v1/registrations")
@@ -40,20 +68,46 @@ public class RegistrationController {
     private final IModelMapperService modelMapperService;
     private final UserRepo userRepo;
     private final TicketTypeRepo ticketTypeRepo;
+    private final IRegistrationBatchService registrationBatchService;
+    private final IWaitingRoomService waitingRoomService;
+    private final IRowCountService rowCountService;
+    private final NdjsonWriter ndjsonWriter;
 
     public RegistrationController(IRegistrationService registrationService,
                                   IModelMapperService modelMapperService,
                                   UserRepo userRepo,
-                                  TicketTypeRepo ticketTypeRepo) {
+                                  TicketTypeRepo ticketTypeRepo,
+                                  IRegistrationBatchService registrationBatchService,
+                                  IWaitingRoomService waitingRoomService,
+                                  IRowCountService rowCountService,
+                                  NdjsonWriter ndjsonWriter) {
         this.registrationService = registrationService;
         this.modelMapperService = modelMapperService;
         this.userRepo = userRepo;
         this.ticketTypeRepo = ticketTypeRepo;
+        this.registrationBatchService = registrationBatchService;
+        this.waitingRoomService = waitingRoomService;
+        this.rowCountService = rowCountService;
+        this.ndjsonWriter = ndjsonWriter;
     }
 
     @PostMapping()
     @ResponseStatus(HttpStatus.CREATED)
-    public ResultData<RegistrationResponse> save(@Valid @RequestBody RegistrationSaveRequest request) {
+    public ResultData<RegistrationResponse> save(@Valid @RequestBody RegistrationSaveRequest request,
+                                                 @RequestHeader(name = "X-Queue-Token", required = false) String queueToken,
+                                                 @AuthenticationPrincipal JwtPrincipal principal) {
+        // Bekleme odası olan etkinliklerde sadece sırası gelmiş ve bu kullanıcıya ait token'lar kayıt yapabilir (tek kullanımlık)
+        QueueAdmission admission = this.waitingRoomService.checkAdmission(request.getTicketTypeId(), queueToken, userId(principal));
+        return ResultHelper.created(this.withAdmission(admission, () -> this.create(request)));
+    }
+
+    private RegistrationResponse create(RegistrationSaveRequest request) {
+        // Toplu yazma açıksa doğrulama ve insert batch içinde yapılır (istek başına DB turu yok)
+        if (this.registrationBatchService.isEnabled() && request.getStatus() != RegistrationStatus.HELD) {
+            Registration savedRegistration = this.registrationBatchService.save(request.getUserId(), request.getTicketTypeId(), request.getStatus());
+            return this.modelMapperService.forRegistrationResponse().map(savedRegistration);
+        }
+
         Registration registrationToSave = this.modelMapperService.forRequest().map(request, Registration.class);
 
         registrationToSave.setId(null); // Yeni kayıt için id null olmalı
@@ -68,17 +122,15 @@ public class RegistrationController {
         registrationToSave.setTicketType(ticketType);
 
         Registration savedRegistration = this.registrationService.save(registrationToSave);
-        RegistrationResponse response = this.modelMapperService.forRegistrationResponse().map(savedRegistration, RegistrationResponse.class);
-
-        return ResultHelper.created(response);
+        return this.modelMapperService.forRegistrationResponse().map(savedRegistration);
     }
 
 
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     public ResultData<RegistrationResponse> get(@PathVariable("id") Long id) {
-        Registration registration = this.registrationService.get(id);
-        RegistrationResponse response = this.modelMapperService.forRegistrationResponse().map(registration, RegistrationResponse.class);
+        // Entity yüklenmez, response kolonları doğrudan DTO'ya okunur
+        RegistrationResponse response = this.registrationService.getResponse(id);
         return ResultHelper.success(response);
     }
 
@@ -97,7 +149,7 @@ public class RegistrationController {
         registrationToUpdate.setTicketType(ticketType);
 
         Registration updatedRegistration = this.registrationService.update(registrationToUpdate);
-        RegistrationResponse response = this.modelMapperService.forRegistrationResponse().map(updatedRegistration, RegistrationResponse.class);
+        RegistrationResponse response = this.modelMapperService.forRegistrationResponse().map(updatedRegistration);
 
         return ResultHelper.success(response);
     }
@@ -105,39 +157,45 @@ public class RegistrationController {
     @GetMapping()
     @ResponseStatus(HttpStatus.OK)
     public ResultData<CursorResponse<RegistrationResponse>> cursor(
-            @RequestParam(name = "page", required = false, defaultValue = "0") int page,
-            @RequestParam(name = "pageSize", required = false, defaultValue = "5") int pageSize
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "pageSize", required = false, defaultValue = "5") int pageSize,
+            @RequestParam(name = "total", required = false, defaultValue = "NONE") TotalMode totalMode
     ) {
-        Page<Registration> registrationPage = this.registrationService.cursor(page, pageSize);
-        Page<RegistrationResponse> registrationResponsePage = registrationPage.map(registration ->
-                this.modelMapperService.forRegistrationResponse().map(registration, RegistrationResponse.class)
-        );
+        Slice<RegistrationResponse> registrationResponseSlice = this.registrationService.cursor(CursorCodec.decode(cursor), pageSize);
 
-        return ResultHelper.cursor(registrationResponsePage);
+        // NONE: count yok, EXACT: count(*), ESTIMATED: planner istatistiklerinden yaklaşık değer
+        PageTotal total = this.rowCountService.total("registrations", totalMode, this.registrationService::count);
+        return ResultHelper.cursor(registrationResponseSlice, CursorCodec.next(registrationResponseSlice, RegistrationResponse::getId), total);
+    }
+
+    // Satırlar DB cursor'ından okundukça yazılır; gövde request thread'i yerine MVC async executor'da çalışır
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(this.ndjsonWriter.body(this.registrationService::export));
     }
 
     @GetMapping("/user/{userId}")
     @ResponseStatus(HttpStatus.OK)
-    public ResultData<List<RegistrationResponse>> getByUser(@PathVariable("userId") Long userId) {
-        List<Registration> registrations = this.registrationService.getByUser(userId);
-
-        List<RegistrationResponse> registrationResponses = registrations.stream()
-                .map(registration -> this.modelMapperService.forRegistrationResponse().map(registration, RegistrationResponse.class))
-                .collect(Collectors.toList());
-
-        return ResultHelper.success(registrationResponses);
+    public ResultData<CursorResponse<RegistrationResponse>> getByUser(
+            @PathVariable("userId") Long userId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "pageSize", required = false, defaultValue = "5") int pageSize
+    ) {
+        Slice<RegistrationResponse> registrationResponseSlice = this.registrationService.getByUser(userId, CursorCodec.decode(cursor), pageSize);
+        return ResultHelper.cursor(registrationResponseSlice, CursorCodec.next(registrationResponseSlice, RegistrationResponse::getId), null);
     }
 
     @GetMapping("/ticket-type/{ticketTypeId}")
     @ResponseStatus(HttpStatus.OK)
-    public ResultData<List<RegistrationResponse>> getByTicketType(@PathVariable("ticketTypeId") Long ticketTypeId) {
-        List<Registration> registrations = this.registrationService.getByTicketType(ticketTypeId);
-
-        List<RegistrationResponse> registrationResponses = registrations.stream()
-                .map(registration -> this.modelMapperService.forRegistrationResponse().map(registration, RegistrationResponse.class))
-                .collect(Collectors.toList());
-
-        return ResultHelper.success(registrationResponses);
+    public ResultData<CursorResponse<RegistrationResponse>> getByTicketType(
+            @PathVariable("ticketTypeId") Long ticketTypeId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "pageSize", required = false, defaultValue = "5") int pageSize
+    ) {
+        Slice<RegistrationResponse> registrationResponseSlice = this.registrationService.getByTicketType(ticketTypeId, CursorCodec.decode(cursor), pageSize);
+        return ResultHelper.cursor(registrationResponseSlice, CursorCodec.next(registrationResponseSlice, RegistrationResponse::getId), null);
     }
 
     @DeleteMapping("/{id}")
@@ -149,13 +207,94 @@ public class RegistrationController {
 
     @GetMapping("/status/{status}")
     @ResponseStatus(HttpStatus.OK)
-    public ResultData<List<RegistrationResponse>> getByStatus(@PathVariable("status") RegistrationStatus status) {
-        List<Registration> registrations = this.registrationService.getByStatus(status);
+    public ResultData<CursorResponse<RegistrationResponse>> getByStatus(
+            @PathVariable("status") RegistrationStatus status,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "pageSize", required = false, defaultValue = "5") int pageSize
+    ) {
+        Slice<RegistrationResponse> registrationResponseSlice = this.registrationService.getByStatus(status, CursorCodec.decode(cursor), pageSize);
+        return ResultHelper.cursor(registrationResponseSlice, CursorCodec.next(registrationResponseSlice, RegistrationResponse::getId), null);
+    }
+
+    @PostMapping("/hold")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ResultData<List<RegistrationResponse>> hold(@Valid @RequestBody RegistrationHoldRequest request,
+                                                       @RequestHeader(name = "X-Queue-Token", required = false) String queueToken,
+                                                       @AuthenticationPrincipal JwtPrincipal principal) {
+        QueueAdmission admission = this.waitingRoomService.checkAdmission(request.getTicketTypeId(), queueToken, userId(principal));
+
+        List<Registration> holds = this.withAdmission(admission,
+                () -> this.registrationService.hold(request.getUserId(), request.getTicketTypeId(), request.getQuantity()));
+
+        List<RegistrationResponse> registrationResponses = holds.stream()
+                .map(registration -> this.modelMapperService.forRegistrationResponse().map(registration))
+                .collect(Collectors.toList());
+
+        return ResultHelper.created(registrationResponses);
+    }
+
+    @PostMapping("/confirm")
+    @ResponseStatus(HttpStatus.OK)
+    public ResultData<List<RegistrationResponse>> confirm(@Valid @RequestBody RegistrationConfirmRequest request,
+                                                          @AuthenticationPrincipal JwtPrincipal principal) {
+        if (principal == null) {
+            throw new UnauthorizedException("Koltuk onaylamak için giriş yapmalısınız");
+        }
+        List<Registration> registrations = this.registrationService.confirm(request.getRegistrationIds(), principal.getUserId());
 
         List<RegistrationResponse> registrationResponses = registrations.stream()
-                .map(registration -> this.modelMapperService.forRegistrationResponse().map(registration, RegistrationResponse.class))
+                .map(registration -> this.modelMapperService.forRegistrationResponse().map(registration))
                 .collect(Collectors.toList());
 
         return ResultHelper.success(registrationResponses);
     }
+
+    @PostMapping("/bulk")
+    public ResponseEntity<ResultData<RegistrationBulkResponse>> bulk(@Valid @RequestBody RegistrationBulkRequest request,
+                                                     @RequestHeader(name = "X-Queue-Token", required = false) String queueToken,
+                                                     @AuthenticationPrincipal JwtPrincipal principal) {
+        // Bekleme odası olan etkinliklerde grup kaydı da kuyruktan geçmelidir; tek token tek etkinliğe ait olduğu için
+        // farklı etkinliklerin bilet türleri aynı istekte gönderilemez
+        QueueAdmission admission = this.waitingRoomService.checkAdmission(request.getItems().stream()
+                .map(RegistrationBulkItemRequest::getTicketTypeId)
+                .toList(), queueToken, userId(principal));
+
+        List<BulkRegistrationOutcome> outcomes = this.withAdmission(admission,
+                () -> this.registrationService.bulkSave(request.getItems(), request.isAllOrNothing()));
+
+        List<RegistrationBulkItemResponse> items = new ArrayList<>(outcomes.size());
+        int succeeded = 0;
+        for (int i = 0; i < outcomes.size(); i++) {
+            BulkRegistrationOutcome outcome = outcomes.get(i);
+            RegistrationResponse registration = null;
+            if (outcome.isSuccess()) {
+                registration = this.modelMapperService.forRegistrationResponse().map(outcome.getRegistration());
+                succeeded++;
+            }
+            items.add(new RegistrationBulkItemResponse(i, outcome.getUserId(), outcome.getTicketTypeId(),
+                    outcome.isSuccess(), registration, outcome.getError()));
+        }
+
+        RegistrationBulkResponse response = new RegistrationBulkResponse(outcomes.size(), succeeded, outcomes.size() - succeeded, items);
+        // Hiçbir kayıt oluşmadıysa (allOrNothing ile geri alındı veya tüm kalemler başarısız) 201 yerine 409 döner
+        if (succeeded == 0) {
+            admission.release();
+            return new ResponseEntity<>(ResultHelper.conflict("Hiçbir kayıt oluşturulamadı", response), HttpStatus.CONFLICT);
+        }
+        return new ResponseEntity<>(ResultHelper.created(response), HttpStatus.CREATED);
+    }
+
+    // Kayıt exception ile biterse bekleme odası hakkı geri verilir; client aynı token ile tekrar deneyebilir
+    private <T> T withAdmission(QueueAdmission admission, Supplier<T> registration) {
+        try {
+            return registration.get();
+        } catch (RuntimeException e) {
+            admission.release();
+            throw e;
+        }
+    }
+
+    private static Long userId(JwtPrincipal principal) {
+        return principal != null ? principal.getUserId() : null;
+    }
 }
@@ -1,20 +1,26 @@
 package com.example.api;
 
 import com.example.business.abstracts.ITicketTypeService;
+import com.example.business.abstracts.IRowCountService;
+import com.example.business.paging.PageTotal;
 import com.example.dao.EventRepo;
+import com.example.dao.TicketTypeRepo;
 import com.example.dto.request.ticketType.TicketTypeSaveRequest;
 import com.example.dto.request.ticketType.TicketTypeUpdateRequest;
 import com.example.dto.response.CursorResponse;
+import com.example.dto.response.TicketTypeAvailabilityResponse;
 import com.example.dto.response.TicketTypeResponse;
 import com.example.entities.Event;
 import com.example.entities.TicketType;
 import com.example.exception.NotFoundException;
+import com.example.enums.TotalMode;
 import com.example.mapper.IModelMapperService;
+import com.example.result.CursorCodec;
 import com.example.result.Result;
 import com.example.result.ResultData;
 import com.example.result.ResultHelper;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
@@ -25,9 +31,11 @@ import java.util.stream.Collectors;
  * - POST    /v1/ticket-types           → Bilet tipi oluşturma
  * - GET     /v1/ticket-types/{id}      → ID ile bilet tipi getirme
  * - PUT     /v1/ticket-types           → Bilet tipi güncelleme
- * - GET     /v1/ticket-types           → Sayfalı bilet tipi listeleme
+ * - GET     /v1/ticket-types           → Cursor (keyset) sayfalı bilet tipi listeleme
  * - DELETE  /v1/ticket-types/{id}      → Bilet tipi silme
  * - GET     /v1/ticket-types/event/{eventId} → Etkinliğe ait tüm bilet tiplerini listeleme
+ * - GET     /v1/ticket-types/{id}/availability → Bilet tipinin doluluk bilgisi (kalan koltuk)
+ * - GET     /v1/ticket-types/event/{eventId}/availability → Etkinliğe ait bilet tiplerinin doluluk bilgisi
  */
 @RestController
 @RequestMapping("/v1/ticket-types")
@@ -35,11 +43,13 @@ public class TicketTypeController {
     private final ITicketTypeService ticketTypeService;
     private final IModelMapperService modelMapperService;
     private final EventRepo eventRepo;
+    private final IRowCountService rowCountService;
 
-    public TicketTypeController(ITicketTypeService ticketTypeService, IModelMapperService modelMapperService, EventRepo eventRepo) {
+    public TicketTypeController(ITicketTypeService ticketTypeService, IModelMapperService modelMapperService, EventRepo eventRepo, IRowCountService rowCountService) {
         this.ticketTypeService = ticketTypeService;
         this.modelMapperService = modelMapperService;
         this.eventRepo = eventRepo;
+        this.rowCountService = rowCountService;
     }
 
     @PostMapping()
@@ -55,15 +65,15 @@ public class TicketTypeController {
         ticketTypeToSave.setEvent(event);
 
         TicketType savedTicketType = this.ticketTypeService.save(ticketTypeToSave);
-        TicketTypeResponse response = this.modelMapperService.forTicketTypeResponse().map(savedTicketType, TicketTypeResponse.class);
+        TicketTypeResponse response = this.modelMapperService.forTicketTypeResponse().map(savedTicketType);
         return ResultHelper.created(response);
     }
 
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     public ResultData<TicketTypeResponse> get(@PathVariable("id") Long id) {
-        TicketType ticketType = this.ticketTypeService.get(id);
-        TicketTypeResponse response = this.modelMapperService.forTicketTypeResponse().map(ticketType, TicketTypeResponse.class);
+        // Entity yüklenmez, response kolonları doğrudan DTO'ya okunur
+        TicketTypeResponse response = this.ticketTypeService.getResponse(id);
         return ResultHelper.success(response);
     }
 
@@ -78,7 +88,7 @@ public class TicketTypeController {
         ticketTypeToUpdate.setEvent(event);
 
         TicketType updatedTicketType = this.ticketTypeService.update(ticketTypeToUpdate);
-        TicketTypeResponse response = this.modelMapperService.forTicketTypeResponse().map(updatedTicketType, TicketTypeResponse.class);
+        TicketTypeResponse response = this.modelMapperService.forTicketTypeResponse().map(updatedTicketType);
 
         return ResultHelper.success(response);
     }
@@ -86,15 +96,15 @@ public class TicketTypeController {
     @GetMapping()
     @ResponseStatus(HttpStatus.OK)
     public ResultData<CursorResponse<TicketTypeResponse>> cursor(
-            @RequestParam(name = "page", required = false, defaultValue = "0") int page,
-            @RequestParam(name = "pageSize", required = false, defaultValue = "5") int pageSize
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "pageSize", required = false, defaultValue = "5") int pageSize,
+            @RequestParam(name = "total", required = false, defaultValue = "NONE") TotalMode totalMode
     ) {
-        Page<TicketType> ticketTypePage = this.ticketTypeService.cursor(page, pageSize);
-        Page<TicketTypeResponse> ticketTypeResponsePage = ticketTypePage.map(ticketType ->
-                this.modelMapperService.forTicketTypeResponse().map(ticketType, TicketTypeResponse.class)
-        );
+        Slice<TicketTypeResponse> ticketTypeResponseSlice = this.ticketTypeService.cursor(CursorCodec.decode(cursor), pageSize);
 
-        return ResultHelper.cursor(ticketTypeResponsePage);
+        // NONE: count yok, EXACT: count(*), ESTIMATED: planner istatistiklerinden yaklaşık değer
+        PageTotal total = this.rowCountService.total("ticket_types", totalMode, this.ticketTypeService::count);
+        return ResultHelper.cursor(ticketTypeResponseSlice, CursorCodec.next(ticketTypeResponseSlice, TicketTypeResponse::getId), total);
     }
 
     @DeleteMapping("/{id}")
@@ -107,12 +117,28 @@ public class TicketTypeController {
     @GetMapping("/event/{eventId}")
     @ResponseStatus(HttpStatus.OK)
     public ResultData<List<TicketTypeResponse>> getByEvent(@PathVariable("eventId") Long eventId) {
-        List<TicketType> ticketTypes = this.ticketTypeService.getByEventId(eventId);
+        List<TicketTypeResponse> ticketTypeResponses = this.ticketTypeService.getByEventId(eventId);
+        return ResultHelper.success(ticketTypeResponses);
+    }
+
+    @GetMapping("/{id}/availability")
+    @ResponseStatus(HttpStatus.OK)
+    public ResultData<TicketTypeAvailabilityResponse> getAvailability(@PathVariable("id") Long id) {
+        return ResultHelper.success(toAvailabilityResponse(this.ticketTypeService.getAvailability(id)));
+    }
 
-        List<TicketTypeResponse> ticketTypeResponses = ticketTypes.stream()
-                .map(ticketType -> this.modelMapperService.forTicketTypeResponse().map(ticketType, TicketTypeResponse.class))
+    @GetMapping("/event/{eventId}/availability")
+    @ResponseStatus(HttpStatus.OK)
+    public ResultData<List<TicketTypeAvailabilityResponse>> getAvailabilityByEvent(@PathVariable("eventId") Long eventId) {
+        List<TicketTypeAvailabilityResponse> responses = this.ticketTypeService.getAvailabilityByEventId(eventId).stream()
+                .map(TicketTypeController::toAvailabilityResponse)
                 .collect(Collectors.toList());
+        return ResultHelper.success(responses);
+    }
 
-        return ResultHelper.success(ticketTypeResponses);
+    private static TicketTypeAvailabilityResponse toAvailabilityResponse(TicketTypeRepo.TicketTypeAvailability availability) {
+        int remaining = availability.getRemaining() != null ? Math.max(availability.getRemaining(), 0) : 0;
+        return new TicketTypeAvailabilityResponse(availability.getId(), availability.getQuota(), availability.getSold(),
+                remaining, remaining == 0);
     }
 }
@@ -1,17 +1,21 @@
 package com.example.api;
 
 import com.example.business.abstracts.IUserService;
+import com.example.business.abstracts.IRowCountService;
+import com.example.business.paging.PageTotal;
 import com.example.dto.request.user.UserSaveRequest;
 import com.example.dto.request.user.UserUpdateRequest;
 import com.example.dto.response.CursorResponse;
 import com.example.dto.response.UserResponse;
 import com.example.entities.User;
+import com.example.enums.TotalMode;
 import com.example.mapper.IModelMapperService;
+import com.example.result.CursorCodec;
 import com.example.result.Result;
 import com.example.result.ResultData;
 import com.example.result.ResultHelper;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
@@ -21,7 +25,7 @@ import org.springframework.web.bind.annotation.*;
  * - POST    /v1/users        → Kullanıcı oluşturma
  * - GET     /v1/users/{id}   → ID ile kullanıcı getirme
  * - PUT     /v1/users        → Kullanıcı güncelleme
- * - GET     /v1/users        → Sayfalı kullanıcı listeleme
+ * - GET     /v1/users        → Cursor (keyset) sayfalı kullanıcı listeleme
  * - DELETE  /v1/users/{id}   → Kullanıcı silme
  */
 @RestController
@@ -30,11 +34,13 @@ public class UserController {
     private final IUserService userService;
     private final IModelMapperService modelMapperService;
     private final PasswordEncoder passwordEncoder;
+    private final IRowCountService rowCountService;
 
-    public UserController(IUserService userService, IModelMapperService modelMapperService, PasswordEncoder passwordEncoder) {
+    public UserController(IUserService userService, IModelMapperService modelMapperService, PasswordEncoder passwordEncoder, IRowCountService rowCountService) {
         this.userService = userService;
         this.modelMapperService = modelMapperService;
         this.passwordEncoder = passwordEncoder;
+        this.rowCountService = rowCountService;
     }
 
     @PostMapping()
@@ -76,15 +82,18 @@ public class UserController {
     @GetMapping()
     @ResponseStatus(HttpStatus.OK)
     public ResultData<CursorResponse<UserResponse>> cursor(
-            @RequestParam(name = "page", required = false, defaultValue = "0") int page,
-            @RequestParam(name = "pageSize", required = false, defaultValue = "5") int pageSize
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "pageSize", required = false, defaultValue = "5") int pageSize,
+            @RequestParam(name = "total", required = false, defaultValue = "NONE") TotalMode totalMode
     ) {
-        Page<User> userPage = this.userService.cursor(page, pageSize);
-        Page<UserResponse> userResponsePage = userPage.map(user ->
+        Slice<User> userSlice = this.userService.cursor(CursorCodec.decode(cursor), pageSize);
+        Slice<UserResponse> userResponseSlice = userSlice.map(user ->
                 this.modelMapperService.forResponse().map(user, UserResponse.class)
         );
 
-        return ResultHelper.cursor(userResponsePage);
+        // NONE: count yok, EXACT: count(*), ESTIMATED: planner istatistiklerinden yaklaşık değer
+        PageTotal total = this.rowCountService.total("users", totalMode, this.userService::count);
+        return ResultHelper.cursor(userResponseSlice, CursorCodec.next(userSlice, User::getId), total);
     }
 
     @DeleteMapping("/{id}")
@@ -0,0 +1,64 @@
+package com.example.api;
+
+import com.example.business.abstracts.IWaitingRoomService;
+import com.example.dto.response.WaitingRoomResponse;
+import com.example.exception.UnauthorizedException;
+import com.example.jwt.JwtPrincipal;
+import com.example.result.ResultData;
+import com.example.result.ResultHelper;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.concurrent.CompletionException;
+
+/**
+ * Endpoint'ler:
+ * - POST    /v1/waiting-room/events/{eventId}/join → Etkinliğin bekleme odasına girme (kuyruk token'ı döner)
+ * - GET     /v1/waiting-room/{token}?waitSeconds=  → Sıra durumunu sorgulama (waitSeconds > 0 ise long-poll)
+ *
+ * ADMITTED olan token, kayıt isteklerinde X-Queue-Token header'ı ile gönderilir.
+ * Token kuyruğa giren kullanıcıya bağlıdır ve tek bir kayıt (veya tek grup kaydı) için kullanılabilir.
+ * Long-poll istekleri asenkron yanıtlanır (DeferredResult); bekleme sırasında servlet thread'i serbest kalır.
+ */
+@RestController
+@RequestMapping("/v1/waiting-room")
+public class WaitingRoomController {
+    // Servis en fazla 60 sn bekletir; async timeout bunun biraz üzerinde tutulur (container varsayılanı 30 sn)
+    private static final long STATUS_TIMEOUT_MS = 65_000;
+
+    private final IWaitingRoomService waitingRoomService;
+
+    public WaitingRoomController(IWaitingRoomService waitingRoomService) {
+        this.waitingRoomService = waitingRoomService;
+    }
+
+    @PostMapping("/events/{eventId}/join")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ResultData<WaitingRoomResponse> join(@PathVariable("eventId") Long eventId,
+                                                @AuthenticationPrincipal JwtPrincipal principal) {
+        if (principal == null) {
+            throw new UnauthorizedException("Bekleme odasına girmek için giriş yapmalısınız");
+        }
+        return ResultHelper.created(this.waitingRoomService.join(eventId, principal.getUserId()));
+    }
+
+    @GetMapping("/{token}")
+    @ResponseStatus(HttpStatus.OK)
+    public DeferredResult<ResultData<WaitingRoomResponse>> status(
+            @PathVariable("token") String token,
+            @RequestParam(name = "waitSeconds", required = false, defaultValue = "0") long waitSeconds
+    ) {
+        DeferredResult<ResultData<WaitingRoomResponse>> result = new DeferredResult<>(STATUS_TIMEOUT_MS);
+        this.waitingRoomService.status(token, waitSeconds).whenComplete((response, error) -> {
+            if (error != null) {
+                // Hata GlobalExceptionHandler'a iletilir
+                result.setErrorResult(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+            } else {
+                result.setResult(ResultHelper.success(response));
+            }
+        });
+        return result;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.api;
+
+import com.example.business.abstracts.IWaitlistService;
+import com.example.dto.request.waitlist.WaitlistJoinRequest;
+import com.example.dto.response.CursorResponse;
+import com.example.dto.response.WaitlistEntryResponse;
+import com.example.entities.WaitlistEntry;
+import com.example.result.CursorCodec;
+import com.example.result.Result;
+import com.example.result.ResultData;
+import com.example.result.ResultHelper;
+import jakarta.validation.Valid;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Endpoint'ler:
+ * - POST    /v1/waitlist                          → Kotası dolmuş bilet türünün bekleme listesine girme
+ * - GET     /v1/waitlist/{id}                     → Bekleme listesi kaydı ve sırası
+ * - GET     /v1/waitlist/ticket-type/{ticketTypeId}?cursor=&pageSize= → Bilet türünün bekleme listesi (sıralı, keyset sayfalı)
+ * - DELETE  /v1/waitlist/{id}                     → Bekleme listesinden çıkma
+ *
+ * Koltuk boşaldığında listedeki sıradaki kullanıcı otomatik olarak ACTIVE kayda dönüştürülür.
+ */
+@RestController
+@RequestMapping("/v1/waitlist")
+public class WaitlistController {
+    private final IWaitlistService waitlistService;
+
+    public WaitlistController(IWaitlistService waitlistService) {
+        this.waitlistService = waitlistService;
+    }
+
+    @PostMapping()
+    @ResponseStatus(HttpStatus.CREATED)
+    public ResultData<WaitlistEntryResponse> join(@Valid @RequestBody WaitlistJoinRequest request) {
+        WaitlistEntry entry = this.waitlistService.join(request.getUserId(), request.getTicketTypeId());
+        return ResultHelper.created(toResponse(entry, this.waitlistService.position(entry)));
+    }
+
+    @GetMapping("/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    public ResultData<WaitlistEntryResponse> get(@PathVariable("id") Long id) {
+        WaitlistEntry entry = this.waitlistService.get(id);
+        return ResultHelper.success(toResponse(entry, this.waitlistService.position(entry)));
+    }
+
+    @GetMapping("/ticket-type/{ticketTypeId}")
+    @ResponseStatus(HttpStatus.OK)
+    public ResultData<CursorResponse<WaitlistEntryResponse>> getByTicketType(
+            @PathVariable("ticketTypeId") Long ticketTypeId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "pageSize", required = false, defaultValue = "20") int pageSize
+    ) {
+        Long afterId = CursorCodec.decode(cursor);
+        Slice<WaitlistEntry> entries = this.waitlistService.getByTicketType(ticketTypeId, afterId, pageSize);
+
+        // Sayfa zaten sıralı geldiği için sıra numarası ilk kaydın sırasından itibaren index ile hesaplanır
+        List<WaitlistEntry> content = entries.getContent();
+        long first = afterId == null || content.isEmpty() ? 1 : this.waitlistService.position(content.get(0));
+        List<WaitlistEntryResponse> responses = new ArrayList<>(content.size());
+        for (int i = 0; i < content.size(); i++) {
+            responses.add(toResponse(content.get(i), first + i));
+        }
+        Slice<WaitlistEntryResponse> page = new SliceImpl<>(responses, entries.getPageable(), entries.hasNext());
+        return ResultHelper.cursor(page, CursorCodec.next(page, WaitlistEntryResponse::getId), null);
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    public Result leave(@PathVariable("id") Long id) {
+        this.waitlistService.leave(id);
+        return ResultHelper.ok();
+    }
+
+    private static WaitlistEntryResponse toResponse(WaitlistEntry entry, long position) {
+        return new WaitlistEntryResponse(entry.getId(), entry.getUser().getId(), entry.getTicketType().getId(),
+                position, entry.getCreatedAt());
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.business.abstracts;
+
+import com.example.business.export.AttendeeExportJob;
+
+/**
+ * requesterId / admin: isteği yapan kullanıcı. Export'u sadece etkinliğin organizatörü veya admin başlatabilir;
+ * işler başlatan kullanıcıya aittir ve başka kullanıcılara (admin hariç) NotFoundException ile görünmez.
+ */
+public interface IAttendeeExportService {
+    AttendeeExportJob submit(Long eventId, Long requesterId, boolean admin); // Katılımcı CSV export işini kuyruğa alır (aynı kullanıcının aynı etkinlik için süren işi varsa onu döner)
+    AttendeeExportJob get(String jobId, Long requesterId, boolean admin); // İşin güncel durumu
+    AttendeeExportJob download(String jobId, Long requesterId, boolean admin); // Dosyası hazır (DONE) işi döner, değilse ExportNotReadyException
+    int purgeExpired(); // Saklama süresi dolan işleri ve dosyalarını siler
+}
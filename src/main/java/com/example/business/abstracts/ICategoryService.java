@@ -1,13 +1,14 @@
 package com.example.business.abstracts;
 
 import com.example.entities.Category;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 public interface ICategoryService {
     //Category entity için temel CRUD (Create, Read, Update, Delete) ve listeleme işlemleri
     Category save(Category category);
     Category get(Long id);
     Category update(Category category);
-    Page<Category> cursor(int page,int pageSize);
+    Slice<Category> cursor(Long afterId, int pageSize); // Keyset sayfalama: afterId'den sonraki kayıtlar (id sırasıyla)
+    long count(); // Toplam kayıt sayısı (sadece istendiğinde kullanılır)
     boolean delete(Long id);
 }
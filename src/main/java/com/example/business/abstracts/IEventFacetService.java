@@ -0,0 +1,25 @@
+package com.example.business.abstracts;
+
+import com.example.business.facet.EventFacets;
+import com.example.entities.Event;
+import com.example.entities.TicketType;
+
+public interface IEventFacetService {
+    /**
+     * Facet filtrelerine uyan etkinlikleri (id sırasıyla, keyset sayfalı) ve facet sayılarını döner.
+     *
+     * @param categoryId Kategori filtresi (null ise yok)
+     * @param priceBand  Fiyat aralığı etiketi, örn. "250-500" (null ise yok)
+     * @param month      Ay filtresi, yyyy-MM (null ise yok)
+     * @param afterId    Önceki sayfanın son etkinlik ID'si (ilk sayfada null)
+     * @param pageSize   Sayfa boyutu
+     * @return Facet sayıları, toplam ve sayfadaki etkinlikler
+     */
+    EventFacets browse(Long categoryId, String priceBand, String month, Long afterId, int pageSize);
+
+    void indexEvent(Event event); // Kaydedilen / güncellenen etkinliğin kategori ve ay facet'lerini günceller
+    void removeEvent(Long eventId); // Silinen etkinliği (ve bilet türlerini) tüm facet'lerden çıkarır
+    void indexTicketType(TicketType ticketType); // Bilet türünün fiyat aralığı facet'ini günceller
+    void removeTicketType(Long ticketTypeId); // Silinen bilet türünü fiyat aralığı facet'inden çıkarır
+    void rebuild(); // Tüm facet'leri veritabanından yeniden oluşturur
+}
@@ -1,17 +1,27 @@
 package com.example.business.abstracts;
 
+import com.example.business.geo.NearbyEvent;
+import com.example.business.search.RankedEvent;
+import com.example.dto.response.EventResponse;
 import com.example.entities.Event;
-import org.springframework.data.domain.Page;
+import com.example.enums.NearbySort;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface IEventService {
     //Event entity için temel CRUD ve listeleme işlemleri
     Event save(Event event);
     Event get(Long id);
+    EventResponse getResponse(Long id); // Okuma endpoint'i için DTO projeksiyonu (entity yüklenmez)
     Event update(Event event);
-    Page<Event> cursor(int page, int pageSize);
+    Slice<EventResponse> cursor(Long afterId, int pageSize); // Keyset sayfalama: afterId'den sonraki kayıtlar (id sırasıyla)
+    void export(Consumer<EventResponse> sink); // Tüm etkinlikleri id sırasıyla tek tek sink'e aktarır (liste oluşturmadan)
+    long count(); // Toplam kayıt sayısı (sadece istendiğinde kullanılır)
     boolean delete(Long id);
-    List<Event> getByCategory(Long categoryId);// Belirli bir kategoriye ait tüm etkinlikleri getirir.
-    List<Event> getByUser(Long userId);// Belirli bir kullanıcıya ait tüm etkinlikleri getirir.
+    Slice<EventResponse> getByCategory(Long categoryId, Long afterId, int pageSize);// Kategoriye ait etkinlikler (keyset sayfalı)
+    Slice<EventResponse> getByUser(Long userId, Long afterId, int pageSize);// Kullanıcının (organizer) etkinlikleri (keyset sayfalı)
+    List<NearbyEvent> nearby(double latitude, double longitude, double radiusKm, NearbySort sort, int limit); // Yarıçap içindeki etkinlikler, mesafe veya tarih sırasıyla
+    Slice<RankedEvent> search(String query, Float afterRank, Long afterId, int pageSize); // Tam metin arama, ilgililik sırasıyla
 }
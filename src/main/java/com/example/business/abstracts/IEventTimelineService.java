@@ -0,0 +1,25 @@
+package com.example.business.abstracts;
+
+import com.example.business.timeline.TimelineEvent;
+import com.example.entities.Event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface IEventTimelineService {
+    /**
+     * Verilen tarih aralığındaki yaklaşan etkinlikleri tarih sırasıyla bellekteki index'ten döner.
+     *
+     * @param from       Başlangıç (dahil); geçmiş bir tarih verilirse şu an kullanılır
+     * @param to         Bitiş (dahil); null ise üst sınır yok
+     * @param categoryId Kategori filtresi; null ise tüm kategoriler
+     * @param limit      En fazla dönecek kayıt sayısı
+     * @return Tarih, aynı tarihte ID sırasıyla etkinlikler
+     */
+    List<TimelineEvent> upcoming(LocalDateTime from, LocalDateTime to, Long categoryId, int limit);
+
+    void put(Event event); // Kaydedilen / güncellenen etkinliği index'e yazar (geçmiş tarihliyse çıkarır)
+    void remove(Long eventId); // Silinen etkinliği index'ten çıkarır
+    void rebuild(); // Index'i veritabanındaki yaklaşan etkinliklerden yeniden oluşturur
+    int evictPast(); // Tarihi geçmiş etkinlikleri çıkarır, çıkarılan kayıt sayısını döner
+}
@@ -0,0 +1,25 @@
+package com.example.business.abstracts;
+
+import com.example.business.idempotency.IdempotentResponse;
+
+import java.util.Optional;
+
+public interface IIdempotencyService {
+    /**
+     * Anahtar için işlem hakkı ister.
+     *
+     * @return Yanıt daha önce saklandıysa o yanıt; boş ise isteği çağıran işler ve sonunda
+     *         complete veya abandon çağırmak zorundadır. Aynı anahtar başka bir istekte
+     *         işleniyorsa o istek bitene kadar beklenir.
+     * @throws com.example.exception.IdempotencyKeyMismatchException anahtar daha önce farklı bir
+     *         istek gövdesi (requestHash) ile kullanıldıysa
+     */
+    Optional<IdempotentResponse> begin(String keyHash, String requestHash);
+
+    void complete(String keyHash, String requestHash, IdempotentResponse response);
+
+    // İstek saklanmaya uygun bir yanıt üretmeden bittiyse anahtar serbest bırakılır (tekrar denenebilir)
+    void abandon(String keyHash);
+
+    int purgeExpired(int batchSize);
+}
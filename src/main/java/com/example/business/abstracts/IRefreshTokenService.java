@@ -0,0 +1,20 @@
+package com.example.business.abstracts;
+
+import com.example.business.auth.RotatedRefreshToken;
+import com.example.entities.User;
+
+/**
+ * refresh_tokens tablosu üzerinden refresh token yaşam döngüsü: üretme, döndürme (rotation), iptal ve temizlik.
+ */
+public interface IRefreshTokenService {
+    String issue(User user); // Yeni bir token ailesi başlatır (her giriş / cihaz için ayrı)
+
+    /**
+     * Refresh token'ı doğrular, kullanıldı olarak işaretler ve aynı ailede yenisini üretir.
+     * Kullanılmış bir token tekrar gelirse ailenin tamamı iptal edilir.
+     */
+    RotatedRefreshToken rotate(String refreshToken);
+
+    void revoke(String refreshToken); // Token'ın ailesini siler (logout); token bilinmiyorsa bir şey yapılmaz
+    int purgeExpired(int batchSize); // Süresi dolan en fazla batchSize satırı siler, silinen satır sayısını döner
+}
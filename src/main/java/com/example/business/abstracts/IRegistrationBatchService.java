@@ -0,0 +1,18 @@
+package com.example.business.abstracts;
+
+import com.example.entities.Registration;
+import com.example.enums.RegistrationStatus;
+
+public interface IRegistrationBatchService {
+    boolean isEnabled(); // Toplu yazma (group commit) hattı açık mı
+
+    /**
+     * Kaydı yazma kuyruğuna ekler ve ait olduğu batch commit edilene kadar bekler.
+     *
+     * @param userId       Kullanıcı ID'si
+     * @param ticketTypeId Bilet türü ID'si
+     * @param status       Kayıt durumu (null ise ACTIVE, HELD desteklenmez)
+     * @return Kaydedilen Registration (user ve ticketType.event yüklü)
+     */
+    Registration save(Long userId, Long ticketTypeId, RegistrationStatus status);
+}
@@ -1,19 +1,32 @@
 package com.example.business.abstracts;
 
+import com.example.business.export.AttendeeRow;
+import com.example.business.registration.BulkRegistrationOutcome;
+import com.example.dto.request.registration.RegistrationBulkItemRequest;
+import com.example.dto.response.RegistrationResponse;
 import com.example.entities.Registration;
 import com.example.enums.RegistrationStatus;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface IRegistrationService {
     //Registration entity için temel CRUD (Create, Read, Update, Delete) ve listeleme işlemleri
     Registration save(Registration registration);
     Registration get(Long id);
+    RegistrationResponse getResponse(Long id); // Okuma endpoint'i için DTO projeksiyonu (entity yüklenmez)
     Registration update(Registration registration);
-    Page<Registration> cursor(int page, int pageSize);
+    Slice<RegistrationResponse> cursor(Long afterId, int pageSize); // Keyset sayfalama: afterId'den sonraki kayıtlar (id sırasıyla)
+    void export(Consumer<RegistrationResponse> sink); // Tüm kayıtları id sırasıyla tek tek sink'e aktarır (liste oluşturmadan)
+    void exportAttendees(Long eventId, Consumer<AttendeeRow> sink); // Etkinliğin ACTIVE kayıtlarını katılımcı satırı olarak sink'e aktarır
+    long count(); // Toplam kayıt sayısı (sadece istendiğinde kullanılır)
     boolean delete(Long id);
-    List<Registration> getByUser(Long userId); // Kullanıcıya göre kayıtları getirir
-    List<Registration> getByTicketType(Long ticketTypeId); // Bilet türüne göre kayıtları getirir
-    List<Registration> getByStatus(RegistrationStatus status); // Duruma göre kayıtları getirir
+    Slice<RegistrationResponse> getByUser(Long userId, Long afterId, int pageSize); // Kullanıcıya göre kayıtlar (keyset sayfalı)
+    Slice<RegistrationResponse> getByTicketType(Long ticketTypeId, Long afterId, int pageSize); // Bilet türüne göre kayıtlar (keyset sayfalı)
+    Slice<RegistrationResponse> getByStatus(RegistrationStatus status, Long afterId, int pageSize); // Duruma göre kayıtlar (keyset sayfalı)
+    List<Registration> hold(Long userId, Long ticketTypeId, int quantity); // Koltukları süreli olarak tutar (HELD)
+    List<Registration> confirm(List<Long> registrationIds, Long userId); // Kullanıcının HELD kayıtlarını ACTIVE yapar
+    int expireHolds(int batchSize); // Süresi dolan tutmaları siler ve koltukları iade eder, işlenen kayıt sayısını döner
+    List<BulkRegistrationOutcome> bulkSave(List<RegistrationBulkItemRequest> items, boolean allOrNothing); // Grup kaydı, kalem bazında sonuç döner
 }
@@ -0,0 +1,18 @@
+package com.example.business.abstracts;
+
+import com.example.business.paging.PageTotal;
+import com.example.enums.TotalMode;
+
+import java.util.function.LongSupplier;
+
+public interface IRowCountService {
+    /**
+     * Listeleme yanıtı için toplam kayıt sayısını istenen moda göre döner.
+     *
+     * @param table      Tablo adı (yaklaşık sayı için)
+     * @param mode       NONE, EXACT veya ESTIMATED
+     * @param exactCount EXACT modunda çalıştırılacak count sorgusu
+     * @return Toplam; NONE modunda veya ESTIMATED modunda tahmin henüz yüklenmediyse null
+     */
+    PageTotal total(String table, TotalMode mode, LongSupplier exactCount);
+}
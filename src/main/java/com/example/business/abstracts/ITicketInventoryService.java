@@ -0,0 +1,24 @@
+package com.example.business.abstracts;
+
+public interface ITicketInventoryService {
+    /**
+     * Bilet türünden bir koltuk ayırır.
+     * Kiralama (lease) açıksa koltuk node'un bellekteki payından düşülür,
+     * kapalıysa doğrudan veritabanındaki koşullu UPDATE kullanılır.
+     *
+     * @param ticketTypeId Bilet türü ID'si
+     * @throws com.example.exception.SoldOutException Kota doluysa
+     * @throws com.example.exception.NotFoundException Bilet türü yoksa
+     */
+    void acquire(Long ticketTypeId);
+
+    void acquire(Long ticketTypeId, int seats); // Birden fazla koltuğu tek seferde ayırır (hepsi ya da hiçbiri)
+
+    int acquireUpTo(Long ticketTypeId, int seats); // Kota yettiği kadar (en fazla seats) koltuk ayırır, ayrılan sayıyı döner
+
+    void release(Long ticketTypeId); // İptal / silme sonrası koltuğu kotaya iade eder
+
+    void release(Long ticketTypeId, int seats); // Birden fazla koltuğu tek UPDATE ile kotaya iade eder
+
+    void releaseAllLeases(); // Node'un elindeki kullanılmamış tüm kiralık koltukları veritabanına iade eder
+}
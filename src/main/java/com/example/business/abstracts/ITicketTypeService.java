@@ -1,7 +1,9 @@
 package com.example.business.abstracts;
 
+import com.example.dao.TicketTypeRepo;
+import com.example.dto.response.TicketTypeResponse;
 import com.example.entities.TicketType;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -9,8 +11,13 @@ public interface ITicketTypeService {
     //TicketType entity için temel CRUD ve listeleme işlemleri
     TicketType save(TicketType ticketType);
     TicketType get(Long id);
+    TicketTypeResponse getResponse(Long id); // Okuma endpoint'i için DTO projeksiyonu (entity yüklenmez)
     TicketType update(TicketType ticketType);
-    Page<TicketType> cursor(int page,int pageSize);
+    Slice<TicketTypeResponse> cursor(Long afterId, int pageSize); // Keyset sayfalama: afterId'den sonraki kayıtlar (id sırasıyla)
+    long count(); // Toplam kayıt sayısı (sadece istendiğinde kullanılır)
     boolean delete(Long id);
-    List<TicketType> getByEventId(Long eventId);// Etkinliğe göre bilet türlerini getirir
+    List<TicketTypeResponse> getByEventId(Long eventId);// Etkinliğe göre bilet türlerini getirir
+    TicketTypeRepo.TicketTypeAvailability getAvailability(Long id); // Doluluk bilgisini getirir
+    List<TicketTypeRepo.TicketTypeAvailability> getAvailabilityByEventId(Long eventId); // Etkinliğin bilet türlerinin doluluk bilgisini getirir
+    int repairSoldCounts(int batchSize); // Kayıtlarla uyuşmayan sold değerlerini düzeltir, düzeltilen bilet türü sayısını döner
 }
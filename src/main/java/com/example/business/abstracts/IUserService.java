@@ -1,13 +1,14 @@
 package com.example.business.abstracts;
 
 import com.example.entities.User;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 public interface IUserService {
     //User entity için temel CRUD ve listeleme işlemleri
     User save(User user);
     User get(Long id);
     User update(User user);
-    Page<User> cursor(int page,int pageSize);
+    Slice<User> cursor(Long afterId, int pageSize); // Keyset sayfalama: afterId'den sonraki kayıtlar (id sırasıyla)
+    long count(); // Toplam kayıt sayısı (sadece istendiğinde kullanılır)
     boolean delete(Long id);
 }
@@ -0,0 +1,38 @@
+package com.example.business.abstracts;
+
+import com.example.business.waitingroom.QueueAdmission;
+import com.example.dto.response.WaitingRoomResponse;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+public interface IWaitingRoomService {
+    WaitingRoomResponse join(Long eventId, Long userId); // Etkinliğin bekleme odasına girer ve kullanıcıya bağlı kuyruk token'ı üretir
+
+    /**
+     * Token'ın güncel durumunu döner. waitSeconds > 0 ise sonuç token kabul edildiğinde veya süre dolduğunda
+     * (en fazla 60 sn) tamamlanır; bekleme sırasında thread tutulmaz (long polling).
+     *
+     * @throws com.example.exception.QueueAdmissionException Token geçersizse (future oluşturulmadan, hemen)
+     */
+    CompletableFuture<WaitingRoomResponse> status(String token, long waitSeconds);
+
+    /**
+     * Bilet türünün etkinliği için bekleme odası aktifse token'ın kabul edilmiş, çağıran kullanıcıya ait ve
+     * daha önce kullanılmamış olduğunu doğrular; token kullanıldı olarak işaretlenir.
+     * Kayıt başarısız olursa dönen QueueAdmission.release() ile token tekrar kullanılabilir hale getirilmelidir.
+     *
+     * @throws com.example.exception.QueueAdmissionException Token yoksa, başka kullanıcıya aitse, kullanılmışsa,
+     *                                                       sırası gelmediyse veya süresi dolduysa
+     */
+    QueueAdmission checkAdmission(Long ticketTypeId, String token, Long userId);
+
+    /**
+     * Grup kaydı için: bilet türlerinden herhangi birinin etkinliğinde bekleme odası varsa tüm bilet türleri
+     * aynı etkinliğe ait olmalıdır (tek kuyruk token'ı tek etkinliğe aittir) ve token o etkinlik için doğrulanır.
+     *
+     * @throws com.example.exception.InvalidBulkRequestException Bekleme odası olan istekte birden fazla etkinlik varsa
+     * @throws com.example.exception.QueueAdmissionException Token geçerli değilse (bkz. tekil checkAdmission)
+     */
+    QueueAdmission checkAdmission(Collection<Long> ticketTypeIds, String token, Long userId);
+}
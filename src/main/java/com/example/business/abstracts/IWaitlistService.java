@@ -0,0 +1,21 @@
+package com.example.business.abstracts;
+
+import com.example.entities.WaitlistEntry;
+import org.springframework.data.domain.Slice;
+
+public interface IWaitlistService {
+    WaitlistEntry join(Long userId, Long ticketTypeId); // Kotası dolmuş bilet türünün bekleme listesine ekler
+    WaitlistEntry get(Long id);
+    long position(WaitlistEntry entry); // Listedeki sırası (1'den başlar)
+    Slice<WaitlistEntry> getByTicketType(Long ticketTypeId, Long afterId, int pageSize); // Bekleme listesi, keyset sayfalı (sıralı)
+    boolean leave(Long id); // Bekleme listesinden çıkar
+
+    /**
+     * Boşalan koltukları bekleme listesindeki sıradaki kullanıcılara devreder,
+     * listede kimse kalmadıysa kalan koltuklar kotaya iade edilir ve commit sonrası liste yeniden kontrol edilir.
+     * Çağıranın transaction'ı içinde çalışmalıdır.
+     *
+     * @return Bekleme listesinden kayda dönüştürülen kişi sayısı
+     */
+    int releaseSeats(Long ticketTypeId, int seats);
+}
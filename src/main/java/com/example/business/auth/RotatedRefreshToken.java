@@ -0,0 +1,15 @@
+package com.example.business.auth;
+
+import com.example.entities.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Refresh token rotation sonucu: token'ın sahibi ve aynı ailede üretilen yeni refresh token.
+ */
+@Getter
+@AllArgsConstructor
+public class RotatedRefreshToken {
+    private final User user;
+    private final String refreshToken;
+}
@@ -0,0 +1,251 @@
+package com.example.business.concretes;
+
+import com.example.business.abstracts.IAttendeeExportService;
+import com.example.business.abstracts.IRegistrationService;
+import com.example.business.export.AttendeeExportJob;
+import com.example.business.export.AttendeeRow;
+import com.example.dao.EventRepo;
+import com.example.exception.ExportNotReadyException;
+import com.example.exception.ForbiddenException;
+import com.example.exception.NotFoundException;
+import com.example.exception.ServiceBusyException;
+import com.example.enums.ExportStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Organizatörler için katılımcı listesini arka planda gzip'li CSV dosyası olarak üretir.
+ *
+ * - İstek thread'i sadece işi kuyruğa alır (submit); dosya ayrı, sınırlı bir thread havuzunda yazılır
+ * - Aynı anda en fazla max-concurrent iş çalışır, en fazla queue-capacity iş bekler; kuyruk doluysa 503 döner.
+ *   Böylece export'lar DB bağlantı havuzunu ve CPU'yu OLTP trafiğinin elinden alamaz
+ * - Veriler tek bir streaming sorgu ile (Registration + User + TicketType JOIN) satır satır okunup doğrudan diske yazılır
+ * - Dosya önce .part uzantısıyla yazılır, tamamlanınca atomik olarak yeniden adlandırılır
+ * - İş durumları bellekte tutulur; saklama süresi dolan işler ve dosyaları AttendeeExportCleanupJob ile silinir
+ * - Export'u sadece etkinliğin organizatörü veya admin başlatabilir; iş başlatan kullanıcıya aittir
+ */
+@Service
+public class AttendeeExportManager implements IAttendeeExportService {
+    private static final Logger log = LoggerFactory.getLogger(AttendeeExportManager.class);
+
+    private static final String FILE_SUFFIX = ".csv.gz";
+    private static final String PART_SUFFIX = ".part";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String HEADER = "registration_id,registered_at,ticket_type_id,ticket_type,price,user_id,name,email\n";
+
+    private final IRegistrationService registrationService;
+    private final EventRepo eventRepo;
+    private final Path directory;
+    private final long retentionMinutes;
+    private final ThreadPoolExecutor executor;
+
+    private final Map<String, AttendeeExportJob> jobs = new ConcurrentHashMap<>();
+    // Kullanıcı + etkinlik başına süren iş: aynı liste için tekrar tekrar dosya üretilmez,
+    // başka bir kullanıcının iş id'si de geri verilmez
+    private final Map<String, AttendeeExportJob> activeByEvent = new ConcurrentHashMap<>();
+
+    public AttendeeExportManager(IRegistrationService registrationService,
+                                 EventRepo eventRepo,
+                                 @Value("${eventhub.attendee-export.directory:exports}") String directory,
+                                 @Value("${eventhub.attendee-export.max-concurrent:2}") int maxConcurrent,
+                                 @Value("${eventhub.attendee-export.queue-capacity:20}") int queueCapacity,
+                                 @Value("${eventhub.attendee-export.retention-minutes:60}") long retentionMinutes) {
+        this.registrationService = registrationService;
+        this.eventRepo = eventRepo;
+        this.directory = Paths.get(directory);
+        this.retentionMinutes = retentionMinutes;
+        int threads = Math.max(1, maxConcurrent);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                Thread.ofPlatform().name("attendee-export-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // İş durumları bellekte tutulduğu için önceki çalıştırmadan kalan dosyalar sahipsizdir
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(this.directory);
+        try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(this.directory, "*" + FILE_SUFFIX + "*")) {
+            for (Path leftover : leftovers) {
+                Files.deleteIfExists(leftover);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        this.executor.shutdownNow();
+    }
+
+    @Override
+    public AttendeeExportJob submit(Long eventId, Long requesterId, boolean admin) {
+        Long ownerId = this.eventRepo.findOwnerIdById(eventId)
+                .orElseThrow(() -> new NotFoundException("Etkinlik bulunamadı. ID: " + eventId));
+        if (!admin && !ownerId.equals(requesterId)) {
+            throw new ForbiddenException("Katılımcı listesini sadece etkinliğin organizatörü dışa aktarabilir");
+        }
+
+        AttendeeExportJob candidate = new AttendeeExportJob(UUID.randomUUID().toString(), eventId, requesterId, LocalDateTime.now());
+        AttendeeExportJob active = this.activeByEvent.putIfAbsent(activeKey(candidate), candidate);
+        if (active != null) {
+            return active;
+        }
+
+        this.jobs.put(candidate.getId(), candidate);
+        try {
+            this.executor.execute(() -> run(candidate));
+        } catch (RejectedExecutionException e) {
+            this.jobs.remove(candidate.getId());
+            this.activeByEvent.remove(activeKey(candidate), candidate);
+            throw new ServiceBusyException("Çok fazla export işi bekliyor, lütfen daha sonra tekrar deneyin");
+        }
+        return candidate;
+    }
+
+    @Override
+    public AttendeeExportJob get(String jobId, Long requesterId, boolean admin) {
+        AttendeeExportJob job = this.jobs.get(jobId);
+        // Başka kullanıcının işi yokmuş gibi davranılır; iş id'lerinin varlığı da sızdırılmaz
+        if (job == null || (!admin && !job.getOwnerId().equals(requesterId))) {
+            throw new NotFoundException("Export işi bulunamadı. ID: " + jobId);
+        }
+        return job;
+    }
+
+    @Override
+    public AttendeeExportJob download(String jobId, Long requesterId, boolean admin) {
+        AttendeeExportJob job = get(jobId, requesterId, admin);
+        if (job.getStatus() != ExportStatus.DONE) {
+            throw new ExportNotReadyException("Export dosyası hazır değil. Durum: " + job.getStatus());
+        }
+        return job;
+    }
+
+    @Override
+    public int purgeExpired() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(this.retentionMinutes);
+        int purged = 0;
+        for (AttendeeExportJob job : this.jobs.values()) {
+            if (job.isFinished() && job.getFinishedAt().isBefore(threshold) && this.jobs.remove(job.getId(), job)) {
+                deleteQuietly(job.getFile());
+                purged++;
+            }
+        }
+        return purged;
+    }
+
+    private void run(AttendeeExportJob job) {
+        job.start();
+        Path part = this.directory.resolve(job.getId() + FILE_SUFFIX + PART_SUFFIX);
+        Path file = this.directory.resolve(job.getId() + FILE_SUFFIX);
+        try {
+            long rows = write(job.getEventId(), part);
+            Files.move(part, file, StandardCopyOption.ATOMIC_MOVE);
+            job.complete(file, rows, Files.size(file));
+        } catch (Exception e) {
+            deleteQuietly(part);
+            log.warn("Katılımcı export'u başarısız. Etkinlik: {}, iş: {}", job.getEventId(), job.getId(), e);
+            job.fail("Export dosyası oluşturulamadı");
+        } finally {
+            this.activeByEvent.remove(activeKey(job), job);
+        }
+    }
+
+    private static String activeKey(AttendeeExportJob job) {
+        return job.getOwnerId() + ":" + job.getEventId();
+    }
+
+    private long write(Long eventId, Path target) throws IOException {
+        long[] rows = {0};
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(target), BUFFER_SIZE), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            out.write(HEADER);
+            StringBuilder line = new StringBuilder(256);
+            try {
+                this.registrationService.exportAttendees(eventId, row -> {
+                    line.setLength(0);
+                    appendRow(line, row);
+                    try {
+                        out.append(line);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    rows[0]++;
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+        return rows[0];
+    }
+
+    private static void appendRow(StringBuilder line, AttendeeRow row) {
+        line.append(row.getRegistrationId()).append(',');
+        appendField(line, row.getRegisteredAt() != null ? row.getRegisteredAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) : null);
+        line.append(',').append(row.getTicketTypeId()).append(',');
+        appendField(line, row.getTicketTypeName());
+        line.append(',');
+        if (row.getPrice() != null) {
+            line.append(row.getPrice());
+        }
+        line.append(',').append(row.getUserId()).append(',');
+        appendField(line, row.getUserName());
+        line.append(',');
+        appendField(line, row.getUserEmail());
+        line.append('\n');
+    }
+
+    /**
+     * RFC 4180 kaçışı: virgül, tırnak veya satır sonu içeren alanlar tırnak içine alınır.
+     * =, +, -, @ ile başlayan değerlerin başına ' eklenir; dosya tablo programında açıldığında formül olarak çalışmaz.
+     */
+    private static void appendField(StringBuilder line, String value) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        String safe = "=+-@".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        boolean quote = safe.indexOf(',') >= 0 || safe.indexOf('"') >= 0 || safe.indexOf('\n') >= 0 || safe.indexOf('\r') >= 0;
+        if (!quote) {
+            line.append(safe);
+            return;
+        }
+        line.append('"').append(safe.replace("\"", "\"\"")).append('"');
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Export dosyası silinemedi: {}", path, e);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.business.concretes;
 
 import com.example.business.abstracts.IAuthenticationService;
+import com.example.business.abstracts.IRefreshTokenService;
+import com.example.business.auth.RotatedRefreshToken;
 import com.example.dao.UserRepo;
 import com.example.dto.request.auth.LoginRequest;
 import com.example.dto.request.auth.RefreshTokenRequest;
@@ -8,6 +10,7 @@ import com.example.dto.request.auth.RegisterRequest;
 import com.example.dto.response.AuthenticationResponse;
 import com.example.entities.User;
 import com.example.enums.AuthProvider;
+import com.example.exception.AccountDisabledException;
 import com.example.exception.AlreadyExistsException;
 import com.example.exception.NotFoundException;
 import com.example.jwt.JwtService;
@@ -25,22 +28,25 @@ import java.util.Optional;
  * - Kullanıcı kaydı (register)
  * - Kullanıcı girişi (login)
  * - JWT access & refresh token üretimi
- * - Refresh token ile yeni access token oluşturma
+ * - Refresh token ile yeni access token oluşturma (token saklama ve rotation IRefreshTokenService'tedir)
  */
 @Service
 public class AuthManager implements IAuthenticationService {
     private final UserRepo userRepo;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final IRefreshTokenService refreshTokenService;
     private final org.springframework.security.authentication.AuthenticationManager authenticationManager;
 
     public AuthManager(UserRepo userRepo,
                        PasswordEncoder passwordEncoder,
                        JwtService jwtService,
+                       IRefreshTokenService refreshTokenService,
                        org.springframework.security.authentication.AuthenticationManager authenticationManager) {
         this.userRepo = userRepo;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
+        this.refreshTokenService = refreshTokenService;
         this.authenticationManager = authenticationManager;
     }
 
@@ -91,11 +97,8 @@ public class AuthManager implements IAuthenticationService {
 
         // JWT token üret
         String accessToken = jwtService.generateToken(savedUser);
-        String refreshToken = jwtService.generateRefreshToken(savedUser);
-
-        // Refresh token'ı database'e kaydet
-        savedUser.setRefreshToken(refreshToken);
-        userRepo.save(savedUser);
+        // Refresh token yeni bir aile olarak refresh_tokens tablosuna (özeti) kaydedilir
+        String refreshToken = refreshTokenService.issue(savedUser);
 
         // Response oluştur
         return AuthenticationResponse.builder()
@@ -126,6 +129,9 @@ public class AuthManager implements IAuthenticationService {
         User user = userRepo.findByEmail(request.getEmail())
                 .orElseThrow(() -> new NotFoundException("Kullanıcı bulunamadı"));
 
+        // Devre dışı bırakılmış kullanıcıya token verilmez
+        requireEnabled(user);
+
         // Provider kontrolü
         if (user.getAuthProvider() != request.getAuthProvider()) {
             throw new IllegalArgumentException("Bu email " + user.getAuthProvider() + " ile kayıtlı");
@@ -153,11 +159,8 @@ public class AuthManager implements IAuthenticationService {
 
         // JWT token üret
         String accessToken = jwtService.generateToken(user);
-        String refreshToken = jwtService.generateRefreshToken(user);
-
-        // Refresh token'ı database'e kaydet
-        user.setRefreshToken(refreshToken);
-        userRepo.save(user);
+        // Refresh token yeni bir aile olarak refresh_tokens tablosuna (özeti) kaydedilir
+        String refreshToken = refreshTokenService.issue(user);
 
         return AuthenticationResponse.builder()
                 .token(accessToken)
@@ -173,39 +176,25 @@ public class AuthManager implements IAuthenticationService {
      * Refresh token ile yeni access token üretir.
      *
      * Kurallar:
-     * - Refresh token geçerli olmalıdır
-     * - Refresh token database'de mevcut olmalıdır
-     * - Yeni access token ve refresh token üretilir
+     * - Refresh token refresh_tokens tablosunda mevcut ve süresi dolmamış olmalıdır (özet üzerinden index'li nokta sorgusu)
+     * - Refresh token döndürülür: eski token kullanılmış sayılır, aynı ailede yeni refresh token üretilir
+     * - Kullanılmış bir token tekrar gelirse ailenin tamamı iptal edilir (401)
      *
      * @param request Refresh token
      * @return Yeni access token ve refresh token içeren response
      */
     @Override
     public AuthenticationResponse refreshToken(RefreshTokenRequest request) {
-        // Refresh token ile kullanıcıyı bul
-        User user = userRepo.findByRefreshToken(request.getRefreshToken())
-                .orElseThrow(() -> new com.example.exception.NotFoundException("Geçersiz refresh token"));
+        RotatedRefreshToken rotated = refreshTokenService.rotate(request.getRefreshToken());
+        User user = rotated.getUser();
 
-        // Refresh token'ın geçerliliğini kontrol et
-        if (!jwtService.isTokenValid(request.getRefreshToken())) {
-            // Refresh token geçersizse database'den temizle
-            user.setRefreshToken(null);
-            userRepo.save(user);
-            throw new com.example.exception.NotFoundException("Refresh token süresi dolmuş");
-        }
-
-        // Yeni access token ve refresh token üret
+        // Yeni access token üret
         String newAccessToken = jwtService.generateToken(user);
-        String newRefreshToken = jwtService.generateRefreshToken(user);
-
-        // Yeni refresh token'ı database'e kaydet
-        user.setRefreshToken(newRefreshToken);
-        userRepo.save(user);
 
         // Response oluştur
         return AuthenticationResponse.builder()
                 .token(newAccessToken)
-                .refreshToken(newRefreshToken)
+                .refreshToken(rotated.getRefreshToken())
                 .tokenType("Bearer")
                 .userId(user.getId())
                 .email(user.getEmail())
@@ -217,21 +206,14 @@ public class AuthManager implements IAuthenticationService {
      * Kullanıcının çıkış (logout) işlemini gerçekleştirir.
      *
      * İşleyiş:
-     * - Client tarafından gönderilen refresh token ile kullanıcı bulunur
-     * - Kullanıcı mevcutsa refresh token database'den temizlenir
-     * - Böylece refresh token tekrar kullanılamaz hale gelir
+     * - Client tarafından gönderilen refresh token'ın ailesi refresh_tokens tablosundan silinir
+     * - Sadece bu cihazın oturumu kapanır; kullanıcının diğer cihazlardaki oturumları etkilenmez
      *
      * @param refreshToken Kullanıcıya ait refresh token
      */
     @Override
     public void logout(String refreshToken) {
-        User user = userRepo.findByRefreshToken(refreshToken)
-                .orElse(null);
-
-        if (user != null) {
-            user.setRefreshToken(null); // Refresh token'ı temizle
-            userRepo.save(user);
-        }
+        refreshTokenService.revoke(refreshToken);
     }
 
     /**
@@ -277,15 +259,13 @@ public class AuthManager implements IAuthenticationService {
             user.setCreatedAt(LocalDateTime.now());
         }
 
+        requireEnabled(user);
         user = userRepo.save(user);
 
         // JWT token üret
         String accessToken = jwtService.generateToken(user);
-        String refreshToken = jwtService.generateRefreshToken(user);
-
-        // Refresh token'ı database'e kaydet
-        user.setRefreshToken(refreshToken);
-        userRepo.save(user);
+        // Refresh token yeni bir aile olarak refresh_tokens tablosuna (özeti) kaydedilir
+        String refreshToken = refreshTokenService.issue(user);
 
         return AuthenticationResponse.builder()
                 .token(accessToken)
@@ -296,4 +276,11 @@ public class AuthManager implements IAuthenticationService {
                 .role(user.getRole().name())
                 .build();
     }
+
+    // enabled=false olan kullanıcılar için token üretimini engeller
+    private static void requireEnabled(User user) {
+        if (!user.isEnabled()) {
+            throw new AccountDisabledException("Kullanıcı hesabı devre dışı bırakılmış");
+        }
+    }
 }
@@ -1,13 +1,12 @@
 package com.example.business.concretes;
 
 import com.example.business.abstracts.ICategoryService;
+import com.example.business.paging.KeysetPaging;
 import com.example.dao.CategoryRepo;
 import com.example.entities.Category;
 import com.example.exception.AlreadyExistsException;
 import com.example.exception.NotFoundException;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -47,9 +46,14 @@ public class CategoryManager implements ICategoryService {
 
     // Sayfalama (pagination) ile kategori listesini döner
     @Override
-    public Page<Category> cursor(int page, int pageSize) {
-        Pageable pageable = PageRequest.of(page, pageSize);
-        return this.categoryRepo.findAll(pageable);
+    public Slice<Category> cursor(Long afterId, int pageSize) {
+        int size = KeysetPaging.pageSize(pageSize);
+        return KeysetPaging.toSlice(this.categoryRepo.findByIdGreaterThanOrderByIdAsc(KeysetPaging.afterId(afterId), KeysetPaging.lookahead(size)), size);
+    }
+
+    @Override
+    public long count() {
+        return this.categoryRepo.count();
     }
 
     // Verilen ID’ye sahip kategoriyi siler
@@ -0,0 +1,346 @@
+package com.example.business.concretes;
+
+import com.example.business.abstracts.IEventFacetService;
+import com.example.business.facet.EventFacets;
+import com.example.business.facet.EventIdBitmap;
+import com.example.business.facet.PriceBands;
+import com.example.business.paging.KeysetPaging;
+import com.example.dao.EventRepo;
+import com.example.dao.TicketTypeRepo;
+import com.example.entities.Event;
+import com.example.entities.TicketType;
+import com.example.exception.InvalidFacetException;
+import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Kategori, fiyat aralığı ve ay facet'leri için bellekte tutulan bitmap index'leri.
+ *
+ * - Her facet değeri için etkinlik id'lerinden oluşan sıkıştırılmış bir bitmap (EventIdBitmap) tutulur
+ * - Facet sayıları ve filtrelenmiş id kümesi bitmap kesişimlerinden hesaplanır, GROUP BY sorgusu çalışmaz;
+ *   veritabanına yalnızca sayfadaki etkinlikleri yüklemek için tek bir IN sorgusu gider
+ * - EventManager ve TicketTypeManager yazmaları index'i artımlı olarak günceller
+ * - Açılışta ve periyodik olarak (EventFacetIndexJob) veritabanından yeniden oluşturulur; yeniden oluşturma
+ *   sırasında gelen yazmalar kaydedilip yeni index'e de uygulanır, böylece kaybolmaz
+ *
+ * Okumalar read lock, yazmalar write lock altında çalışır.
+ */
+@Service
+public class EventFacetManager implements IEventFacetService {
+    private static final Logger log = LoggerFactory.getLogger(EventFacetManager.class);
+
+    private final EventRepo eventRepo;
+    private final TicketTypeRepo ticketTypeRepo;
+    private final PriceBands priceBands;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private FacetIndex index;
+    private List<Consumer<FacetIndex>> pendingWrites; // Yeniden oluşturma sürerken gelen yazmalar (yoksa null)
+
+    public EventFacetManager(EventRepo eventRepo, TicketTypeRepo ticketTypeRepo,
+                             @Value("${eventhub.facets.price-bands:0,250,500,1000}") double[] priceBandBounds) {
+        this.eventRepo = eventRepo;
+        this.ticketTypeRepo = ticketTypeRepo;
+        this.priceBands = new PriceBands(priceBandBounds);
+        this.index = new FacetIndex(this.priceBands);
+    }
+
+    @Override
+    public EventFacets browse(Long categoryId, String priceBand, String month, Long afterId, int pageSize) {
+        int size = KeysetPaging.pageSize(pageSize);
+        Integer band = null;
+        if (priceBand != null) {
+            band = this.priceBands.indexOf(priceBand);
+            if (band < 0) {
+                throw new InvalidFacetException("Tanımsız fiyat aralığı: " + priceBand);
+            }
+        }
+        YearMonth yearMonth = null;
+        if (month != null) {
+            try {
+                yearMonth = YearMonth.parse(month);
+            } catch (DateTimeParseException e) {
+                throw new InvalidFacetException("Ay filtresi yyyy-MM biçiminde olmalıdır: " + month);
+            }
+        }
+
+        Map<Long, Long> categoryCounts = new LinkedHashMap<>();
+        Map<String, Long> priceBandCounts = new LinkedHashMap<>();
+        Map<String, Long> monthCounts = new LinkedHashMap<>();
+        long total;
+        long[] ids;
+
+        this.lock.readLock().lock();
+        try {
+            FacetIndex current = this.index;
+            EventIdBitmap categoryFilter = current.categoryFilter(categoryId);
+            EventIdBitmap bandFilter = current.bandFilter(band);
+            EventIdBitmap monthFilter = current.monthFilter(yearMonth);
+
+            // Her facet, kendi dışındaki filtrelerin kesişimi üzerinde sayılır
+            EventIdBitmap exceptCategory = intersect(current.all, bandFilter, monthFilter);
+            EventIdBitmap exceptBand = intersect(current.all, categoryFilter, monthFilter);
+            EventIdBitmap exceptMonth = intersect(current.all, categoryFilter, bandFilter);
+            new TreeMap<>(current.byCategory).forEach((id, bitmap) ->
+                    putNonZero(categoryCounts, id, EventIdBitmap.andCardinality(bitmap, exceptCategory)));
+            for (int i = 0; i < current.byPriceBand.length; i++) {
+                putNonZero(priceBandCounts, this.priceBands.label(i), EventIdBitmap.andCardinality(current.byPriceBand[i], exceptBand));
+            }
+            new TreeMap<>(current.byMonth).forEach((key, bitmap) ->
+                    putNonZero(monthCounts, key.toString(), EventIdBitmap.andCardinality(bitmap, exceptMonth)));
+
+            EventIdBitmap matching = intersect(exceptCategory, categoryFilter);
+            total = matching.cardinality();
+            ids = matching.select(KeysetPaging.afterId(afterId), size + 1);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+
+        // Sayfadaki etkinlikler tek sorguda yüklenir; IN sorgusu sırayı korumadığı için id sırası bitmap'ten alınır
+        List<Long> pageIds = Arrays.stream(ids).limit(size).boxed().toList();
+        Map<Long, Event> events = this.eventRepo.findAllWithCategoryAndUserByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+        List<Event> page = pageIds.stream().filter(events::containsKey).map(events::get).toList();
+
+        return new EventFacets(categoryCounts, priceBandCounts, monthCounts, total,
+                new SliceImpl<>(page, PageRequest.ofSize(size), ids.length > size));
+    }
+
+    @Override
+    public void indexEvent(Event event) {
+        Long categoryId = event.getCategory() != null ? event.getCategory().getId() : null;
+        YearMonth month = event.getDate() != null ? YearMonth.from(event.getDate()) : null;
+        this.write(index -> index.putEvent(event.getId(), categoryId, month));
+    }
+
+    @Override
+    public void removeEvent(Long eventId) {
+        this.write(index -> index.removeEvent(eventId));
+    }
+
+    @Override
+    public void indexTicketType(TicketType ticketType) {
+        Long eventId = ticketType.getEvent().getId();
+        Double price = ticketType.getPrice();
+        this.write(index -> index.putTicketType(ticketType.getId(), eventId, price));
+    }
+
+    @Override
+    public void removeTicketType(Long ticketTypeId) {
+        this.write(index -> index.removeTicketType(ticketTypeId));
+    }
+
+    /**
+     * Index'i veritabanından yeniden oluşturur.
+     * Yükleme kilit dışında yapılır (okumalar beklemez); bu sürede gelen yazmalar yeni index'e de uygulanır.
+     * Hata durumunda mevcut index korunur.
+     */
+    @Override
+    public void rebuild() {
+        this.lock.writeLock().lock();
+        try {
+            if (this.pendingWrites != null) {
+                return; // Başka bir yeniden oluşturma sürüyor
+            }
+            this.pendingWrites = new ArrayList<>();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+
+        FacetIndex rebuilt = null;
+        try {
+            rebuilt = new FacetIndex(this.priceBands);
+            for (EventRepo.EventFacetRow row : this.eventRepo.findFacetRows()) {
+                rebuilt.putEvent(row.getId(), row.getCategoryId(), row.getDate() != null ? YearMonth.from(row.getDate()) : null);
+            }
+            for (TicketTypeRepo.TicketTypeFacetRow row : this.ticketTypeRepo.findFacetRows()) {
+                rebuilt.putTicketType(row.getId(), row.getEventId(), row.getPrice());
+            }
+        } catch (RuntimeException e) {
+            rebuilt = null;
+            log.warn("Etkinlik facet index'i yeniden oluşturulamadı: {}", e.getMessage());
+        } finally {
+            this.lock.writeLock().lock();
+            try {
+                if (rebuilt != null) {
+                    this.pendingWrites.forEach(rebuilt::apply);
+                    this.index = rebuilt;
+                    log.info("Etkinlik facet index'i yeniden oluşturuldu: {} etkinlik", rebuilt.all.cardinality());
+                }
+                this.pendingWrites = null;
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void write(Consumer<FacetIndex> operation) {
+        this.lock.writeLock().lock();
+        try {
+            operation.accept(this.index);
+            if (this.pendingWrites != null) {
+                this.pendingWrites.add(operation);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    // null filtreler atlanır
+    private static EventIdBitmap intersect(EventIdBitmap base, EventIdBitmap... filters) {
+        EventIdBitmap result = base;
+        for (EventIdBitmap filter : filters) {
+            if (filter != null) {
+                result = EventIdBitmap.and(result, filter);
+            }
+        }
+        return result;
+    }
+
+    private static <K> void putNonZero(Map<K, Long> counts, K key, long count) {
+        if (count > 0) {
+            counts.put(key, count);
+        }
+    }
+
+    /**
+     * Facet bitmap'leri ve artımlı güncelleme için gereken ters eşlemeler.
+     * Bir etkinlik, en az bir bilet türünün fiyatı o aralıktaysa fiyat aralığı bitmap'inde yer alır.
+     */
+    private static final class FacetIndex {
+        private static final EventIdBitmap EMPTY = new EventIdBitmap();
+
+        private final PriceBands priceBands;
+        private final EventIdBitmap all = new EventIdBitmap();
+        private final Map<Long, EventIdBitmap> byCategory = new HashMap<>();
+        private final Map<YearMonth, EventIdBitmap> byMonth = new HashMap<>();
+        private final EventIdBitmap[] byPriceBand;
+        private final Map<Long, EventEntry> events = new HashMap<>();
+        private final Map<Long, TicketTypeEntry> ticketTypes = new HashMap<>();
+        private final Map<Long, int[]> bandCounts = new HashMap<>(); // Etkinlik ID → aralık başına bilet türü sayısı
+
+        private FacetIndex(PriceBands priceBands) {
+            this.priceBands = priceBands;
+            this.byPriceBand = new EventIdBitmap[priceBands.size()];
+            for (int i = 0; i < this.byPriceBand.length; i++) {
+                this.byPriceBand[i] = new EventIdBitmap();
+            }
+        }
+
+        private void apply(Consumer<FacetIndex> operation) {
+            operation.accept(this);
+        }
+
+        private EventIdBitmap categoryFilter(Long categoryId) {
+            return categoryId == null ? null : this.byCategory.getOrDefault(categoryId, EMPTY);
+        }
+
+        private EventIdBitmap bandFilter(Integer band) {
+            return band == null ? null : this.byPriceBand[band];
+        }
+
+        private EventIdBitmap monthFilter(YearMonth month) {
+            return month == null ? null : this.byMonth.getOrDefault(month, EMPTY);
+        }
+
+        private void putEvent(Long eventId, Long categoryId, YearMonth month) {
+            this.clearEvent(eventId);
+            this.events.put(eventId, new EventEntry(categoryId, month));
+            this.all.add(eventId);
+            if (categoryId != null) {
+                this.byCategory.computeIfAbsent(categoryId, key -> new EventIdBitmap()).add(eventId);
+            }
+            if (month != null) {
+                this.byMonth.computeIfAbsent(month, key -> new EventIdBitmap()).add(eventId);
+            }
+        }
+
+        private void removeEvent(Long eventId) {
+            this.clearEvent(eventId);
+            // Etkinlik silinince bilet türleri de cascade ile silinir
+            this.ticketTypes.values().removeIf(entry -> entry.eventId.equals(eventId));
+            this.bandCounts.remove(eventId);
+            for (EventIdBitmap bitmap : this.byPriceBand) {
+                bitmap.remove(eventId);
+            }
+        }
+
+        private void putTicketType(Long ticketTypeId, Long eventId, Double price) {
+            this.removeTicketType(ticketTypeId);
+            if (price == null) {
+                return;
+            }
+            int band = this.priceBands.bandOf(price);
+            this.ticketTypes.put(ticketTypeId, new TicketTypeEntry(eventId, band));
+            if (this.bandCounts.computeIfAbsent(eventId, key -> new int[this.byPriceBand.length])[band]++ == 0) {
+                this.byPriceBand[band].add(eventId);
+            }
+        }
+
+        private void removeTicketType(Long ticketTypeId) {
+            TicketTypeEntry entry = this.ticketTypes.remove(ticketTypeId);
+            if (entry == null) {
+                return;
+            }
+            int[] counts = this.bandCounts.get(entry.eventId);
+            if (counts != null && --counts[entry.band] == 0) {
+                this.byPriceBand[entry.band].remove(entry.eventId);
+            }
+        }
+
+        private void clearEvent(Long eventId) {
+            EventEntry previous = this.events.remove(eventId);
+            if (previous == null) {
+                return;
+            }
+            this.all.remove(eventId);
+            if (previous.categoryId != null) {
+                removeFrom(this.byCategory, previous.categoryId, eventId);
+            }
+            if (previous.month != null) {
+                removeFrom(this.byMonth, previous.month, eventId);
+            }
+        }
+
+        // Boşalan facet değerleri map'ten çıkarılır
+        private static <K> void removeFrom(Map<K, EventIdBitmap> facet, K key, Long eventId) {
+            EventIdBitmap bitmap = facet.get(key);
+            if (bitmap != null) {
+                bitmap.remove(eventId);
+                if (bitmap.cardinality() == 0) {
+                    facet.remove(key);
+                }
+            }
+        }
+    }
+
+    @AllArgsConstructor
+    private static final class EventEntry {
+        private final Long categoryId;
+        private final YearMonth month;
+    }
+
+    @AllArgsConstructor
+    private static final class TicketTypeEntry {
+        private final Long eventId;
+        private final int band;
+    }
+}
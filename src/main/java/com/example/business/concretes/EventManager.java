@@ -1,19 +1,35 @@
 package com.example.business.concretes;
 
+import com.example.business.abstracts.IEventFacetService;
 import com.example.business.abstracts.IEventService;
+import com.example.business.abstracts.IEventTimelineService;
+import com.example.business.geo.GeoGrid;
+import com.example.business.geo.NearbyEvent;
+import com.example.business.paging.KeysetPaging;
+import com.example.business.search.RankedEvent;
 import com.example.dao.CategoryRepo;
 import com.example.dao.EventRepo;
 import com.example.dao.UserRepo;
+import com.example.dto.response.EventResponse;
 import com.example.entities.Category;
 import com.example.entities.Event;
 import com.example.entities.User;
+import com.example.enums.NearbySort;
+import com.example.exception.InvalidLocationException;
 import com.example.exception.NotFoundException;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Event entity’si için iş kurallarını ve CRUD operasyonlarını yöneten servis sınıfı.
@@ -22,17 +38,26 @@ import java.util.List;
  * - Event oluşturma, güncelleme, silme ve getirme işlemleri
  * - Event ↔ Category ve Event ↔ User (organizer) ilişkilerinin doğrulanması
  * - İlgili entity’ler bulunamazsa NotFoundException fırlatılması
+ * - Yazma işlemlerinin bellekteki index'lere (IEventTimelineService, IEventFacetService) yansıtılması
  */
 @Service
 public class EventManager implements IEventService {
     private final EventRepo eventRepo;
     private final CategoryRepo categoryRepo;
     private final UserRepo userRepo;
+    private final IEventTimelineService eventTimelineService;
+    private final IEventFacetService eventFacetService;
+    private final double maxRadiusKm;
 
-    public EventManager(EventRepo eventRepo, CategoryRepo categoryRepo, UserRepo userRepo) {
+    public EventManager(EventRepo eventRepo, CategoryRepo categoryRepo, UserRepo userRepo,
+                        IEventTimelineService eventTimelineService, IEventFacetService eventFacetService,
+                        @Value("${eventhub.geo.max-radius-km:200}") double maxRadiusKm) {
         this.eventRepo = eventRepo;
         this.categoryRepo = categoryRepo;
         this.userRepo = userRepo;
+        this.eventTimelineService = eventTimelineService;
+        this.eventFacetService = eventFacetService;
+        this.maxRadiusKm = maxRadiusKm;
     }
 
     /**
@@ -57,7 +82,10 @@ public class EventManager implements IEventService {
         event.setCategory(category);
         event.setUser(user);
 
-        return this.eventRepo.save(event);
+        Event saved = this.eventRepo.save(event);
+        this.eventTimelineService.put(saved); // Yaklaşan etkinlikler index'i güncel tutulur
+        this.eventFacetService.indexEvent(saved);
+        return saved;
     }
 
     @Override
@@ -98,31 +126,135 @@ public class EventManager implements IEventService {
             event.setUser(existingEvent.getUser());// User gönderilmemişse mevcut değer korunur
         }
 
-        return this.eventRepo.save(event);
+        Event updated = this.eventRepo.save(event);
+        this.eventTimelineService.put(updated); // Tarih değiştiyse eski konumundan çıkarılıp yenisine yazılır
+        this.eventFacetService.indexEvent(updated);
+        return updated;
     }
 
     @Override
-    public Page<Event> cursor(int page, int pageSize) {
-        Pageable pageable = PageRequest.of(page,pageSize);
-        return this.eventRepo.findAll(pageable);
+    public EventResponse getResponse(Long id) {
+        return this.eventRepo.findResponseById(id).orElseThrow(() -> new NotFoundException("Etkinlik bulunamadı. ID: " + id));
+    }
+
+    @Override
+    public Slice<EventResponse> cursor(Long afterId, int pageSize) {
+        int size = KeysetPaging.pageSize(pageSize);
+        return KeysetPaging.toSlice(this.eventRepo.findResponsesAfter(KeysetPaging.afterId(afterId), KeysetPaging.lookahead(size)), size);
+    }
+
+    // Export: bağlantı yalnızca bu metot süresince (yani aktarım boyunca) tutulur; stream kapanınca cursor ve bağlantı serbest kalır
+    @Override
+    @Transactional(readOnly = true)
+    public void export(Consumer<EventResponse> sink) {
+        try (Stream<EventResponse> rows = this.eventRepo.streamAllResponses()) {
+            rows.forEach(sink);
+        }
+    }
+
+    @Override
+    public long count() {
+        return this.eventRepo.count();
     }
 
     @Override
     public boolean delete(Long id) {
         Event event = this.get(id);
         this.eventRepo.delete(event);
+        this.eventTimelineService.remove(id);
+        this.eventFacetService.removeEvent(id);
         return true;
     }
 
-    //Belirli bir kategoriye ait tüm etkinlikleri getirir.
+    //Belirli bir kategoriye ait etkinlikleri keyset sayfalı getirir (sayfa boyutu KeysetPaging.MAX_PAGE_SIZE ile sınırlı).
+    @Override
+    public Slice<EventResponse> getByCategory(Long categoryId, Long afterId, int pageSize) {
+        int size = KeysetPaging.pageSize(pageSize);
+        return KeysetPaging.toSlice(this.eventRepo.findResponsesByCategoryId(categoryId, KeysetPaging.afterId(afterId), KeysetPaging.lookahead(size)), size);
+    }
+
+    //Belirli bir kullanıcıya ait etkinlikleri keyset sayfalı getirir.
+    @Override
+    public Slice<EventResponse> getByUser(Long userId, Long afterId, int pageSize) {
+        int size = KeysetPaging.pageSize(pageSize);
+        return KeysetPaging.toSlice(this.eventRepo.findResponsesByUserId(userId, KeysetPaging.afterId(afterId), KeysetPaging.lookahead(size)), size);
+    }
+
+    /**
+     * Etkinliklerde başlık, açıklama ve konum üzerinden Türkçe tam metin arama yapar.
+     *
+     * - Eşleşme ve puanlama search_vector GIN index'i üzerinden yapılır (ts_rank_cd, başlık en ağırlıklı)
+     * - Sonuçlar puana göre azalan sırada, (rank, id) keyset sayfalama ile döner
+     * - Sayfadaki etkinlikler kategori ve organizatörleri ile tek bir IN sorgusunda yüklenir
+     *
+     * @param query     Kullanıcının arama metni
+     * @param afterRank Önceki sayfanın son kaydının puanı (ilk sayfada null)
+     * @param afterId   Önceki sayfanın son kaydının ID'si (ilk sayfada null)
+     * @param pageSize  Sayfa boyutu
+     * @return Puanlarıyla birlikte etkinlikler
+     */
     @Override
-    public List<Event> getByCategory(Long categoryId) {
-        return this.eventRepo.findByCategoryId(categoryId);
+    public Slice<RankedEvent> search(String query, Float afterRank, Long afterId, int pageSize) {
+        int size = KeysetPaging.pageSize(pageSize);
+        if (query == null || query.isBlank()) {
+            return new SliceImpl<>(List.of(), PageRequest.ofSize(size), false);
+        }
+        List<EventRepo.EventSearchHit> hits = this.eventRepo.search(query.trim(),
+                afterRank != null ? afterRank : Float.POSITIVE_INFINITY,
+                afterId != null ? afterId : Long.MAX_VALUE,
+                size + 1);
+        Slice<EventRepo.EventSearchHit> hitSlice = KeysetPaging.toSlice(hits, size);
+
+        Map<Long, Event> events = this.eventRepo.findAllWithCategoryAndUserByIdIn(
+                        hitSlice.getContent().stream().map(EventRepo.EventSearchHit::getId).toList()).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+
+        // IN sorgusu sırayı korumaz, puan sırası hit listesinden alınır
+        List<RankedEvent> ranked = hitSlice.getContent().stream()
+                .filter(hit -> events.containsKey(hit.getId()))
+                .map(hit -> new RankedEvent(events.get(hit.getId()), hit.getRank()))
+                .toList();
+        return new SliceImpl<>(ranked, PageRequest.ofSize(size), hitSlice.hasNext());
     }
 
-    //Belirli bir kullanıcıya ait tüm etkinlikleri getirir.
+    /**
+     * Verilen noktanın çevresindeki etkinlikleri mesafeleri ile birlikte getirir.
+     *
+     * - Arama dairesinin sınırlayıcı kutusu GeoGrid hücre aralıklarına çevrilir, adaylar geo_cell index'inden okunur
+     * - Kesin haversine mesafesi yalnızca adaylar için hesaplanır; satır satır tam tablo taraması yapılmaz
+     * - Konumu girilmemiş etkinlikler (geo_cell null) sonuçlara dahil edilmez
+     *
+     * @param latitude  Merkez enlemi
+     * @param longitude Merkez boylamı
+     * @param radiusKm  Arama yarıçapı (km), en fazla eventhub.geo.max-radius-km
+     * @param sort      DISTANCE (en yakın önce) veya DATE (en erken önce)
+     * @param limit     En fazla dönecek kayıt sayısı
+     * @return Mesafeleriyle birlikte etkinlikler
+     * @throws InvalidLocationException Koordinat veya yarıçap geçersizse
+     */
     @Override
-    public List<Event> getByUser(Long userId) {
-        return this.eventRepo.findByUserId(userId);
+    public List<NearbyEvent> nearby(double latitude, double longitude, double radiusKm, NearbySort sort, int limit) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new InvalidLocationException("Geçersiz koordinat. Enlem -90..90, boylam -180..180 aralığında olmalıdır");
+        }
+        if (!(radiusKm > 0) || radiusKm > this.maxRadiusKm) {
+            throw new InvalidLocationException("Yarıçap 0 ile " + this.maxRadiusKm + " km arasında olmalıdır");
+        }
+
+        List<GeoGrid.CellRange> ranges = GeoGrid.cover(latitude, longitude, radiusKm);
+        String lows = ranges.stream().map(range -> String.valueOf(range.getLow())).collect(Collectors.joining(","));
+        String highs = ranges.stream().map(range -> String.valueOf(range.getHigh())).collect(Collectors.joining(","));
+        List<EventRepo.EventNearbyHit> hits = this.eventRepo.findNearby(latitude, longitude, radiusKm, lows, highs,
+                sort == NearbySort.DATE, KeysetPaging.pageSize(limit));
+
+        Map<Long, Event> events = this.eventRepo.findAllWithCategoryAndUserByIdIn(
+                        hits.stream().map(EventRepo.EventNearbyHit::getId).toList()).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+
+        // IN sorgusu sırayı korumaz, sıralama hit listesinden alınır
+        return hits.stream()
+                .filter(hit -> events.containsKey(hit.getId()))
+                .map(hit -> new NearbyEvent(events.get(hit.getId()), hit.getDistance()))
+                .toList();
     }
 }
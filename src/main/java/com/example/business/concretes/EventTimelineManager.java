@@ -0,0 +1,196 @@
+package com.example.business.concretes;
+
+import com.example.business.abstracts.IEventTimelineService;
+import com.example.business.timeline.TimelineEvent;
+import com.example.dao.EventRepo;
+import com.example.entities.Event;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Yaklaşan etkinlikler için bellekte tutulan, tarihe göre sıralı zaman çizelgesi.
+ *
+ * - Index (tarih, id) anahtarlı bir ConcurrentSkipListMap'tir; tarih aralığı sorgusu bir subMap görünümü
+ *   üzerinde ilerler, okuma yolunda kilit ve veritabanı erişimi yoktur
+ * - EventManager her save / update / delete sonrasında put / remove çağırır
+ * - Uygulama açılışında ve periyodik olarak (EventTimelineJob) veritabanından yeniden oluşturulur; yeni index hazır olunca
+ *   tek referans değişimiyle devreye girer (diğer instance'lardaki yazmalar ve kategori / organizatör
+ *   adı değişiklikleri bu sayede yakalanır)
+ * - Tarihi geçen etkinlikler periyodik olarak çıkarılır; bellekte yalnızca gelecekteki etkinlikler kalır
+ */
+@Service
+public class EventTimelineManager implements IEventTimelineService {
+    private static final Logger log = LoggerFactory.getLogger(EventTimelineManager.class);
+
+    private final EventRepo eventRepo;
+    private final ReentrantLock writeLock = new ReentrantLock(); // Yazmalar ve yeniden oluşturma sıralı çalışır
+    private volatile Timeline timeline = new Timeline();
+    private List<Consumer<Timeline>> pendingWrites; // Yeniden oluşturma sürerken gelen yazmalar (yoksa null, writeLock ile korunur)
+
+    public EventTimelineManager(EventRepo eventRepo) {
+        this.eventRepo = eventRepo;
+    }
+
+    @Override
+    public List<TimelineEvent> upcoming(LocalDateTime from, LocalDateTime to, Long categoryId, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime start = from == null || from.isBefore(now) ? now : from; // Geçmiş etkinlikler listelenmez
+        if (to != null && to.isBefore(start)) {
+            return List.of();
+        }
+
+        NavigableMap<TimelineKey, TimelineEvent> range = to == null
+                ? this.timeline.events.tailMap(TimelineKey.lowest(start), true)
+                : this.timeline.events.subMap(TimelineKey.lowest(start), true, TimelineKey.highest(to), true);
+        return range.values().stream()
+                .filter(event -> categoryId == null || categoryId.equals(event.getCategoryId()))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public void put(Event event) {
+        TimelineEvent timelineEvent = event.getDate() != null && !event.getDate().isBefore(LocalDateTime.now())
+                ? TimelineEvent.of(event)
+                : null;
+        Long eventId = event.getId();
+        this.write(timeline -> {
+            timeline.remove(eventId);
+            if (timelineEvent != null) {
+                timeline.put(timelineEvent);
+            }
+        });
+    }
+
+    @Override
+    public void remove(Long eventId) {
+        this.write(timeline -> timeline.remove(eventId));
+    }
+
+    /**
+     * Index'i veritabanındaki yaklaşan etkinliklerden yeniden oluşturur.
+     * Yükleme kilit dışında yapılır (bu sırada gelen put / remove beklemez); o sürede gelen yazmalar
+     * yeni index'e de uygulanır, böylece değişim sırasında kaybolmaz. Hata durumunda mevcut index korunur.
+     */
+    @Override
+    public void rebuild() {
+        this.writeLock.lock();
+        try {
+            if (this.pendingWrites != null) {
+                return; // Başka bir yeniden oluşturma sürüyor
+            }
+            this.pendingWrites = new ArrayList<>();
+        } finally {
+            this.writeLock.unlock();
+        }
+
+        Timeline rebuilt = null;
+        try {
+            rebuilt = new Timeline();
+            for (Event event : this.eventRepo.findUpcomingWithCategoryAndUser(LocalDateTime.now())) {
+                rebuilt.put(TimelineEvent.of(event));
+            }
+        } catch (RuntimeException e) {
+            rebuilt = null;
+            log.warn("Etkinlik zaman çizelgesi yeniden oluşturulamadı: {}", e.getMessage());
+        } finally {
+            this.writeLock.lock();
+            try {
+                if (rebuilt != null) {
+                    this.pendingWrites.forEach(rebuilt::apply);
+                    this.timeline = rebuilt;
+                    log.info("Etkinlik zaman çizelgesi yeniden oluşturuldu: {} yaklaşan etkinlik", rebuilt.byId.size());
+                }
+                this.pendingWrites = null;
+            } finally {
+                this.writeLock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public int evictPast() {
+        this.writeLock.lock();
+        try {
+            Timeline current = this.timeline;
+            Map<TimelineKey, TimelineEvent> past = current.events.headMap(TimelineKey.lowest(LocalDateTime.now()));
+            int evicted = past.size();
+            past.values().forEach(event -> current.byId.remove(event.getId()));
+            past.clear();
+            return evicted;
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    private void write(Consumer<Timeline> operation) {
+        this.writeLock.lock();
+        try {
+            operation.accept(this.timeline);
+            if (this.pendingWrites != null) {
+                this.pendingWrites.add(operation);
+            }
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    // Sıralı index ve id → anahtar eşlemesi; update / delete sırasında eski anahtarın bulunması için
+    private static final class Timeline {
+        private final ConcurrentSkipListMap<TimelineKey, TimelineEvent> events = new ConcurrentSkipListMap<>();
+        private final Map<Long, TimelineKey> byId = new ConcurrentHashMap<>();
+
+        private void put(TimelineEvent event) {
+            TimelineKey key = new TimelineKey(event.getDate(), event.getId());
+            this.events.put(key, event);
+            this.byId.put(event.getId(), key);
+        }
+
+        private void remove(Long eventId) {
+            TimelineKey key = this.byId.remove(eventId);
+            if (key != null) {
+                this.events.remove(key);
+            }
+        }
+
+        private void apply(Consumer<Timeline> operation) {
+            operation.accept(this);
+        }
+    }
+
+    // Aynı tarihteki etkinlikler id ile ayrılır
+    private static final class TimelineKey implements Comparable<TimelineKey> {
+        private final LocalDateTime date;
+        private final long id;
+
+        private TimelineKey(LocalDateTime date, long id) {
+            this.date = date;
+            this.id = id;
+        }
+
+        private static TimelineKey lowest(LocalDateTime date) {
+            return new TimelineKey(date, Long.MIN_VALUE);
+        }
+
+        private static TimelineKey highest(LocalDateTime date) {
+            return new TimelineKey(date, Long.MAX_VALUE);
+        }
+
+        @Override
+        public int compareTo(TimelineKey other) {
+            int byDate = this.date.compareTo(other.date);
+            return byDate != 0 ? byDate : Long.compare(this.id, other.id);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.business.concretes;
+
+import com.example.business.abstracts.IIdempotencyService;
+import com.example.business.idempotency.IdempotentResponse;
+import com.example.cache.ExpiringCache;
+import com.example.dao.IdempotencyKeyRepo;
+import com.example.entities.IdempotencyKey;
+import com.example.exception.IdempotencyConflictException;
+import com.example.exception.IdempotencyKeyMismatchException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency-Key yönetimi.
+ *
+ * Katmanlar:
+ * - Sınırlı boyutlu ExpiringCache: tamamlanmış yanıtlar TTL süresince bellekte tutulur, tekrar istekler DB'ye hiç gitmez;
+ *   okuma ve yazma global kilit almaz (kapasite aşılınca tek thread temizlik yapar)
+ * - inFlight: bu node'da işlenmekte olan anahtarlar; aynı anahtarla gelen eşzamanlı istekler
+ *   ilk isteğin future'ını bekler ve onun yanıtını alır
+ * - idempotency_keys tablosu: node'lar arası tekil sahiplik (INSERT ... ON CONFLICT DO NOTHING)
+ *   ve yeniden başlatmalardan sonra da geçerli olan TTL'li yanıt saklama
+ *
+ * Her katmanda anahtarla birlikte istek gövdesinin özeti tutulur; anahtar farklı bir gövde ile
+ * tekrar kullanılırsa saklanan yanıt oynatılmaz, IdempotencyKeyMismatchException fırlatılır.
+ *
+ * 5xx yanıtlar saklanmaz; anahtar serbest bırakılır ve client tekrar deneyebilir.
+ */
+@Service
+public class IdempotencyManager implements IIdempotencyService {
+    private static final long DB_POLL_INTERVAL_MS = 50;
+    private static final String MISMATCH_MESSAGE = "Idempotency-Key daha önce farklı bir istek gövdesi ile kullanıldı";
+
+    private final IdempotencyKeyRepo idempotencyKeyRepo;
+    private final ExpiringCache<String, CachedResponse> cache;
+    private final Map<String, Pending> inFlight = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final Duration inFlightTimeout;
+    private final long waitTimeoutMs;
+
+    public IdempotencyManager(IdempotencyKeyRepo idempotencyKeyRepo,
+                              @Value("${eventhub.idempotency.cache-size:10000}") int cacheSize,
+                              @Value("${eventhub.idempotency.ttl-hours:24}") long ttlHours,
+                              @Value("${eventhub.idempotency.in-flight-timeout-ms:30000}") long inFlightTimeoutMs,
+                              @Value("${eventhub.idempotency.wait-timeout-ms:10000}") long waitTimeoutMs) {
+        this.idempotencyKeyRepo = idempotencyKeyRepo;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.inFlightTimeout = Duration.ofMillis(inFlightTimeoutMs);
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.cache = new ExpiringCache<>(cacheSize);
+    }
+
+    @Override
+    public Optional<IdempotentResponse> begin(String keyHash, String requestHash) {
+        long deadline = System.currentTimeMillis() + this.waitTimeoutMs;
+        while (true) {
+            CachedResponse cached = this.getCached(keyHash);
+            if (cached != null) {
+                checkSameRequest(cached.requestHash, requestHash);
+                return Optional.of(cached.response);
+            }
+
+            Pending own = new Pending(requestHash);
+            Pending existing = this.inFlight.putIfAbsent(keyHash, own);
+            if (existing != null) {
+                // Aynı anahtar bu node'da işleniyor, aynı istekse sonucunu bekle
+                checkSameRequest(existing.requestHash, requestHash);
+                IdempotentResponse response = this.await(existing.future, deadline);
+                if (response != null) {
+                    return Optional.of(response);
+                }
+                continue; // İlk istek yanıt saklamadan bitti (5xx / hata), sahipliği tekrar dene
+            }
+
+            try {
+                Optional<IdempotentResponse> stored = this.claimOrWait(keyHash, requestHash, deadline);
+                if (stored.isPresent()) {
+                    this.release(keyHash, own, stored.get());
+                }
+                return stored; // Boşsa sahiplik bizde, future complete/abandon ile tamamlanır
+            } catch (RuntimeException e) {
+                this.release(keyHash, own, null);
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public void complete(String keyHash, String requestHash, IdempotentResponse response) {
+        if (response.getStatusCode() >= 500) {
+            this.abandon(keyHash);
+            return;
+        }
+        this.idempotencyKeyRepo.complete(keyHash, response.getStatusCode(), response.getContentType(),
+                response.getBody(), LocalDateTime.now().plus(this.ttl));
+        this.putCached(keyHash, requestHash, response);
+        this.release(keyHash, this.inFlight.get(keyHash), response);
+    }
+
+    @Override
+    public void abandon(String keyHash) {
+        try {
+            this.idempotencyKeyRepo.deleteInFlight(keyHash);
+        } finally {
+            this.release(keyHash, this.inFlight.get(keyHash), null);
+        }
+    }
+
+    @Override
+    public int purgeExpired(int batchSize) {
+        return this.idempotencyKeyRepo.deleteExpired(LocalDateTime.now(), batchSize);
+    }
+
+    // DB'de anahtarı sahiplenir; başka node işliyorsa tamamlanana kadar tabloyu yoklar
+    private Optional<IdempotentResponse> claimOrWait(String keyHash, String requestHash, long deadline) {
+        while (true) {
+            LocalDateTime now = LocalDateTime.now();
+            if (this.idempotencyKeyRepo.tryInsert(keyHash, requestHash, now, now.plus(this.inFlightTimeout)) == 1) {
+                return Optional.empty();
+            }
+            Optional<IdempotencyKey> row = this.idempotencyKeyRepo.findById(keyHash);
+            if (row.isPresent() && row.get().getStatusCode() != null) {
+                IdempotencyKey key = row.get();
+                checkSameRequest(key.getRequestHash(), requestHash);
+                IdempotentResponse response = new IdempotentResponse(key.getStatusCode(), key.getContentType(), key.getBody());
+                this.putCached(keyHash, key.getRequestHash(), response);
+                return Optional.of(response);
+            }
+            if (row.isPresent() && this.idempotencyKeyRepo.takeOverStale(keyHash, requestHash, now, now.plus(this.inFlightTimeout)) == 1) {
+                return Optional.empty();
+            }
+            if (row.isPresent()) {
+                checkSameRequest(row.get().getRequestHash(), requestHash);
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                throw new IdempotencyConflictException("Aynı Idempotency-Key ile gönderilen istek hâlâ işleniyor, lütfen tekrar deneyin");
+            }
+            try {
+                Thread.sleep(DB_POLL_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IdempotencyConflictException("Idempotency-Key beklemesi kesildi");
+            }
+        }
+    }
+
+    private IdempotentResponse await(CompletableFuture<IdempotentResponse> future, long deadline) {
+        try {
+            return future.get(Math.max(deadline - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            throw new IdempotencyConflictException("Aynı Idempotency-Key ile gönderilen istek hâlâ işleniyor, lütfen tekrar deneyin");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyConflictException("Idempotency-Key beklemesi kesildi");
+        }
+    }
+
+    private void release(String keyHash, Pending pending, IdempotentResponse response) {
+        if (pending != null) {
+            this.inFlight.remove(keyHash, pending);
+            pending.future.complete(response);
+        }
+    }
+
+    private static void checkSameRequest(String storedRequestHash, String requestHash) {
+        if (!requestHash.equals(storedRequestHash)) {
+            throw new IdempotencyKeyMismatchException(MISMATCH_MESSAGE);
+        }
+    }
+
+    private CachedResponse getCached(String keyHash) {
+        return this.cache.get(keyHash, System.currentTimeMillis());
+    }
+
+    private void putCached(String keyHash, String requestHash, IdempotentResponse response) {
+        this.cache.put(keyHash, new CachedResponse(requestHash, response), System.currentTimeMillis() + this.ttl.toMillis());
+    }
+
+    private static final class CachedResponse {
+        private final String requestHash;
+        private final IdempotentResponse response;
+
+        private CachedResponse(String requestHash, IdempotentResponse response) {
+            this.requestHash = requestHash;
+            this.response = response;
+        }
+    }
+
+    // Bu node'da işlenen istek: gövde özeti ve bekleyenlere yanıtı iletecek future
+    private static final class Pending {
+        private final String requestHash;
+        private final CompletableFuture<IdempotentResponse> future = new CompletableFuture<>();
+
+        private Pending(String requestHash) {
+            this.requestHash = requestHash;
+        }
+    }
+}
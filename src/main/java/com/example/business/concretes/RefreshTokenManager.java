@@ -0,0 +1,100 @@
+package com.example.business.concretes;
+
+import com.example.business.abstracts.IRefreshTokenService;
+import com.example.business.auth.RotatedRefreshToken;
+import com.example.dao.RefreshTokenRepo;
+import com.example.entities.RefreshToken;
+import com.example.entities.User;
+import com.example.exception.AccountDisabledException;
+import com.example.exception.NotFoundException;
+import com.example.exception.RefreshTokenReuseException;
+import com.example.jwt.JwtService;
+import com.example.jwt.TokenDigest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Refresh token'ları kullanıcı tablosu yerine refresh_tokens tablosunda yönetir.
+ *
+ * - Token'ın kendisi değil SHA-256 özeti saklanır; refresh ve logout unique index üzerinden nokta sorgusudur
+ * - Her giriş yeni bir aile başlatır; bir cihazdaki giriş diğer cihazların oturumunu düşürmez
+ * - Rotation: her refresh'te eski token kullanıldı olarak işaretlenir ve aynı ailede yenisi verilir
+ * - Reuse tespiti: kullanılmış token tekrar gelirse (çalınmış token senaryosu) ailenin tamamı silinir
+ */
+@Service
+public class RefreshTokenManager implements IRefreshTokenService {
+    private final RefreshTokenRepo refreshTokenRepo;
+    private final JwtService jwtService;
+
+    public RefreshTokenManager(RefreshTokenRepo refreshTokenRepo, JwtService jwtService) {
+        this.refreshTokenRepo = refreshTokenRepo;
+        this.jwtService = jwtService;
+    }
+
+    @Override
+    @Transactional
+    public String issue(User user) {
+        return this.save(user, UUID.randomUUID().toString());
+    }
+
+    // Reuse ve devre dışı kullanıcı durumlarında ailenin silinmesi exception'a rağmen commit edilmelidir
+    @Override
+    @Transactional(noRollbackFor = {RefreshTokenReuseException.class, AccountDisabledException.class})
+    public RotatedRefreshToken rotate(String refreshToken) {
+        RefreshToken current = this.refreshTokenRepo.findByTokenHash(TokenDigest.sha256Hex(refreshToken))
+                .orElseThrow(() -> new NotFoundException("Geçersiz refresh token"));
+
+        LocalDateTime now = LocalDateTime.now();
+        if (!current.getExpiresAt().isAfter(now)) {
+            // Satır temizlik işi tarafından silinir
+            throw new NotFoundException("Refresh token süresi dolmuş");
+        }
+
+        // usedAt kontrolü ve koşullu UPDATE birlikte: aynı token'la eşzamanlı iki refresh'ten sadece biri kazanır
+        if (current.getUsedAt() != null || this.refreshTokenRepo.markUsed(current.getId(), now) == 0) {
+            this.refreshTokenRepo.deleteByFamilyId(current.getFamilyId());
+            throw new RefreshTokenReuseException("Refresh token daha önce kullanılmış, oturum sonlandırıldı. Lütfen tekrar giriş yapın");
+        }
+
+        User user = current.getUser();
+        if (!user.isEnabled()) {
+            this.refreshTokenRepo.deleteByFamilyId(current.getFamilyId());
+            throw new AccountDisabledException("Kullanıcı hesabı devre dışı bırakılmış");
+        }
+
+        return new RotatedRefreshToken(user, this.save(user, current.getFamilyId()));
+    }
+
+    @Override
+    @Transactional
+    public void revoke(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return;
+        }
+        this.refreshTokenRepo.findByTokenHash(TokenDigest.sha256Hex(refreshToken))
+                .ifPresent(token -> this.refreshTokenRepo.deleteByFamilyId(token.getFamilyId()));
+    }
+
+    @Override
+    public int purgeExpired(int batchSize) {
+        return this.refreshTokenRepo.deleteExpired(LocalDateTime.now(), batchSize);
+    }
+
+    private String save(User user, String familyId) {
+        String token = this.jwtService.generateRefreshToken(user);
+        LocalDateTime now = LocalDateTime.now();
+
+        RefreshToken row = new RefreshToken();
+        row.setTokenHash(TokenDigest.sha256Hex(token));
+        row.setFamilyId(familyId);
+        row.setUser(user);
+        row.setCreatedAt(now);
+        row.setExpiresAt(now.plus(Duration.ofMillis(JwtService.REFRESH_TOKEN_VALIDITY_MS)));
+        this.refreshTokenRepo.save(row);
+        return token;
+    }
+}
@@ -0,0 +1,354 @@
+package com.example.business.concretes;
+
+import com.example.business.abstracts.IRegistrationBatchService;
+import com.example.business.abstracts.ITicketInventoryService;
+import com.example.dao.RegistrationBatchInsertRepo;
+import com.example.dao.TicketTypeRepo;
+import com.example.dao.UserRepo;
+import com.example.entities.Registration;
+import com.example.entities.TicketType;
+import com.example.entities.User;
+import com.example.enums.RegistrationStatus;
+import com.example.exception.NotFoundException;
+import com.example.exception.ServiceBusyException;
+import com.example.exception.SoldOutException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Kayıt insert'lerini toplu yazan (group commit) servis.
+ *
+ * İşleyiş:
+ * - Gelen kayıtlar sınırlı bir kuyruğa eklenir, çağıran thread kendi future'ını bekler
+ * - Tek bir yazıcı thread kuyruktan en fazla batchSize kaydı veya maxDelayMs süresince gelenleri toplar
+ * - Batch başına kullanıcılar ve bilet türleri birer IN sorgusu ile doğrulanır,
+ *   kota bilet türü başına tek UPDATE ile ayrılır ve kayıtlar tek bir JDBC batch insert ile yazılır
+ * - Transaction commit edildiğinde her çağıranın future'ı tamamlanır
+ * - Çağıran kaydın kuyrukta en fazla wait-timeout-ms beklemesine izin verir; süre dolduğunda kayıt hâlâ kuyruktaysa
+ *   kuyruktan çıkarılır ve 503 döner (kayıt kesinlikle yazılmamıştır, tekrar denemek güvenlidir).
+ *   Yazıcı kaydı çoktan almışsa 503 dönülmez, batch'in sonucu (commit veya hata) beklenir; aksi halde commit edilmiş
+ *   bir kayıt için "tekrar dene" demek tekrar denemede çift kayıt oluşturur
+ * - Yazıcı thread hangi sebeple durursa dursun elindeki ve kuyruktaki tüm future'ları hata ile tamamlar,
+ *   hiçbir çağıran süresiz beklemez
+ *
+ * Varsayılan olarak kapalıdır (eventhub.registration.batch.enabled).
+ * Metrikler: eventhub.registration.batch.size, .commit, .wait ve .queue (/actuator/metrics)
+ */
+@Service
+public class RegistrationBatchManager implements IRegistrationBatchService {
+    private static final Logger log = LoggerFactory.getLogger(RegistrationBatchManager.class);
+    private static final String SHUTTING_DOWN = "Sunucu kapanıyor, lütfen tekrar deneyin";
+
+    private final UserRepo userRepo;
+    private final TicketTypeRepo ticketTypeRepo;
+    private final ITicketInventoryService ticketInventoryService;
+    private final RegistrationBatchInsertRepo registrationBatchInsertRepo;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final long waitTimeoutMs;
+    private final BlockingQueue<PendingRegistration> queue;
+
+    private final DistributionSummary batchSizeSummary;
+    private final Timer commitTimer;
+    private final Timer waitTimer;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public RegistrationBatchManager(UserRepo userRepo,
+                                    TicketTypeRepo ticketTypeRepo,
+                                    ITicketInventoryService ticketInventoryService,
+                                    RegistrationBatchInsertRepo registrationBatchInsertRepo,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${eventhub.registration.batch.enabled:false}") boolean enabled,
+                                    @Value("${eventhub.registration.batch.size:100}") int batchSize,
+                                    @Value("${eventhub.registration.batch.max-delay-ms:5}") long maxDelayMs,
+                                    @Value("${eventhub.registration.batch.queue-capacity:10000}") int queueCapacity,
+                                    @Value("${eventhub.registration.batch.wait-timeout-ms:10000}") long waitTimeoutMs) {
+        this.userRepo = userRepo;
+        this.ticketTypeRepo = ticketTypeRepo;
+        this.ticketInventoryService = ticketInventoryService;
+        this.registrationBatchInsertRepo = registrationBatchInsertRepo;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.batchSizeSummary = DistributionSummary.builder("eventhub.registration.batch.size")
+                .description("Commit edilen batch başına kayıt sayısı")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.commitTimer = Timer.builder("eventhub.registration.batch.commit")
+                .description("Bir batch'in doğrulama + insert + commit süresi")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("eventhub.registration.batch.wait")
+                .description("Kaydın kuyruğa girmesinden commit edilmesine kadar geçen süre")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        meterRegistry.gauge("eventhub.registration.batch.queue", this.queue, BlockingQueue::size);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!this.enabled) {
+            return;
+        }
+        this.running = true;
+        this.writer = Thread.ofPlatform().name("registration-batch-writer").daemon().start(this::runWriter);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        this.running = false;
+        if (this.writer != null) {
+            this.writer.interrupt();
+            this.writer.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        // Yazılamayan kayıtların sahipleri bekletilmez
+        this.failQueued();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    @Override
+    public Registration save(Long userId, Long ticketTypeId, RegistrationStatus status) {
+        if (status == RegistrationStatus.HELD) {
+            // HELD kayıtlar süre ataması gerektirdiği için hold akışından oluşturulur
+            throw new IllegalArgumentException("HELD kayıtlar toplu yazma hattından oluşturulamaz");
+        }
+        PendingRegistration pending = new PendingRegistration(userId, ticketTypeId,
+                status != null ? status : RegistrationStatus.ACTIVE, System.nanoTime());
+        if (!this.running || !this.queue.offer(pending)) {
+            throw new ServiceBusyException("Kayıt kuyruğu dolu, lütfen tekrar deneyin");
+        }
+        // Yazıcı bu arada durup kuyruğu boşalttıysa kayıt kuyrukta sahipsiz kalmasın
+        if (!this.running && this.queue.remove(pending)) {
+            throw new ServiceBusyException(SHUTTING_DOWN);
+        }
+        try {
+            return pending.future.get(this.waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (TimeoutException e) {
+            return this.abandonOrAwait(pending, "Kayıt zaman aşımına uğradı, lütfen tekrar deneyin");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return this.abandonOrAwait(pending, SHUTTING_DOWN);
+        }
+    }
+
+    /**
+     * Beklemeyi bırakmak isteyen çağıranın kaydını kuyruktan çıkarır.
+     * Kuyruk kilidi altında yapılan remove ile yazıcının take/drainTo'su birbirini dışlar: kayıt kuyruktan çıkarılabildiyse
+     * hiçbir batch'e girmemiştir ve 503 güvenle dönülür. Çıkarılamadıysa yazıcı kaydı almıştır; batch'in sonucu
+     * beklenir (yazıcı durursa future'ı hata ile tamamladığı için bu bekleme sınırlıdır).
+     */
+    private Registration abandonOrAwait(PendingRegistration pending, String message) {
+        if (this.queue.remove(pending)) {
+            throw new ServiceBusyException(message);
+        }
+        try {
+            return pending.future.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    // İş kuralı hataları (NotFound, SoldOut) GlobalExceptionHandler'a olduğu gibi iletilir
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    // Yazıcı thread: kuyruktan batch toplar ve yazar
+    private void runWriter() {
+        List<PendingRegistration> batch = new ArrayList<>(this.batchSize);
+        try {
+            this.writeLoop(batch);
+        } finally {
+            // Döngü hangi sebeple biterse bitsin (kapanış, interrupt, Error) bekleyen çağıranlar askıda kalmaz
+            this.running = false;
+            failAll(batch, new ServiceBusyException(SHUTTING_DOWN));
+            this.failQueued();
+        }
+    }
+
+    private void writeLoop(List<PendingRegistration> batch) {
+        while (this.running) {
+            try {
+                batch.add(this.queue.take());
+                long deadline = System.nanoTime() + this.maxDelayNanos;
+                while (batch.size() < this.batchSize) {
+                    this.queue.drainTo(batch, this.batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= this.batchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingRegistration next = this.queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                this.writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Kayıt batch'i yazılamadı ({} kayıt)", batch.size(), e);
+                failAll(batch, e);
+            }
+            batch.clear();
+        }
+    }
+
+    private void failQueued() {
+        List<PendingRegistration> remaining = new ArrayList<>();
+        this.queue.drainTo(remaining);
+        failAll(remaining, new ServiceBusyException(SHUTTING_DOWN));
+    }
+
+    // Tamamlanmış future'lar etkilenmez (completeExceptionally no-op)
+    private static void failAll(List<PendingRegistration> batch, RuntimeException e) {
+        batch.forEach(pending -> pending.future.completeExceptionally(e));
+    }
+
+    /**
+     * Bir batch'i tek transaction içinde yazar.
+     * Hatalı kayıtlar (kullanıcı / bilet türü yok, kota dolu) batch'ten ayrılır,
+     * geri kalanı insert edilir; future'lar commit sonrasında tamamlanır.
+     */
+    private void writeBatch(List<PendingRegistration> batch) {
+        long start = System.nanoTime();
+        Map<PendingRegistration, RuntimeException> failures = new LinkedHashMap<>();
+        List<Registration> saved = this.transactionTemplate.execute(status -> this.insertBatch(batch, failures));
+        this.commitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        this.batchSizeSummary.record(batch.size());
+
+        long now = System.nanoTime();
+        int savedIndex = 0;
+        for (PendingRegistration pending : batch) {
+            RuntimeException failure = failures.get(pending);
+            if (failure != null) {
+                pending.future.completeExceptionally(failure);
+            } else {
+                pending.future.complete(saved.get(savedIndex++));
+            }
+            this.waitTimer.record(now - pending.enqueuedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private List<Registration> insertBatch(List<PendingRegistration> batch, Map<PendingRegistration, RuntimeException> failures) {
+        Set<Long> userIds = batch.stream().map(PendingRegistration::userId).collect(Collectors.toSet());
+        Set<Long> ticketTypeIds = batch.stream().map(PendingRegistration::ticketTypeId).collect(Collectors.toSet());
+
+        // Batch başına iki IN sorgusu (kayıt başına iki findById yerine)
+        Map<Long, User> users = this.userRepo.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, TicketType> ticketTypes = this.ticketTypeRepo.findAllWithEventByIdIn(ticketTypeIds).stream()
+                .collect(Collectors.toMap(TicketType::getId, Function.identity()));
+
+        List<PendingRegistration> accepted = new ArrayList<>(batch.size());
+        Map<Long, List<PendingRegistration>> seatRequests = new LinkedHashMap<>();
+        for (PendingRegistration pending : batch) {
+            if (!users.containsKey(pending.userId)) {
+                failures.put(pending, new NotFoundException("Kullanıcı bulunamadı. ID: " + pending.userId));
+            } else if (!ticketTypes.containsKey(pending.ticketTypeId)) {
+                failures.put(pending, new NotFoundException("Bilet türü bulunamadı. ID: " + pending.ticketTypeId));
+            } else if (pending.status == RegistrationStatus.ACTIVE) {
+                seatRequests.computeIfAbsent(pending.ticketTypeId, id -> new ArrayList<>()).add(pending);
+            }
+        }
+
+        // Bilet türü başına tek kota UPDATE'i; kota yetmezse sıradaki (FIFO) istekler reddedilir
+        seatRequests.forEach((ticketTypeId, requests) -> {
+            int granted = this.ticketInventoryService.acquireUpTo(ticketTypeId, requests.size());
+            for (PendingRegistration pending : requests.subList(granted, requests.size())) {
+                failures.put(pending, new SoldOutException("Bilet türünün kotası dolmuştur. ID: " + ticketTypeId));
+            }
+        });
+
+        for (PendingRegistration pending : batch) {
+            if (!failures.containsKey(pending)) {
+                accepted.add(pending);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Registration> saved = new ArrayList<>(accepted.size());
+        for (PendingRegistration pending : accepted) {
+            Registration registration = new Registration();
+            registration.setRegisteredAt(now);
+            registration.setStatus(pending.status);
+            registration.setUser(users.get(pending.userId));
+            registration.setTicketType(ticketTypes.get(pending.ticketTypeId));
+            saved.add(registration);
+        }
+        this.registrationBatchInsertRepo.insertAll(saved);
+        return saved;
+    }
+
+    // Kuyrukta bekleyen kayıt isteği (eşitlik referans bazlıdır, aynı içerikli iki istek ayrı tutulur)
+    private static final class PendingRegistration {
+        private final Long userId;
+        private final Long ticketTypeId;
+        private final RegistrationStatus status;
+        private final long enqueuedAt;
+        private final CompletableFuture<Registration> future = new CompletableFuture<>();
+
+        private PendingRegistration(Long userId, Long ticketTypeId, RegistrationStatus status, long enqueuedAt) {
+            this.userId = userId;
+            this.ticketTypeId = ticketTypeId;
+            this.status = status;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        private Long userId() {
+            return userId;
+        }
+
+        private Long ticketTypeId() {
+            return ticketTypeId;
+        }
+    }
+}
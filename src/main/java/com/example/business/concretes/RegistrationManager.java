@@ -1,31 +1,66 @@
 package com.example.business.concretes;
 
 import com.example.business.abstracts.IRegistrationService;
+import com.example.business.abstracts.ITicketInventoryService;
+import com.example.business.abstracts.IWaitlistService;
+import com.example.business.export.AttendeeRow;
+import com.example.business.paging.KeysetPaging;
+import com.example.business.registration.BulkRegistrationOutcome;
+import com.example.dao.RegistrationBatchInsertRepo;
 import com.example.dao.RegistrationRepo;
 import com.example.dao.TicketTypeRepo;
 import com.example.dao.UserRepo;
+import com.example.dto.request.registration.RegistrationBulkItemRequest;
+import com.example.dto.response.RegistrationResponse;
 import com.example.entities.Registration;
 import com.example.entities.TicketType;
 import com.example.entities.User;
 import com.example.enums.RegistrationStatus;
+import com.example.exception.HeldStatusChangeException;
+import com.example.exception.HoldExpiredException;
 import com.example.exception.NotFoundException;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import com.example.exception.SoldOutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class RegistrationManager implements IRegistrationService {
     private final RegistrationRepo registrationRepo;
     private final UserRepo userRepo;
     private final TicketTypeRepo ticketTypeRepo;
+    private final ITicketInventoryService ticketInventoryService;
+    private final RegistrationBatchInsertRepo registrationBatchInsertRepo;
+    private final IWaitlistService waitlistService;
+    private final long holdDurationSeconds;
 
-    public RegistrationManager(RegistrationRepo registrationRepo, UserRepo userRepo, TicketTypeRepo ticketTypeRepo) {
+    public RegistrationManager(RegistrationRepo registrationRepo, UserRepo userRepo, TicketTypeRepo ticketTypeRepo,
+                               ITicketInventoryService ticketInventoryService,
+                               RegistrationBatchInsertRepo registrationBatchInsertRepo,
+                               IWaitlistService waitlistService,
+                               @Value("${eventhub.hold.duration-seconds:600}") long holdDurationSeconds) {
         this.registrationRepo = registrationRepo;
+        this.registrationBatchInsertRepo = registrationBatchInsertRepo;
+        this.waitlistService = waitlistService;
         this.userRepo = userRepo;
         this.ticketTypeRepo = ticketTypeRepo;
+        this.ticketInventoryService = ticketInventoryService;
+        this.holdDurationSeconds = holdDurationSeconds;
     }
 
 
@@ -34,16 +69,30 @@ public class RegistrationManager implements IRegistrationService {
      * - User ve TicketType varlığı doğrulanır
      * - registeredAt alanı null ise otomatik atanır
      * - status alanı null ise ACTIVE olarak set edilir
+     * - ACTIVE / HELD kayıtlar için kota envanter servisinden rezerve edilir
      *
      * @param registration Kaydedilecek Registration entity
      * @return Kaydedilen Registration
+     * @throws SoldOutException Bilet türünün kotası doluysa
      */
     @Override
+    @Transactional
     public Registration save(Registration registration) {
         // User var mı kontrol et
         User user = userRepo.findById(registration.getUser().getId())
                 .orElseThrow(() -> new NotFoundException("Kullanıcı bulunamadı. ID: " + registration.getUser().getId()));
 
+        // status varsayılan olarak ACTIVE set et (eğer null ise)
+        if (registration.getStatus() == null) {
+            registration.setStatus(RegistrationStatus.ACTIVE);
+        }
+
+        // Kota rezervasyonu (kota doluysa insert yapılmadan 409 döner)
+        if (holdsSeat(registration.getStatus())) {
+            this.ticketInventoryService.acquire(registration.getTicketType().getId());
+        }
+        registration.setHoldExpiresAt(registration.getStatus() == RegistrationStatus.HELD ? this.newHoldExpiry() : null);
+
         // TicketType var mı kontrol et
         TicketType ticketType = ticketTypeRepo.findById(registration.getTicketType().getId())
                 .orElseThrow(() -> new NotFoundException("Bilet türü bulunamadı. ID: " + registration.getTicketType().getId()));
@@ -56,11 +105,6 @@ public class RegistrationManager implements IRegistrationService {
             registration.setRegisteredAt(LocalDateTime.now());
         }
 
-        // status varsayılan olarak ACTIVE set et (eğer null ise)
-        if (registration.getStatus() == null) {
-            registration.setStatus(com.example.enums.RegistrationStatus.ACTIVE);
-        }
-
         return this.registrationRepo.save(registration);
     }
 
@@ -73,13 +117,18 @@ public class RegistrationManager implements IRegistrationService {
      * Var olan Registration kaydını günceller.
      * - User veya TicketType gönderilmezse mevcut değerler korunur
      * - registeredAt alanı değiştirilemez
+     * - Durum veya bilet türü değişirse kota buna göre rezerve / iade edilir
+     * - HELD kaydın durumu değiştirilemez; tutma sadece confirm ile onaylanır veya süresi dolunca temizlenir
      *
      * @param registration Güncellenecek Registration entity
      * @return Güncellenmiş Registration
+     * @throws SoldOutException           Yeni bilet türünün kotası doluysa
+     * @throws HeldStatusChangeException HELD kaydın durumu değiştirilmek istenirse
      */
     @Override
+    @Transactional
     public Registration update(Registration registration) {
-        Registration existingRegistration = this.get(registration.getId());
+        Registration existingRegistration = this.getLocked(registration.getId());
 
         // User güncellemesi
         if (registration.getUser() != null && registration.getUser().getId() != null) {
@@ -102,36 +151,277 @@ public class RegistrationManager implements IRegistrationService {
         // registeredAt korunur
         registration.setRegisteredAt(existingRegistration.getRegisteredAt());
 
+        // status gönderilmemişse mevcut değer korunur
+        if (registration.getStatus() == null) {
+            registration.setStatus(existingRegistration.getStatus());
+        }
+        // Süresi dolmuş ama henüz temizlenmemiş bir tutma PUT ile ACTIVE yapılamaz; HELD'den çıkış sadece confirm ile olur
+        if (existingRegistration.getStatus() == RegistrationStatus.HELD && registration.getStatus() != RegistrationStatus.HELD) {
+            throw new HeldStatusChangeException("Tutulan koltuğun durumu güncelleme ile değiştirilemez, /confirm kullanın. ID: " + registration.getId());
+        }
+
+        // Kota düzeltmesi: önce yeni koltuk rezerve edilir, sonra eskisi iade edilir
+        Long oldTicketTypeId = existingRegistration.getTicketType().getId();
+        Long newTicketTypeId = registration.getTicketType().getId();
+        boolean wasActive = holdsSeat(existingRegistration.getStatus());
+        boolean isActive = holdsSeat(registration.getStatus());
+        boolean ticketTypeChanged = !oldTicketTypeId.equals(newTicketTypeId);
+
+        if (isActive && (!wasActive || ticketTypeChanged)) {
+            this.ticketInventoryService.acquire(newTicketTypeId);
+        }
+        if (wasActive && (!isActive || ticketTypeChanged)) {
+            this.waitlistService.releaseSeats(oldTicketTypeId, 1); // Boşalan koltuk önce bekleme listesine verilir
+        }
+
+        // HELD'e yeni geçen kayda süre verilir, HELD kalan kaydın süresi korunur
+        if (registration.getStatus() != RegistrationStatus.HELD) {
+            registration.setHoldExpiresAt(null);
+        } else if (existingRegistration.getStatus() == RegistrationStatus.HELD) {
+            registration.setHoldExpiresAt(existingRegistration.getHoldExpiresAt());
+        } else {
+            registration.setHoldExpiresAt(this.newHoldExpiry());
+        }
+
         return this.registrationRepo.save(registration);
     }
 
     @Override
-    public Page<Registration> cursor(int page, int pageSize) {
-        Pageable pageable = PageRequest.of(page, pageSize);
-        return this.registrationRepo.findAll(pageable);
+    public RegistrationResponse getResponse(Long id) {
+        return this.registrationRepo.findResponseById(id).orElseThrow(() -> new NotFoundException("Kayıt bulunamadı. ID: " + id));
     }
 
     @Override
+    public Slice<RegistrationResponse> cursor(Long afterId, int pageSize) {
+        int size = KeysetPaging.pageSize(pageSize);
+        return KeysetPaging.toSlice(this.registrationRepo.findResponsesAfter(KeysetPaging.afterId(afterId), KeysetPaging.lookahead(size)), size);
+    }
+
+    // Export: bağlantı yalnızca bu metot süresince (yani aktarım boyunca) tutulur; stream kapanınca cursor ve bağlantı serbest kalır
+    @Override
+    @Transactional(readOnly = true)
+    public void export(Consumer<RegistrationResponse> sink) {
+        try (Stream<RegistrationResponse> rows = this.registrationRepo.streamAllResponses()) {
+            rows.forEach(sink);
+        }
+    }
+
+    // Katılımcı listesi: yalnızca ACTIVE kayıtlar; tüm bilet türleri tek sorguda okunur
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAttendees(Long eventId, Consumer<AttendeeRow> sink) {
+        try (Stream<AttendeeRow> rows = this.registrationRepo.streamAttendees(eventId, RegistrationStatus.ACTIVE)) {
+            rows.forEach(sink);
+        }
+    }
+
+    @Override
+    public long count() {
+        return this.registrationRepo.count();
+    }
+
+    @Override
+    @Transactional
     public boolean delete(Long id) {
-        Registration registration = this.get(id);
+        Registration registration = this.getLocked(id);
+        // ACTIVE / HELD kayıt siliniyorsa koltuk bekleme listesindeki sıradaki kişiye verilir, liste boşsa kotaya iade edilir
+        if (holdsSeat(registration.getStatus())) {
+            this.waitlistService.releaseSeats(registration.getTicketType().getId(), 1);
+        }
         this.registrationRepo.delete(registration);
         return true;
     }
 
-    //Belirli bir kullanıcıya ait Registration kayıtlarını getirir.
+    //Belirli bir kullanıcıya ait Registration kayıtlarını keyset sayfalı getirir.
+    @Override
+    public Slice<RegistrationResponse> getByUser(Long userId, Long afterId, int pageSize) {
+        int size = KeysetPaging.pageSize(pageSize);
+        return KeysetPaging.toSlice(this.registrationRepo.findResponsesByUserId(userId, KeysetPaging.afterId(afterId), KeysetPaging.lookahead(size)), size);
+    }
+
+    // Belirli bir TicketType’a ait Registration kayıtlarını keyset sayfalı getirir.
+    @Override
+    public Slice<RegistrationResponse> getByTicketType(Long ticketTypeId, Long afterId, int pageSize) {
+        int size = KeysetPaging.pageSize(pageSize);
+        return KeysetPaging.toSlice(this.registrationRepo.findResponsesByTicketTypeId(ticketTypeId, KeysetPaging.afterId(afterId), KeysetPaging.lookahead(size)), size);
+    }
+
+    // Duruma göre kayıtlar; ACTIVE gibi büyük kümeler de sayfa sayfa okunur, tamamı belleğe alınmaz
+    @Override
+    public Slice<RegistrationResponse> getByStatus(RegistrationStatus status, Long afterId, int pageSize) {
+        int size = KeysetPaging.pageSize(pageSize);
+        return KeysetPaging.toSlice(this.registrationRepo.findResponsesByStatus(status, KeysetPaging.afterId(afterId), KeysetPaging.lookahead(size)), size);
+    }
+
+    /**
+     * Bir bilet türünden belirtilen sayıda koltuğu süreli olarak tutar (HELD).
+     * Koltuklar hemen kotadan düşülür; süre içinde onaylanmazsa expireHolds ile geri bırakılır.
+     *
+     * @param userId       Kullanıcı ID'si
+     * @param ticketTypeId Bilet türü ID'si
+     * @param quantity     Tutulacak koltuk sayısı
+     * @return Oluşturulan HELD kayıtlar
+     * @throws SoldOutException Yeterli kota yoksa
+     */
     @Override
-    public List<Registration> getByUser(Long userId) {
-        return this.registrationRepo.findByUserId(userId);
+    @Transactional
+    public List<Registration> hold(Long userId, Long ticketTypeId, int quantity) {
+        User user = userRepo.findById(userId)
+                .orElseThrow(() -> new NotFoundException("Kullanıcı bulunamadı. ID: " + userId));
+
+        this.ticketInventoryService.acquire(ticketTypeId, quantity);
+
+        TicketType ticketType = ticketTypeRepo.findById(ticketTypeId)
+                .orElseThrow(() -> new NotFoundException("Bilet türü bulunamadı. ID: " + ticketTypeId));
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = this.newHoldExpiry();
+        List<Registration> holds = new ArrayList<>(quantity);
+        for (int i = 0; i < quantity; i++) {
+            Registration registration = new Registration();
+            registration.setUser(user);
+            registration.setTicketType(ticketType);
+            registration.setRegisteredAt(now);
+            registration.setStatus(RegistrationStatus.HELD);
+            registration.setHoldExpiresAt(expiresAt);
+            holds.add(registration);
+        }
+        return this.registrationRepo.saveAll(holds);
     }
 
-    // Belirli bir TicketType’a ait Registration kayıtlarını getirir.
+    /**
+     * HELD kayıtları ACTIVE yapar. Koltuklar tutma sırasında zaten ayrıldığı için kota tekrar düşülmez.
+     * Kayıtlardan biri bile süresi dolmuş, HELD değil veya çağırana ait değilse hiçbiri onaylanmaz.
+     *
+     * @param registrationIds Onaylanacak kayıt ID'leri
+     * @param userId          Onaylayan kullanıcı; sadece kendi tutmalarını onaylayabilir
+     * @return Onaylanan kayıtlar
+     * @throws HoldExpiredException Süresi dolmuş / HELD olmayan / başka kullanıcıya ait kayıt varsa
+     */
     @Override
-    public List<Registration> getByTicketType(Long ticketTypeId) {
-        return this.registrationRepo.findByTicketTypeId(ticketTypeId);
+    @Transactional
+    public List<Registration> confirm(List<Long> registrationIds, Long userId) {
+        Set<Long> ids = new LinkedHashSet<>(registrationIds);
+        int confirmed = this.registrationRepo.confirmHolds(ids, userId, LocalDateTime.now(), RegistrationStatus.ACTIVE, RegistrationStatus.HELD);
+        if (confirmed != ids.size()) {
+            throw new HoldExpiredException("Koltuk tutma süresi dolmuş veya kayıt onaylanabilir durumda değil");
+        }
+        return this.registrationRepo.findAllById(ids);
     }
 
+    /**
+     * Süresi dolmuş HELD kayıtlardan bir batch'i siler; koltuklar önce bekleme listesine verilir, kalanı kotaya iade edilir.
+     * Bilet türü başına tek bir devir / iade işlemi yapılır.
+     *
+     * @param batchSize Tek seferde işlenecek en fazla kayıt sayısı
+     * @return İşlenen kayıt sayısı
+     */
     @Override
-    public List<Registration> getByStatus(RegistrationStatus status) {
-        return this.registrationRepo.findByStatus(status);
+    @Transactional
+    public int expireHolds(int batchSize) {
+        List<RegistrationRepo.ExpiredHold> expired = this.registrationRepo.findExpiredHoldsForUpdate(LocalDateTime.now(), batchSize);
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Long> seatsByTicketType = expired.stream()
+                .collect(Collectors.groupingBy(RegistrationRepo.ExpiredHold::getTicketTypeId, TreeMap::new, Collectors.counting())); // Sabit sıra: satır kilitleri node'lar arasında hep aynı sırayla alınır
+        seatsByTicketType.forEach((ticketTypeId, seats) -> this.waitlistService.releaseSeats(ticketTypeId, seats.intValue()));
+
+        this.registrationRepo.deleteAllByIdInBatch(expired.stream().map(RegistrationRepo.ExpiredHold::getId).toList());
+        return expired.size();
+    }
+
+    /**
+     * Grup kaydı: verilen kullanıcı / bilet türü çiftleri için ACTIVE kayıtlar oluşturur.
+     * - Tüm kullanıcılar ve bilet türleri iki IN sorgusu ile doğrulanır
+     * - Kota bilet türü başına tek koşullu UPDATE ile bütün grup için ayrılır;
+     *   yetmezse o bilet türündeki kalemlerin hiçbiri oluşturulmaz
+     * - Kayıtlar tek transaction içinde JDBC batch insert ile yazılır
+     * - allOrNothing true ise herhangi bir kalem başarısızsa transaction geri alınır ve hiçbir kayıt oluşmaz
+     *
+     * @param items        Kullanıcı / bilet türü çiftleri (istek sırasıyla)
+     * @param allOrNothing Kısmi başarıya izin verilmeyecekse true
+     * @return İstek sırasıyla kalem bazında sonuçlar
+     */
+    @Override
+    @Transactional
+    public List<BulkRegistrationOutcome> bulkSave(List<RegistrationBulkItemRequest> items, boolean allOrNothing) {
+        Set<Long> userIds = items.stream().map(RegistrationBulkItemRequest::getUserId).collect(Collectors.toSet());
+        Set<Long> ticketTypeIds = items.stream().map(RegistrationBulkItemRequest::getTicketTypeId).collect(Collectors.toSet());
+
+        Map<Long, User> users = this.userRepo.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, TicketType> ticketTypes = this.ticketTypeRepo.findAllWithEventByIdIn(ticketTypeIds).stream()
+                .collect(Collectors.toMap(TicketType::getId, Function.identity()));
+
+        String[] errors = new String[items.size()];
+        Map<Long, List<Integer>> seatRequests = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            RegistrationBulkItemRequest item = items.get(i);
+            if (!users.containsKey(item.getUserId())) {
+                errors[i] = "Kullanıcı bulunamadı. ID: " + item.getUserId();
+            } else if (!ticketTypes.containsKey(item.getTicketTypeId())) {
+                errors[i] = "Bilet türü bulunamadı. ID: " + item.getTicketTypeId();
+            } else {
+                seatRequests.computeIfAbsent(item.getTicketTypeId(), id -> new ArrayList<>()).add(i);
+            }
+        }
+
+        // Bilet türü başına grubun tamamı tek seferde rezerve edilir (ya hepsi ya hiçbiri)
+        seatRequests.forEach((ticketTypeId, indexes) -> {
+            try {
+                this.ticketInventoryService.acquire(ticketTypeId, indexes.size());
+            } catch (SoldOutException e) {
+                indexes.forEach(index -> errors[index] = e.getMessage());
+            }
+        });
+
+        boolean anyFailed = Arrays.stream(errors).anyMatch(error -> error != null);
+        if (allOrNothing && anyFailed) {
+            // Rezerve edilen kotalar transaction ile birlikte geri alınır
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Registration> toInsert = new ArrayList<>(items.size());
+        Registration[] registrations = new Registration[items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            if (errors[i] != null || (allOrNothing && anyFailed)) {
+                continue;
+            }
+            Registration registration = new Registration();
+            registration.setUser(users.get(items.get(i).getUserId()));
+            registration.setTicketType(ticketTypes.get(items.get(i).getTicketTypeId()));
+            registration.setRegisteredAt(now);
+            registration.setStatus(RegistrationStatus.ACTIVE);
+            registrations[i] = registration;
+            toInsert.add(registration);
+        }
+        this.registrationBatchInsertRepo.insertAll(toInsert);
+
+        List<BulkRegistrationOutcome> outcomes = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            String error = errors[i];
+            if (error == null && registrations[i] == null) {
+                error = "Grup içindeki diğer kayıtlar başarısız olduğu için oluşturulmadı";
+            }
+            outcomes.add(new BulkRegistrationOutcome(items.get(i).getUserId(), items.get(i).getTicketTypeId(), registrations[i], error));
+        }
+        return outcomes;
+    }
+
+    // ACTIVE ve HELD kayıtlar kotadan bir koltuk tüketir
+    private static boolean holdsSeat(RegistrationStatus status) {
+        return status == RegistrationStatus.ACTIVE || status == RegistrationStatus.HELD;
+    }
+
+    private LocalDateTime newHoldExpiry() {
+        return LocalDateTime.now().plusSeconds(this.holdDurationSeconds);
+    }
+
+    // Kaydı satır kilidi ile getirir (update / delete sırasında kota iadesinin tekrarlanmaması için)
+    private Registration getLocked(Long id) {
+        return this.registrationRepo.findLockedById(id).orElseThrow(() -> new NotFoundException("Kayıt bulunamadı. ID: " + id));
     }
 }
@@ -0,0 +1,82 @@
+package com.example.business.concretes;
+
+import com.example.business.abstracts.IRowCountService;
+import com.example.business.paging.PageTotal;
+import com.example.enums.TotalMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Listeleme endpoint'leri için toplam kayıt sayısı servisi.
+ *
+ * ESTIMATED modunda istek yolunda hiçbir count sorgusu çalışmaz; değer bellekteki
+ * cache'ten okunur. Cache arka planda PostgreSQL planner istatistiklerinden (pg_class.reltuples)
+ * yenilenir; tablo henüz hiç ANALYZE edilmediyse (reltuples = -1) arka planda bir kez count(*) yapılır.
+ * Cache açılışta (ApplicationReadyEvent) doldurulur; henüz dolmadıysa veya yenileme başarısız olduysa
+ * istek yolu DB'ye gitmez, toplam "bilinmiyor" (null) döner.
+ */
+@Service
+public class RowCountManager implements IRowCountService {
+    private static final Logger log = LoggerFactory.getLogger(RowCountManager.class);
+
+    // Sadece bu tablolar için tahmin tutulur (tablo adı SQL'e eklendiği için beyaz liste)
+    private static final Set<String> TABLES = Set.of("events", "registrations", "ticket_types", "users", "categories");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, Long> estimates = new ConcurrentHashMap<>();
+
+    public RowCountManager(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public PageTotal total(String table, TotalMode mode, LongSupplier exactCount) {
+        if (mode == null || mode == TotalMode.NONE) {
+            return null;
+        }
+        if (mode == TotalMode.EXACT || !TABLES.contains(table)) {
+            return new PageTotal(exactCount.getAsLong(), true);
+        }
+        Long estimate = this.estimates.get(table);
+        return estimate != null ? new PageTotal(estimate, false) : null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        this.refresh();
+    }
+
+    @Scheduled(initialDelayString = "${eventhub.paging.estimate-refresh-ms:30000}",
+            fixedDelayString = "${eventhub.paging.estimate-refresh-ms:30000}")
+    public void refresh() {
+        try {
+            List<Map<String, Object>> rows = this.jdbcTemplate.queryForList(
+                    "SELECT c.relname AS name, c.reltuples::bigint AS estimate FROM pg_class c " +
+                            "JOIN pg_namespace n ON n.oid = c.relnamespace " +
+                            "WHERE n.nspname = current_schema() AND c.relkind = 'r' AND c.relname = ANY (?)",
+                    (Object) TABLES.toArray(new String[0]));
+            for (Map<String, Object> row : rows) {
+                String table = (String) row.get("name");
+                long estimate = ((Number) row.get("estimate")).longValue();
+                if (estimate < 0) {
+                    // İstatistik yok: arka planda kesin sayı alınır
+                    estimate = this.jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Long.class);
+                }
+                this.estimates.put(table, estimate);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Tablo satır tahminleri yenilenemedi: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.example.business.concretes;
+
+import com.example.business.abstracts.ITicketInventoryService;
+import com.example.business.inventory.SeatLeaseStore;
+import com.example.business.inventory.StripedSeatCounter;
+import com.example.dao.TicketTypeRepo;
+import com.example.exception.NotFoundException;
+import com.example.exception.SoldOutException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bilet kotasını yöneten envanter servisi.
+ *
+ * İki çalışma modu vardır:
+ * - Kiralama kapalı (varsayılan): her koltuk ticket_types satırında tek bir koşullu UPDATE ile ayrılır
+ * - Kiralama açık: node, veritabanından blok halinde koltuk kiralar (sold alanına peşin yazılır) ve
+ *   koltukları bellekteki şeritli sayaçtan dağıtır; koltuk başına veritabanı turu yapılmaz
+ *
+ * Kullanılmayan kiralık koltuklar bilet türü bir süre talep görmezse veya node kapanırken iade edilir.
+ * Kiralama ve iade SeatLeaseStore'un ayrı bağlantı havuzu üzerinden auto-commit ile yapılır.
+ * Node çökerse elindeki blok kadar koltuk "sold" olarak kalır; bu fark onarım işi ile düzeltilir.
+ */
+@Service
+public class TicketInventoryManager implements ITicketInventoryService {
+    private final TicketTypeRepo ticketTypeRepo;
+    private final SeatLeaseStore leaseStore;
+    private final Map<Long, SeatLease> leases = new ConcurrentHashMap<>();
+
+    private final boolean leaseEnabled;
+    private final int leaseSize;
+    private final int stripes;
+    private final long idleReleaseMs;
+
+    public TicketInventoryManager(TicketTypeRepo ticketTypeRepo,
+                                  Optional<SeatLeaseStore> leaseStore,
+                                  @Value("${eventhub.inventory.lease-enabled:false}") boolean leaseEnabled,
+                                  @Value("${eventhub.inventory.lease-size:50}") int leaseSize,
+                                  @Value("${eventhub.inventory.stripes:8}") int stripes,
+                                  @Value("${eventhub.inventory.idle-release-ms:30000}") long idleReleaseMs) {
+        this.ticketTypeRepo = ticketTypeRepo;
+        // Kiralama, kayıt transaction'ından bağımsız commit edilmelidir; aksi halde rollback
+        // olduğunda veritabanındaki kiralama geri alınır ama bellekteki koltuklar kalır (fazla satış).
+        // Bu yüzden SeatLeaseStore ayrı havuz kullanır; havuz (InventoryConfig) sadece kiralama açıkken oluşturulur
+        this.leaseStore = leaseEnabled ? leaseStore.orElseThrow() : null;
+        this.leaseEnabled = leaseEnabled;
+        this.leaseSize = Math.max(1, leaseSize);
+        this.stripes = stripes;
+        this.idleReleaseMs = idleReleaseMs;
+    }
+
+    @Override
+    public void acquire(Long ticketTypeId) {
+        this.acquire(ticketTypeId, 1);
+    }
+
+    @Override
+    public void acquire(Long ticketTypeId, int seats) {
+        if (!this.leaseEnabled) {
+            this.reserveFromDatabase(ticketTypeId, seats);
+            return;
+        }
+        // Koltuklar tek tek alınır; kota yarıda biterse alınanlar hemen geri verilir. Çağıran SoldOutException'ı
+        // yakalayıp transaction'ı commit edebileceği için (ör. kısmi grup kaydı) iade rollback'e bırakılmaz
+        List<SeatLease> taken = new ArrayList<>(seats);
+        try {
+            for (int i = 0; i < seats; i++) {
+                taken.add(this.takeFromLease(ticketTypeId));
+            }
+        } catch (RuntimeException e) {
+            taken.forEach(lease -> this.giveBack(ticketTypeId, lease, 1));
+            throw e;
+        }
+        taken.forEach(lease -> this.returnSeatOnRollback(ticketTypeId, lease));
+    }
+
+    @Override
+    public int acquireUpTo(Long ticketTypeId, int seats) {
+        if (!this.leaseEnabled) {
+            return this.reserveUpTo(ticketTypeId, seats);
+        }
+        int acquired = 0;
+        try {
+            while (acquired < seats) {
+                this.returnSeatOnRollback(ticketTypeId, this.takeFromLease(ticketTypeId));
+                acquired++;
+            }
+        } catch (SoldOutException e) {
+            // Kota bitti, alınabilen kadarı döner
+        }
+        return acquired;
+    }
+
+    // Lease'ten bir koltuk alır ve koltuğun alındığı lease'i döner (geri verme aynı lease'e yapılır)
+    private SeatLease takeFromLease(Long ticketTypeId) {
+        while (true) {
+            SeatLease lease = this.leases.computeIfAbsent(ticketTypeId, id -> new SeatLease(this.stripes));
+            lease.lastAccess = System.currentTimeMillis();
+            if (lease.counter.tryAcquire() || this.refill(ticketTypeId, lease)) {
+                return lease;
+            }
+            if (!lease.closed) {
+                throw new SoldOutException("Bilet türünün kotası dolmuştur. ID: " + ticketTypeId);
+            }
+            // Lease bu arada boşta kaldığı için iade edildi, yenisi ile tekrar denenir
+        }
+    }
+
+    @Override
+    public void release(Long ticketTypeId) {
+        this.release(ticketTypeId, 1);
+    }
+
+    @Override
+    public void release(Long ticketTypeId, int seats) {
+        this.ticketTypeRepo.releaseSeats(ticketTypeId, seats);
+    }
+
+    @Override
+    @PreDestroy
+    public void releaseAllLeases() {
+        if (this.leaseStore == null) {
+            return;
+        }
+        for (Map.Entry<Long, SeatLease> entry : this.leases.entrySet()) {
+            this.closeLease(entry.getKey(), entry.getValue());
+        }
+    }
+
+    // Belirli süre talep görmeyen (ör. satışı bitmiş) bilet türlerinin kiralık koltuklarını iade eder
+    @Scheduled(fixedDelayString = "${eventhub.inventory.idle-release-ms:30000}")
+    public void releaseIdleLeases() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<Long, SeatLease> entry : this.leases.entrySet()) {
+            if (now - entry.getValue().lastAccess >= this.idleReleaseMs) {
+                this.closeLease(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Veritabanından yeni bir koltuk bloğu kiralar ve bir koltuğu çağırana verir.
+     * Aynı bilet türü için node içinde tek bir thread kiralama yapar; diğerleri kilitte bekler
+     * ve kilit açıldığında yeni eklenen koltuklardan alır. Kilitte bekleyenler ana havuzdan bağlantı tutuyor olsa da
+     * kiralama SeatLeaseStore'un ayrı havuzunu kullandığı için ana havuzdan yeni bağlantı beklenmez.
+     *
+     * @return Koltuk alındıysa true, kota dolmuşsa veya lease kapanmışsa false
+     */
+    private boolean refill(Long ticketTypeId, SeatLease lease) {
+        lease.lock.lock();
+        try {
+            if (lease.closed) {
+                return false;
+            }
+            if (lease.counter.tryAcquire()) {
+                return true;
+            }
+            int leased = this.leaseStore.reserveUpTo(ticketTypeId, this.leaseSize);
+            if (leased == 0) {
+                return false;
+            }
+            lease.counter.add(leased - 1); // Bir koltuk doğrudan çağırana verilir
+            return true;
+        } finally {
+            lease.lock.unlock();
+        }
+    }
+
+    // Kalan kota kadar (en fazla max) koltuğu koşullu UPDATE ile ayırır, başka node araya girerse tekrar dener
+    private int reserveUpTo(Long ticketTypeId, int max) {
+        Integer remaining = this.ticketTypeRepo.findRemainingSeats(ticketTypeId);
+        if (remaining == null) {
+            throw new NotFoundException("Bilet türü bulunamadı. ID: " + ticketTypeId);
+        }
+        while (remaining > 0) {
+            int block = Math.min(max, remaining);
+            if (this.ticketTypeRepo.reserveSeats(ticketTypeId, block) == 1) {
+                return block;
+            }
+            remaining = this.ticketTypeRepo.findRemainingSeats(ticketTypeId);
+            if (remaining == null) {
+                throw new NotFoundException("Bilet türü bulunamadı. ID: " + ticketTypeId);
+            }
+        }
+        return 0;
+    }
+
+    // Kiralama kapalıyken kullanılan yol: istek başına tek bir koşullu UPDATE
+    private void reserveFromDatabase(Long ticketTypeId, int seats) {
+        if (this.ticketTypeRepo.reserveSeats(ticketTypeId, seats) == 0) {
+            if (!this.ticketTypeRepo.existsById(ticketTypeId)) {
+                throw new NotFoundException("Bilet türü bulunamadı. ID: " + ticketTypeId);
+            }
+            throw new SoldOutException("Bilet türünün kotası dolmuştur. ID: " + ticketTypeId);
+        }
+    }
+
+    // Kayıt transaction'ı geri alınırsa bellekten verilen koltuk lease'e geri eklenir
+    private void returnSeatOnRollback(Long ticketTypeId, SeatLease lease) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    giveBack(ticketTypeId, lease, 1);
+                }
+            }
+        });
+    }
+
+    /**
+     * Bellekten verilmiş koltukları geri alır. Lease bu arada kapatıldıysa (boşta kalma / kapanış) sayaç artık
+     * boşaltılmış ve map'ten çıkarılmıştır; koltuk sayaca eklenirse hiçbir zaman dağıtılmaz, bu yüzden veritabanına iade edilir.
+     * afterCompletion içinden çağrılabildiği için iade ana transaction'a değil SeatLeaseStore'a yazılır.
+     */
+    private void giveBack(Long ticketTypeId, SeatLease lease, int seats) {
+        lease.lock.lock();
+        try {
+            if (lease.closed) {
+                this.leaseStore.release(ticketTypeId, seats);
+            } else {
+                lease.counter.add(seats);
+            }
+        } finally {
+            lease.lock.unlock();
+        }
+    }
+
+    // Lease'i kapatır, kullanılmayan koltukları veritabanına iade eder ve map'ten çıkarır
+    private void closeLease(Long ticketTypeId, SeatLease lease) {
+        lease.lock.lock();
+        try {
+            lease.closed = true;
+            this.leases.remove(ticketTypeId, lease);
+            long unused = lease.counter.drain();
+            if (unused > 0) {
+                this.leaseStore.release(ticketTypeId, (int) unused);
+            }
+        } finally {
+            lease.lock.unlock();
+        }
+    }
+
+    // Bir bilet türü için node'a kiralanmış koltukların bellekteki durumu
+    private static final class SeatLease {
+        private final StripedSeatCounter counter;
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile boolean closed;
+        private volatile long lastAccess = System.currentTimeMillis();
+
+        private SeatLease(int stripes) {
+            this.counter = new StripedSeatCounter(stripes);
+        }
+    }
+}
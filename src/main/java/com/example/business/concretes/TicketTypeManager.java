@@ -1,25 +1,42 @@
 package com.example.business.concretes;
 
+import com.example.business.abstracts.IEventFacetService;
 import com.example.business.abstracts.ITicketTypeService;
+import com.example.business.paging.KeysetPaging;
 import com.example.dao.EventRepo;
 import com.example.dao.TicketTypeRepo;
+import com.example.dto.response.TicketTypeResponse;
 import com.example.entities.Event;
 import com.example.entities.TicketType;
+import com.example.exception.LeaseModeUnsupportedException;
 import com.example.exception.NotFoundException;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.util.List;
 
 @Service
 public class TicketTypeManager implements ITicketTypeService {
+    private static final Logger log = LoggerFactory.getLogger(TicketTypeManager.class);
+
     private final TicketTypeRepo ticketTypeRepo;
     private final EventRepo eventRepo;
+    private final TransactionTemplate transactionTemplate;
+    private final IEventFacetService eventFacetService;
+    private final boolean leaseEnabled;
 
-    public TicketTypeManager(TicketTypeRepo ticketTypeRepo, EventRepo eventRepo) {
+    public TicketTypeManager(TicketTypeRepo ticketTypeRepo, EventRepo eventRepo, PlatformTransactionManager transactionManager,
+                             IEventFacetService eventFacetService,
+                             @Value("${eventhub.inventory.lease-enabled:false}") boolean leaseEnabled) {
         this.ticketTypeRepo = ticketTypeRepo;
         this.eventRepo = eventRepo;
+        this.eventFacetService = eventFacetService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.leaseEnabled = leaseEnabled;
     }
 
     @Override
@@ -28,7 +45,9 @@ public class TicketTypeManager implements ITicketTypeService {
                 .orElseThrow(() -> new NotFoundException("Etkinlik bulunamadı. ID: " + ticketType.getEvent().getId()));
         ticketType.setEvent(event);
 
-        return this.ticketTypeRepo.save(ticketType);
+        TicketType saved = this.ticketTypeRepo.save(ticketType);
+        this.eventFacetService.indexTicketType(saved); // Fiyat aralığı facet'i güncel tutulur
+        return saved;
     }
 
     @Override
@@ -49,19 +68,36 @@ public class TicketTypeManager implements ITicketTypeService {
             ticketType.setEvent(existingTicketType.getEvent());
         }
 
-        return this.ticketTypeRepo.save(ticketType);
+        // sold sadece kota sorguları ile değişir, güncellemede mevcut değer korunur
+        ticketType.setSold(existingTicketType.getSold());
+
+        TicketType updated = this.ticketTypeRepo.save(ticketType);
+        this.eventFacetService.indexTicketType(updated); // Fiyat veya etkinlik değiştiyse facet'ler taşınır
+        return updated;
+    }
+
+    @Override
+    public TicketTypeResponse getResponse(Long id) {
+        return this.ticketTypeRepo.findResponseById(id)
+                .orElseThrow(() -> new NotFoundException("Bilet türü bulunamadı. ID: " + id));
+    }
+
+    @Override
+    public Slice<TicketTypeResponse> cursor(Long afterId, int pageSize) {
+        int size = KeysetPaging.pageSize(pageSize);
+        return KeysetPaging.toSlice(this.ticketTypeRepo.findResponsesAfter(KeysetPaging.afterId(afterId), KeysetPaging.lookahead(size)), size);
     }
 
     @Override
-    public Page<TicketType> cursor(int page, int pageSize) {
-        Pageable pageable = PageRequest.of(page, pageSize);
-        return this.ticketTypeRepo.findAll(pageable);
+    public long count() {
+        return this.ticketTypeRepo.count();
     }
 
     @Override
     public boolean delete(Long id) {
         TicketType ticketType = this.get(id);
         this.ticketTypeRepo.delete(ticketType);
+        this.eventFacetService.removeTicketType(id);
         return true;
     }
 
@@ -72,7 +108,52 @@ public class TicketTypeManager implements ITicketTypeService {
      * @return Etkinliğe ait bilet türleri listesi
      */
     @Override
-    public List<TicketType> getByEventId(Long eventId) {
-        return this.ticketTypeRepo.findByEventId(eventId);
+    public List<TicketTypeResponse> getByEventId(Long eventId) {
+        return this.ticketTypeRepo.findResponsesByEventId(eventId);
+    }
+
+    @Override
+    public TicketTypeRepo.TicketTypeAvailability getAvailability(Long id) {
+        this.requireExactSold();
+        return this.ticketTypeRepo.findAvailabilityById(id)
+                .orElseThrow(() -> new NotFoundException("Bilet türü bulunamadı. ID: " + id));
+    }
+
+    @Override
+    public List<TicketTypeRepo.TicketTypeAvailability> getAvailabilityByEventId(Long eventId) {
+        this.requireExactSold();
+        return this.ticketTypeRepo.findAvailabilityByEventId(eventId);
+    }
+
+    // Kiralama açıkken sold, node'lardaki kullanılmamış kiralık koltukları da içerir; kalan koltuk 0 görünürken satış sürebilir
+    private void requireExactSold() {
+        if (this.leaseEnabled) {
+            throw new LeaseModeUnsupportedException("Envanter kiralama açıkken doluluk bilgisi verilemez");
+        }
+    }
+
+    /**
+     * Kayıtlarla uyuşmayan (drift) sold değerlerini düzeltir.
+     *
+     * Drift'li bilet türleri tek bir set-based sorgu ile bulunur; her biri kendi kısa transaction'ında
+     * önce satır kilidi alınarak (devam eden kota UPDATE'lerinin commit olması beklenir) yeniden sayılır.
+     *
+     * @param batchSize Tek seferde incelenecek en fazla bilet türü sayısı
+     * @return Düzeltilen bilet türü sayısı
+     */
+    @Override
+    public int repairSoldCounts(int batchSize) {
+        List<Long> driftedIds = this.ticketTypeRepo.findDriftedIds(batchSize);
+        for (Long id : driftedIds) {
+            this.transactionTemplate.executeWithoutResult(status -> {
+                if (this.ticketTypeRepo.lockById(id).isPresent()) {
+                    this.ticketTypeRepo.recalculateSold(id);
+                }
+            });
+        }
+        if (!driftedIds.isEmpty()) {
+            log.warn("{} bilet türünün sold değeri kayıtlarla uyuşmuyordu ve düzeltildi: {}", driftedIds.size(), driftedIds);
+        }
+        return driftedIds.size();
     }
 }
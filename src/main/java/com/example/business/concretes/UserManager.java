@@ -1,13 +1,13 @@
 package com.example.business.concretes;
 
 import com.example.business.abstracts.IUserService;
+import com.example.business.paging.KeysetPaging;
 import com.example.dao.UserRepo;
 import com.example.entities.User;
 import com.example.exception.AlreadyExistsException;
 import com.example.exception.NotFoundException;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import com.example.jwt.UserStatusCache;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
@@ -19,15 +19,18 @@ import java.time.LocalDateTime;
  * - Kullanıcı oluşturma, güncelleme, silme ve getirme işlemleri
  * - Email adresi için unique kontrolü
  * - NotFound ve AlreadyExists exception’larının yönetimi
+ * - Güncelleme/silme sonrası JWT revocation cache'inin temizlenmesi (rol/enabled değişikliği bu node'da hemen etkili olur)
  */
 @Service
 public class UserManager implements IUserService {
     private final UserRepo userRepo;
     private final PasswordEncoder passwordEncoder;
+    private final UserStatusCache userStatusCache;
 
-    public UserManager(UserRepo userRepo, PasswordEncoder passwordEncoder) {
+    public UserManager(UserRepo userRepo, PasswordEncoder passwordEncoder, UserStatusCache userStatusCache) {
         this.userRepo = userRepo;
         this.passwordEncoder = passwordEncoder;
+        this.userStatusCache = userStatusCache;
     }
 
     @Override
@@ -69,22 +72,34 @@ public class UserManager implements IUserService {
         // createdAt'i koru (güncelleme sırasında değişmemeli)
         user.setCreatedAt(existingUser.getCreatedAt());
 
-        // refreshToken'ı koru (güncelleme sırasında değişmemeli)
-        user.setRefreshToken(existingUser.getRefreshToken());
+        // enabled gönderilmediyse mevcut değeri koru
+        if (user.getEnabled() == null) {
+            user.setEnabled(existingUser.getEnabled());
+        }
 
-        return this.userRepo.save(user);
+        User updatedUser = this.userRepo.save(user);
+        // Eski ve yeni email için revocation cache'i temizlenir
+        this.userStatusCache.evict(existingUser.getEmail());
+        this.userStatusCache.evict(updatedUser.getEmail());
+        return updatedUser;
+    }
+
+    @Override
+    public Slice<User> cursor(Long afterId, int pageSize) {
+        int size = KeysetPaging.pageSize(pageSize);
+        return KeysetPaging.toSlice(this.userRepo.findByIdGreaterThanOrderByIdAsc(KeysetPaging.afterId(afterId), KeysetPaging.lookahead(size)), size);
     }
 
     @Override
-    public Page<User> cursor(int page, int pageSize) {
-        Pageable pageable = PageRequest.of(page,pageSize);
-        return this.userRepo.findAll(pageable);
+    public long count() {
+        return this.userRepo.count();
     }
 
     @Override
     public boolean delete(Long id) {
         User user = this.get(id);
         this.userRepo.delete(user);
+        this.userStatusCache.evict(user.getEmail());
         return true;
     }
 }
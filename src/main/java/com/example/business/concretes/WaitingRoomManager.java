@@ -0,0 +1,401 @@
+package com.example.business.concretes;
+
+import com.example.business.abstracts.IWaitingRoomService;
+import com.example.business.waitingroom.QueueAdmission;
+import com.example.dao.TicketTypeRepo;
+import com.example.dto.response.WaitingRoomResponse;
+import com.example.enums.QueueStatus;
+import com.example.exception.InvalidBulkRequestException;
+import com.example.exception.NotFoundException;
+import com.example.exception.QueueAdmissionException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Yoğun satış açılışları için sanal bekleme odası.
+ *
+ * İşleyiş:
+ * - Yapılandırılan etkinlikler (eventhub.waiting-room.event-ids) için client önce kuyruğa girer ve
+ *   sıra numarası içeren imzalı bir token alır; token başına sunucuda durum tutulmaz
+ * - Token, kuyruğa giren kullanıcıya bağlıdır (imzalı payload'da userId); başka bir kullanıcı kullanamaz
+ * - Zamanlanmış iş her tick'te kabul hızı kadar sırayı ilerletir (head); sıra numarası head'e
+ *   ulaşan token'lar ADMITTED olur ve admissionTtl süresince tek bir kayıt (veya tek grup kaydı) için kullanılabilir;
+ *   kullanılan sıra numaraları TTL süresince bellekte tutulur, böylece bir token paylaşılarak kabul hızı aşılamaz
+ * - Kabul hızı, veritabanı gecikmesi periyodik olarak ölçülerek AIMD ile ayarlanır:
+ *   gecikme hedefin üzerindeyse hız düşürülür, altındaysa kademeli olarak artırılır
+ *
+ * Bekleyen client'lar sadece bellekteki sayaçlara bakar, RegistrationRepo'ya hiç dokunmaz.
+ * Long-poll istekleri thread tutmaz: istek bekleyen listesine eklenir ve sıra numarası kabul edildiğinde
+ * zamanlanmış iş tarafından, kabul olmazsa süre sonunda yönetici thread'i tarafından yanıtlanır.
+ *
+ * Kuyruk durumu (tail/head, kullanılmış token'lar) node başına ve bellektedir:
+ * - Çok node'lu kurulumda load balancer'da etkinlik bazlı sticky routing gerekir (join, status ve kayıt
+ *   istekleri aynı node'a gitmelidir); aksi halde token başka node'da bilinmeyen bir sıraya işaret eder
+ * - Node yeniden başlarsa kuyruk sıfırlanır ve client'ların tekrar sıraya girmesi gerekir
+ * İmza anahtarı (eventhub.waiting-room.signing-key) yapılandırmadan okunur ve tüm node'larda aynı olmalıdır.
+ */
+@Service
+public class WaitingRoomManager implements IWaitingRoomService {
+    private static final Logger log = LoggerFactory.getLogger(WaitingRoomManager.class);
+    private static final long TICK_MS = 100;
+    private static final long MAX_WAIT_SECONDS = 60;
+    private static final int MIN_SIGNING_KEY_BYTES = 32;
+    private static final long USED_PURGE_INTERVAL_MS = 1000;
+    private static final int MAX_CACHED_TICKET_TYPES = 10_000;
+
+    private final TicketTypeRepo ticketTypeRepo;
+    private final JdbcTemplate jdbcTemplate;
+    private final Set<Long> eventIds;
+    private final Map<Long, EventQueue> queues = new ConcurrentHashMap<>();
+    private final Map<Long, Long> ticketTypeEvents = new ConcurrentHashMap<>(); // bilet türü → etkinlik cache'i (sınırlı, bulunamayanlar cache'lenmez)
+    private final byte[] signingKey;
+    private final AtomicLong waiterIds = new AtomicLong();
+    private final ScheduledThreadPoolExecutor waitTimeouts; // Long-poll süresi dolan bekleyenleri yanıtlar
+
+    private final double minRate;
+    private final double maxRate;
+    private final double rateStep;
+    private final long targetDbLatencyNanos;
+    private final long admissionTtlMs;
+
+    private volatile double admitPerSecond;
+    private volatile double dbLatencyEwmaNanos;
+    private long lastUsedPurge;
+
+    public WaitingRoomManager(TicketTypeRepo ticketTypeRepo,
+                              JdbcTemplate jdbcTemplate,
+                              @Value("${eventhub.waiting-room.event-ids:}") Set<Long> eventIds,
+                              @Value("${eventhub.waiting-room.admit-per-second:50}") double initialRate,
+                              @Value("${eventhub.waiting-room.min-admit-per-second:5}") double minRate,
+                              @Value("${eventhub.waiting-room.max-admit-per-second:500}") double maxRate,
+                              @Value("${eventhub.waiting-room.target-db-latency-ms:50}") long targetDbLatencyMs,
+                              @Value("${eventhub.waiting-room.admission-ttl-seconds:300}") long admissionTtlSeconds,
+                              @Value("${eventhub.waiting-room.signing-key:}") String signingKey) {
+        this.ticketTypeRepo = ticketTypeRepo;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventIds = Set.copyOf(eventIds);
+        this.admitPerSecond = initialRate;
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.rateStep = Math.max(1, maxRate / 50);
+        this.targetDbLatencyNanos = TimeUnit.MILLISECONDS.toNanos(targetDbLatencyMs);
+        this.admissionTtlMs = TimeUnit.SECONDS.toMillis(admissionTtlSeconds);
+        this.signingKey = signingKey(signingKey, !this.eventIds.isEmpty());
+        this.eventIds.forEach(id -> this.queues.put(id, new EventQueue()));
+        this.waitTimeouts = new ScheduledThreadPoolExecutor(1,
+                Thread.ofPlatform().name("waiting-room-timeout-", 0).daemon().factory());
+        this.waitTimeouts.setRemoveOnCancelPolicy(true); // Erken yanıtlanan bekleyenlerin zamanlayıcısı kuyrukta kalmaz
+    }
+
+    @PreDestroy
+    public void stop() {
+        this.waitTimeouts.shutdownNow();
+    }
+
+    @Override
+    public WaitingRoomResponse join(Long eventId, Long userId) {
+        EventQueue queue = this.queues.get(eventId);
+        if (queue == null) {
+            throw new NotFoundException("Bu etkinlik için bekleme odası bulunmuyor. ID: " + eventId);
+        }
+        long sequence = queue.tail.incrementAndGet();
+        return this.toResponse(this.sign(eventId, sequence, userId), eventId, sequence, queue);
+    }
+
+    @Override
+    public CompletableFuture<WaitingRoomResponse> status(String token, long waitSeconds) {
+        long[] parsed = this.verify(token);
+        long eventId = parsed[0];
+        long sequence = parsed[1];
+        EventQueue queue = this.queues.get(eventId);
+        if (queue == null) {
+            throw new NotFoundException("Bu etkinlik için bekleme odası bulunmuyor. ID: " + eventId);
+        }
+        if (waitSeconds <= 0 || queue.statusOf(sequence, this.admissionTtlMs) != QueueStatus.WAITING) {
+            return CompletableFuture.completedFuture(this.toResponse(token, eventId, sequence, queue));
+        }
+
+        CompletableFuture<WaitingRoomResponse> future = new CompletableFuture<>();
+        Waiter waiter = new Waiter(sequence, this.waiterIds.incrementAndGet(),
+                () -> future.complete(this.toResponse(token, eventId, sequence, queue)));
+        queue.waiters.add(waiter);
+        // Kayıt ile admit() arasındaki yarış: head eklemeden önce ilerlediyse bekleyen boşaltmayı kaçırmış olabilir
+        if (queue.statusOf(sequence, this.admissionTtlMs) != QueueStatus.WAITING) {
+            queue.waiters.remove(waiter);
+            waiter.respond().run();
+            return future;
+        }
+        ScheduledFuture<?> timeout = this.waitTimeouts.schedule(() -> {
+            if (queue.waiters.remove(waiter)) {
+                waiter.respond().run(); // Süre doldu: güncel sıra durumuyla yanıtlanır
+            }
+        }, Math.min(waitSeconds, MAX_WAIT_SECONDS), TimeUnit.SECONDS);
+        future.whenComplete((response, error) -> timeout.cancel(false));
+        return future;
+    }
+
+    @Override
+    public QueueAdmission checkAdmission(Long ticketTypeId, String token, Long userId) {
+        if (this.eventIds.isEmpty()) {
+            return QueueAdmission.NONE;
+        }
+        Long eventId = this.eventOf(ticketTypeId);
+        EventQueue queue = eventId != null ? this.queues.get(eventId) : null;
+        if (queue == null) {
+            return QueueAdmission.NONE; // Bu etkinlik için bekleme odası yok (bilet türü yoksa kayıt servisi 404 döner)
+        }
+        if (token == null || token.isBlank()) {
+            throw new QueueAdmissionException("Bu etkinlik için önce bekleme odasına girmelisiniz");
+        }
+        long[] parsed = this.verify(token);
+        if (parsed[0] != eventId) {
+            throw new QueueAdmissionException("Kuyruk token'ı bu etkinliğe ait değil");
+        }
+        if (userId == null || parsed[2] != userId) {
+            throw new QueueAdmissionException("Kuyruk token'ı başka bir kullanıcıya ait");
+        }
+        QueueStatus status = queue.statusOf(parsed[1], this.admissionTtlMs);
+        if (status == QueueStatus.WAITING) {
+            throw new QueueAdmissionException("Sıranız henüz gelmedi");
+        }
+        if (status == QueueStatus.EXPIRED) {
+            throw new QueueAdmissionException("Kuyruk token'ının süresi doldu, lütfen tekrar sıraya girin");
+        }
+
+        // Token tek kullanımlıktır: aynı sıra numarasıyla eşzamanlı gelen isteklerden sadece biri hakkı alır
+        long sequence = parsed[1];
+        Long claimedAt = System.currentTimeMillis();
+        if (queue.used.putIfAbsent(sequence, claimedAt) != null) {
+            throw new QueueAdmissionException("Kuyruk token'ı zaten kullanıldı, lütfen tekrar sıraya girin");
+        }
+        return new QueueAdmission(() -> queue.used.remove(sequence, claimedAt));
+    }
+
+    @Override
+    public QueueAdmission checkAdmission(Collection<Long> ticketTypeIds, String token, Long userId) {
+        if (this.eventIds.isEmpty()) {
+            return QueueAdmission.NONE;
+        }
+        Map<Long, Long> eventsByTicketType = new HashMap<>();
+        for (Long ticketTypeId : ticketTypeIds) {
+            Long eventId = this.eventOf(ticketTypeId);
+            if (eventId != null) {
+                eventsByTicketType.put(ticketTypeId, eventId);
+            }
+        }
+        Set<Long> events = new HashSet<>(eventsByTicketType.values());
+        if (events.stream().noneMatch(this.queues::containsKey)) {
+            return QueueAdmission.NONE; // Hiçbir etkinlik için bekleme odası yok
+        }
+        if (events.size() > 1) {
+            throw new InvalidBulkRequestException("Bekleme odası olan etkinliklerde grup kaydı tek bir etkinliğin bilet türlerini içermelidir");
+        }
+        return this.checkAdmission(eventsByTicketType.keySet().iterator().next(), token, userId);
+    }
+
+    // Her tick'te kabul hızı kadar kişiyi içeri alır (token bucket)
+    @Scheduled(fixedRate = TICK_MS)
+    public void admit() {
+        long now = System.currentTimeMillis();
+        double permitsPerTick = this.admitPerSecond * TICK_MS / 1000.0;
+        boolean purgeUsed = now - this.lastUsedPurge >= USED_PURGE_INTERVAL_MS;
+        for (EventQueue queue : this.queues.values()) {
+            queue.admit(permitsPerTick, this.admitPerSecond, now, this.admissionTtlMs);
+            queue.notifyAdmitted();
+            if (purgeUsed) {
+                // Kullanımdan TTL kadar sonra token zaten süresi dolmuş olur; kaydının tutulmasına gerek kalmaz
+                queue.used.values().removeIf(claimedAt -> now - claimedAt > this.admissionTtlMs);
+            }
+        }
+        if (purgeUsed) {
+            this.lastUsedPurge = now;
+        }
+    }
+
+    // Veritabanı gecikmesini ölçer (bağlantı alma + round trip) ve kabul hızını AIMD ile ayarlar
+    @Scheduled(fixedDelayString = "${eventhub.waiting-room.probe-interval-ms:1000}")
+    public void adjustRate() {
+        if (this.queues.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            this.jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+        } catch (RuntimeException e) {
+            log.warn("Bekleme odası DB gecikme ölçümü başarısız: {}", e.getMessage());
+            this.admitPerSecond = this.minRate;
+            return;
+        }
+        long latency = System.nanoTime() - start;
+        this.dbLatencyEwmaNanos = this.dbLatencyEwmaNanos == 0 ? latency : 0.7 * this.dbLatencyEwmaNanos + 0.3 * latency;
+
+        if (this.dbLatencyEwmaNanos > this.targetDbLatencyNanos) {
+            this.admitPerSecond = Math.max(this.minRate, this.admitPerSecond * 0.7);
+        } else {
+            this.admitPerSecond = Math.min(this.maxRate, this.admitPerSecond + this.rateStep);
+        }
+    }
+
+    /**
+     * Bilet türünün etkinliği; bilet türü yoksa null.
+     * Bulunamayan ID'ler cache'lenmez (rastgele ID'lerle map büyütülemez), map MAX_CACHED_TICKET_TYPES ile sınırlıdır.
+     */
+    private Long eventOf(Long ticketTypeId) {
+        Long cached = this.ticketTypeEvents.get(ticketTypeId);
+        if (cached != null) {
+            return cached;
+        }
+        Long eventId = this.ticketTypeRepo.findEventIdById(ticketTypeId).orElse(null);
+        if (eventId != null) {
+            if (this.ticketTypeEvents.size() >= MAX_CACHED_TICKET_TYPES) {
+                // Sınır aşılınca rastgele bir kayıt atılır; bilet türü → etkinlik eşlemesi değişmediği için tekrar okunması yeterlidir
+                this.ticketTypeEvents.keySet().stream().findAny().ifPresent(this.ticketTypeEvents::remove);
+            }
+            this.ticketTypeEvents.put(ticketTypeId, eventId);
+        }
+        return eventId;
+    }
+
+    // Üretimde anahtar yapılandırmadan gelir (node'lar arası ortak); bekleme odası kapalıyken token üretilmediği için rastgele olabilir
+    private static byte[] signingKey(String configured, boolean required) {
+        if (configured == null || configured.isBlank()) {
+            if (required) {
+                throw new IllegalStateException("eventhub.waiting-room.signing-key bekleme odası açıkken zorunludur");
+            }
+            byte[] random = new byte[MIN_SIGNING_KEY_BYTES];
+            new SecureRandom().nextBytes(random);
+            return random;
+        }
+        byte[] key = Base64.getDecoder().decode(configured.trim());
+        if (key.length < MIN_SIGNING_KEY_BYTES) {
+            throw new IllegalStateException("eventhub.waiting-room.signing-key en az " + MIN_SIGNING_KEY_BYTES + " byte olmalıdır (base64)");
+        }
+        return key;
+    }
+
+    private WaitingRoomResponse toResponse(String token, long eventId, long sequence, EventQueue queue) {
+        QueueStatus status = queue.statusOf(sequence, this.admissionTtlMs);
+        long position = status == QueueStatus.WAITING ? sequence - queue.head.get() : 0;
+        long estimatedWait = status == QueueStatus.WAITING ? (long) Math.ceil(position / Math.max(this.admitPerSecond, 1)) : 0;
+        return new WaitingRoomResponse(token, eventId, status, position, estimatedWait);
+    }
+
+    // Token formatı: eventId.sequence.userId.imza (imza HMAC-SHA256, base64url)
+    private String sign(long eventId, long sequence, long userId) {
+        String payload = eventId + "." + sequence + "." + userId;
+        return payload + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(this.hmac(payload));
+    }
+
+    private long[] verify(String token) {
+        String[] parts = token.split("\\.");
+        if (parts.length == 4) {
+            String payload = parts[0] + "." + parts[1] + "." + parts[2];
+            byte[] expected = this.hmac(payload);
+            try {
+                byte[] actual = Base64.getUrlDecoder().decode(parts[3]);
+                if (MessageDigest.isEqual(expected, actual)) {
+                    return new long[]{Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2])};
+                }
+            } catch (IllegalArgumentException e) {
+                // Geçersiz base64 veya sayı, aşağıda hata fırlatılır
+            }
+        }
+        throw new QueueAdmissionException("Geçersiz kuyruk token'ı");
+    }
+
+    private byte[] hmac(String payload) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(this.signingKey, "HmacSHA256"));
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Bir etkinliğin kuyruğu. Sadece iki sayaç ve kabul zamanlarını tutan küçük bir map'ten oluşur:
+     * - tail: verilen son sıra numarası
+     * - head: kabul edilen son sıra numarası
+     * - admissions: head değeri → o değere ulaşıldığı zaman (token'ın kabul zamanını bulmak için)
+     * - used: kayıtta kullanılmış sıra numarası → kullanım zamanı (TTL sonra temizlenir)
+     * - waiters: long-poll ile bekleyen istekler, sıra numarasına göre sıralı (kabul edilince boşaltılır)
+     */
+    private static final class EventQueue {
+        private final AtomicLong tail = new AtomicLong();
+        private final AtomicLong head = new AtomicLong();
+        private final ConcurrentSkipListMap<Long, Long> admissions = new ConcurrentSkipListMap<>();
+        private final Map<Long, Long> used = new ConcurrentHashMap<>();
+        private final ConcurrentSkipListSet<Waiter> waiters = new ConcurrentSkipListSet<>(
+                Comparator.comparingLong(Waiter::sequence).thenComparingLong(Waiter::id));
+        private double permits;
+
+        // Sadece zamanlanmış iş tarafından (tek thread) çağrılır
+        private void admit(double permitsPerTick, double maxBurst, long now, long admissionTtlMs) {
+            long currentHead = this.head.get();
+            long waiting = this.tail.get() - currentHead;
+            this.permits = Math.min(this.permits + permitsPerTick, Math.max(maxBurst, 1));
+            long admitted = Math.min(waiting, (long) this.permits);
+            if (admitted > 0) {
+                this.permits -= admitted;
+                long newHead = currentHead + admitted;
+                this.admissions.put(newHead, now);
+                this.head.set(newHead);
+            }
+            // Süresi dolmuş kabul kayıtları temizlenir, map boyutu TTL / tick ile sınırlı kalır
+            this.admissions.entrySet().removeIf(entry -> now - entry.getValue() > admissionTtlMs);
+        }
+
+        // Sırası gelen bekleyenleri yanıtlar; remove() başarılı olan taraf (burası veya zaman aşımı) yanıtı verir
+        private void notifyAdmitted() {
+            Waiter last = new Waiter(this.head.get(), Long.MAX_VALUE, null);
+            for (Waiter waiter : this.waiters.headSet(last, true)) {
+                if (this.waiters.remove(waiter)) {
+                    waiter.respond().run();
+                }
+            }
+        }
+
+        private QueueStatus statusOf(long sequence, long admissionTtlMs) {
+            if (sequence > this.head.get()) {
+                return QueueStatus.WAITING;
+            }
+            Map.Entry<Long, Long> admission = this.admissions.ceilingEntry(sequence);
+            if (admission == null || System.currentTimeMillis() - admission.getValue() > admissionTtlMs) {
+                return QueueStatus.EXPIRED;
+            }
+            return QueueStatus.ADMITTED;
+        }
+    }
+
+    // Long-poll ile bekleyen tek bir istek; id aynı sıra numarasıyla bekleyen istekleri ayırır
+    private record Waiter(long sequence, long id, Runnable respond) {
+    }
+}
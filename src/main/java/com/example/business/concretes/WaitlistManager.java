@@ -0,0 +1,218 @@
+package com.example.business.concretes;
+
+import com.example.business.abstracts.ITicketInventoryService;
+import com.example.business.abstracts.IWaitlistService;
+import com.example.business.paging.KeysetPaging;
+import com.example.dao.RegistrationBatchInsertRepo;
+import com.example.dao.TicketTypeRepo;
+import com.example.dao.UserRepo;
+import com.example.dao.WaitlistEntryRepo;
+import com.example.entities.Registration;
+import com.example.entities.TicketType;
+import com.example.entities.User;
+import com.example.entities.WaitlistEntry;
+import com.example.enums.RegistrationStatus;
+import com.example.exception.AlreadyExistsException;
+import com.example.exception.LeaseModeUnsupportedException;
+import com.example.exception.NotFoundException;
+import com.example.exception.TicketsAvailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bilet türü başına bekleme listesi.
+ *
+ * Koltuk boşaldığında (iptal, silme, süresi dolan tutma) RegistrationManager koltuğu kotaya
+ * iade etmek yerine releaseSeats'i çağırır. Sıradaki kullanıcılar index üzerinden
+ * FOR UPDATE SKIP LOCKED ile alınır ve aynı transaction içinde ACTIVE kayda dönüştürülür;
+ * koltuk kotaya hiç dönmediği için sold değişmez ve başka bir kullanıcı araya giremez.
+ *
+ * Listeye girme ile koltuk iadesi bilet türü satırını kilitlemez; bunun yerine iki taraf da kendi yazması
+ * commit edildikten sonra diğerini yeniden kontrol eder (kiralama açık ve kapalı modda aynı protokol):
+ * - join: kayıt commit edilince listenin başına kotadan koltuk ayırmayı dener (promoteFromQuota)
+ * - releaseSeats: listede kimse bulunamadığı için kotaya iade edilen koltuk varsa, commit sonrası aynı denemeyi yapar
+ * İki commit'ten sonraki kontrol en az birinde diğerinin yazmasını görür; böylece boş koltuk varken
+ * listede bekleyen kalmaz. Koltuk ayırma ITicketInventoryService üzerinden yapıldığı için iki modda da geçerlidir;
+ * yine de kiralama açıkken kalan koltuk sayısı doğru okunamadığı için listeye yeni giriş kabul edilmez.
+ * Koltuk önce ayrılır, sonra listenin başı SKIP LOCKED ile alınır: kilitlenen her kayıt için elde koltuk vardır,
+ * aynı anda çalışan denemeler birbirini beklemeden farklı kişileri kayda alır.
+ */
+@Service
+public class WaitlistManager implements IWaitlistService {
+    private static final Logger log = LoggerFactory.getLogger(WaitlistManager.class);
+
+    private final WaitlistEntryRepo waitlistEntryRepo;
+    private final UserRepo userRepo;
+    private final TicketTypeRepo ticketTypeRepo;
+    private final RegistrationBatchInsertRepo registrationBatchInsertRepo;
+    private final ITicketInventoryService ticketInventoryService;
+    private final TransactionTemplate promotionTransaction;
+    private final boolean leaseEnabled;
+
+    public WaitlistManager(WaitlistEntryRepo waitlistEntryRepo,
+                           UserRepo userRepo,
+                           TicketTypeRepo ticketTypeRepo,
+                           RegistrationBatchInsertRepo registrationBatchInsertRepo,
+                           ITicketInventoryService ticketInventoryService,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${eventhub.inventory.lease-enabled:false}") boolean leaseEnabled) {
+        this.waitlistEntryRepo = waitlistEntryRepo;
+        this.userRepo = userRepo;
+        this.ticketTypeRepo = ticketTypeRepo;
+        this.registrationBatchInsertRepo = registrationBatchInsertRepo;
+        this.ticketInventoryService = ticketInventoryService;
+        // afterCommit içinden çalıştığı için yeni bir transaction açmalıdır (önceki transaction commit edilmiştir)
+        this.promotionTransaction = new TransactionTemplate(transactionManager);
+        this.promotionTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.leaseEnabled = leaseEnabled;
+    }
+
+    /**
+     * Kullanıcıyı bilet türünün bekleme listesinin sonuna ekler.
+     * Bilet türü satırı kilitlenmez; commit sonrası listenin başına kotadan koltuk ayrılmaya çalışılır,
+     * böylece aynı anda kotaya iade edilen bir koltuk listeye eklenen kişiyi kaçırmaz (bkz. sınıf açıklaması).
+     *
+     * @throws TicketsAvailableException     Bilet türünde hâlâ boş koltuk varsa
+     * @throws AlreadyExistsException        Kullanıcı zaten listedeyse
+     * @throws LeaseModeUnsupportedException Envanter kiralama açıksa (kalan koltuk sayısı kiralık koltuklar yüzünden
+     *                                       doğru okunamaz; kotası dolmamış bilet türüne liste açılırdı)
+     */
+    @Override
+    @Transactional
+    public WaitlistEntry join(Long userId, Long ticketTypeId) {
+        if (this.leaseEnabled) {
+            throw new LeaseModeUnsupportedException("Envanter kiralama açıkken bekleme listesine girilemez");
+        }
+        User user = this.userRepo.findById(userId)
+                .orElseThrow(() -> new NotFoundException("Kullanıcı bulunamadı. ID: " + userId));
+        if (!this.ticketTypeRepo.existsById(ticketTypeId)) {
+            throw new NotFoundException("Bilet türü bulunamadı. ID: " + ticketTypeId);
+        }
+        if (this.waitlistEntryRepo.existsByUserIdAndTicketTypeId(userId, ticketTypeId)) {
+            throw new AlreadyExistsException("Kullanıcı bu bilet türünün bekleme listesinde zaten var");
+        }
+        Integer remaining = this.ticketTypeRepo.findRemainingSeats(ticketTypeId);
+        if (remaining != null && remaining > 0) {
+            throw new TicketsAvailableException("Bilet türünde boş koltuk var, doğrudan kayıt oluşturabilirsiniz. ID: " + ticketTypeId);
+        }
+
+        WaitlistEntry entry = new WaitlistEntry();
+        entry.setUser(user);
+        entry.setTicketType(this.ticketTypeRepo.getReferenceById(ticketTypeId));
+        entry.setCreatedAt(LocalDateTime.now());
+        WaitlistEntry saved = this.waitlistEntryRepo.save(entry);
+        this.promoteAfterCommit(ticketTypeId, 1);
+        return saved;
+    }
+
+    @Override
+    public WaitlistEntry get(Long id) {
+        return this.waitlistEntryRepo.findById(id)
+                .orElseThrow(() -> new NotFoundException("Bekleme listesi kaydı bulunamadı. ID: " + id));
+    }
+
+    @Override
+    public long position(WaitlistEntry entry) {
+        return this.waitlistEntryRepo.countByTicketTypeIdAndIdLessThan(entry.getTicketType().getId(), entry.getId()) + 1;
+    }
+
+    @Override
+    public Slice<WaitlistEntry> getByTicketType(Long ticketTypeId, Long afterId, int pageSize) {
+        int size = KeysetPaging.pageSize(pageSize);
+        return KeysetPaging.toSlice(this.waitlistEntryRepo.findByTicketTypeIdAndIdGreaterThanOrderByIdAsc(
+                ticketTypeId, KeysetPaging.afterId(afterId), KeysetPaging.lookahead(size)), size);
+    }
+
+    @Override
+    public boolean leave(Long id) {
+        this.waitlistEntryRepo.delete(this.get(id));
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public int releaseSeats(Long ticketTypeId, int seats) {
+        // Boşalan koltuk başına listeden bir kişi (index'in başından, tarama yok)
+        List<WaitlistEntryRepo.WaitlistHead> heads = this.waitlistEntryRepo.findHeadsForUpdate(ticketTypeId, seats);
+        this.promote(ticketTypeId, heads);
+
+        // Listede yeterli kişi yoksa kalan koltuklar kotaya iade edilir; bu sırada listeye giren (henüz commit
+        // edilmemiş) kişiler görülmediği için commit sonrası liste tekrar kontrol edilir
+        int remaining = seats - heads.size();
+        if (remaining > 0) {
+            this.ticketInventoryService.release(ticketTypeId, remaining);
+            this.promoteAfterCommit(ticketTypeId, remaining);
+        }
+        return heads.size();
+    }
+
+    // Mevcut transaction commit edildikten sonra listenin başına kotadan en fazla maxSeats koltuk ayırır
+    private void promoteAfterCommit(Long ticketTypeId, int maxSeats) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    promoteFromQuota(ticketTypeId, maxSeats);
+                } catch (RuntimeException e) {
+                    // Asıl işlem commit edildi; bekleyenler bir sonraki koltuk iadesinde kayda alınır
+                    log.warn("Bilet türü {} için bekleme listesi kontrolü başarısız: {}", ticketTypeId, e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * Kotadan koltuk ayırır ve listenin başındaki kişileri kayda alır; kullanılmayan koltuklar kotaya geri döner.
+     * Koltuk listenin başı kilitlenmeden önce ayrılır: SKIP LOCKED ile atlanan her kayıt, elinde koltuk olan
+     * başka bir deneme tarafından kayda alınıyordur.
+     */
+    private int promoteFromQuota(Long ticketTypeId, int maxSeats) {
+        Integer promoted = this.promotionTransaction.execute(status -> {
+            int acquired = this.ticketInventoryService.acquireUpTo(ticketTypeId, maxSeats);
+            if (acquired == 0) {
+                return 0;
+            }
+            List<WaitlistEntryRepo.WaitlistHead> heads = this.waitlistEntryRepo.findHeadsForUpdate(ticketTypeId, acquired);
+            this.promote(ticketTypeId, heads);
+            if (acquired > heads.size()) {
+                this.ticketInventoryService.release(ticketTypeId, acquired - heads.size());
+            }
+            return heads.size();
+        });
+        return promoted != null ? promoted : 0;
+    }
+
+    // Kilitlenmiş liste kayıtlarını ACTIVE kayda dönüştürür ve listeden siler
+    private void promote(Long ticketTypeId, List<WaitlistEntryRepo.WaitlistHead> heads) {
+        if (heads.isEmpty()) {
+            return;
+        }
+        TicketType ticketType = this.ticketTypeRepo.getReferenceById(ticketTypeId);
+        LocalDateTime now = LocalDateTime.now();
+        List<Registration> promoted = new ArrayList<>(heads.size());
+        for (WaitlistEntryRepo.WaitlistHead head : heads) {
+            Registration registration = new Registration();
+            registration.setUser(this.userRepo.getReferenceById(head.getUserId()));
+            registration.setTicketType(ticketType);
+            registration.setRegisteredAt(now);
+            registration.setStatus(RegistrationStatus.ACTIVE);
+            promoted.add(registration);
+        }
+        this.registrationBatchInsertRepo.insertAll(promoted);
+        this.waitlistEntryRepo.deleteAllByIdInBatch(heads.stream().map(WaitlistEntryRepo.WaitlistHead::getId).toList());
+        log.info("Bilet türü {} için bekleme listesinden {} kullanıcı kayda alındı", ticketTypeId, heads.size());
+    }
+}
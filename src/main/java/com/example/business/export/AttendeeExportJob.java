@@ -0,0 +1,54 @@
+package com.example.business.export;
+
+import com.example.enums.ExportStatus;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+/**
+ * Bir etkinliğin katılımcı listesini üreten arka plan işinin durumu.
+ * Alanlar export thread'i tarafından yazılır, status endpoint'i tarafından okunur; bu yüzden volatile'dır.
+ */
+@Getter
+public class AttendeeExportJob {
+    private final String id;
+    private final Long eventId;
+    private final Long ownerId; // İşi başlatan kullanıcı; durum ve dosya sadece ona (ve adminlere) gösterilir
+    private final LocalDateTime createdAt;
+    private volatile ExportStatus status = ExportStatus.PENDING;
+    private volatile LocalDateTime finishedAt;
+    private volatile long rowCount;
+    private volatile long fileSize;
+    private volatile Path file;
+    private volatile String error;
+
+    public AttendeeExportJob(String id, Long eventId, Long ownerId, LocalDateTime createdAt) {
+        this.id = id;
+        this.eventId = eventId;
+        this.ownerId = ownerId;
+        this.createdAt = createdAt;
+    }
+
+    public boolean isFinished() {
+        return this.status == ExportStatus.DONE || this.status == ExportStatus.FAILED;
+    }
+
+    public void start() {
+        this.status = ExportStatus.RUNNING;
+    }
+
+    public void complete(Path file, long rowCount, long fileSize) {
+        this.file = file;
+        this.rowCount = rowCount;
+        this.fileSize = fileSize;
+        this.finishedAt = LocalDateTime.now();
+        this.status = ExportStatus.DONE;
+    }
+
+    public void fail(String error) {
+        this.error = error;
+        this.finishedAt = LocalDateTime.now();
+        this.status = ExportStatus.FAILED;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.business.export;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Katılımcı CSV export'unun tek satırı. Registration, User ve TicketType tek sorguda JOIN edilip
+ * JPQL constructor expression ile doğrudan bu nesneye okunur (entity yüklenmez).
+ */
+@Getter
+@AllArgsConstructor
+public class AttendeeRow {
+    private final Long registrationId;
+    private final LocalDateTime registeredAt;
+    private final Long ticketTypeId;
+    private final String ticketTypeName;
+    private final Double price;
+    private final Long userId;
+    private final String userName;
+    private final String userEmail;
+}
@@ -0,0 +1,24 @@
+package com.example.business.facet;
+
+import com.example.entities.Event;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.util.Map;
+
+/**
+ * Facet'li etkinlik listesinin sonucu.
+ *
+ * Her facet'in sayıları diğer facet'lerin filtreleri uygulanarak hesaplanır; böylece kullanıcı bir facet'te
+ * seçim yaptığında aynı facet'in diğer değerleri kaybolmaz. total tüm filtrelerin kesişimindeki etkinlik sayısıdır.
+ */
+@Getter
+@AllArgsConstructor
+public class EventFacets {
+    private final Map<Long, Long> categoryCounts; // Kategori ID → etkinlik sayısı
+    private final Map<String, Long> priceBandCounts; // Fiyat aralığı etiketi → etkinlik sayısı
+    private final Map<String, Long> monthCounts; // Ay (yyyy-MM) → etkinlik sayısı
+    private final long total;
+    private final Slice<Event> events;
+}
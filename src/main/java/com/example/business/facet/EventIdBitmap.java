@@ -0,0 +1,375 @@
+package com.example.business.facet;
+
+import java.util.Arrays;
+
+/**
+ * Roaring tarzı sıkıştırılmış etkinlik id kümesi.
+ *
+ * Id'ler üst bitlerine (id >>> 16) göre 65536'lık bloklara ayrılır, her blok kendi container'ında tutulur:
+ * - En fazla 4096 eleman: sıralı char dizisi (eleman başına 2 byte)
+ * - Daha fazlası: 8 KB'lık sabit bit dizisi
+ * Seyrek facet değerleri az yer kaplar, yoğun olanlar kesişimde kelime kelime AND ile işlenir.
+ *
+ * Thread-safe değildir; eşzamanlı erişim sahibi olan sınıf tarafından senkronize edilir.
+ */
+public final class EventIdBitmap {
+    private static final int ARRAY_MAX = 4096;
+
+    private long[] keys = new long[4]; // Sıralı blok anahtarları (id >>> 16)
+    private Container[] containers = new Container[4];
+    private int size;
+
+    public void add(long id) {
+        long key = id >>> 16;
+        int i = this.indexOf(key);
+        if (i < 0) {
+            i = -i - 1;
+            this.insertAt(i, key, new ArrayContainer());
+        }
+        this.containers[i] = this.containers[i].add((char) id);
+    }
+
+    public void remove(long id) {
+        int i = this.indexOf(id >>> 16);
+        if (i < 0) {
+            return;
+        }
+        Container container = this.containers[i].remove((char) id);
+        if (container.cardinality() == 0) {
+            this.removeAt(i);
+        } else {
+            this.containers[i] = container;
+        }
+    }
+
+    public boolean contains(long id) {
+        int i = this.indexOf(id >>> 16);
+        return i >= 0 && this.containers[i].contains((char) id);
+    }
+
+    public long cardinality() {
+        long total = 0;
+        for (int i = 0; i < this.size; i++) {
+            total += this.containers[i].cardinality();
+        }
+        return total;
+    }
+
+    // İki kümenin kesişimi (yeni küme)
+    public static EventIdBitmap and(EventIdBitmap a, EventIdBitmap b) {
+        EventIdBitmap result = new EventIdBitmap();
+        int i = 0, j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                Container container = a.containers[i].and(b.containers[j]);
+                if (container.cardinality() > 0) {
+                    result.insertAt(result.size, a.keys[i], container);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    // Kesişimin eleman sayısı; ara küme oluşturulmaz
+    public static long andCardinality(EventIdBitmap a, EventIdBitmap b) {
+        long total = 0;
+        int i = 0, j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                total += a.containers[i].andCardinality(b.containers[j]);
+                i++;
+                j++;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * afterId'den büyük ilk limit kadar id'yi artan sırada döner (keyset sayfalama).
+     */
+    public long[] select(long afterId, int limit) {
+        long[] out = new long[limit];
+        int count = 0;
+        long startKey = afterId < 0 ? 0 : afterId >>> 16;
+        int i = this.indexOf(startKey);
+        if (i < 0) {
+            i = -i - 1;
+        }
+        for (; i < this.size && count < limit; i++) {
+            long base = this.keys[i] << 16;
+            int fromLow = afterId < base ? 0 : (int) (afterId - base) + 1;
+            if (fromLow <= 0xFFFF) {
+                count = this.containers[i].select(fromLow, base, out, count, limit);
+            }
+        }
+        return count == limit ? out : Arrays.copyOf(out, count);
+    }
+
+    private int indexOf(long key) {
+        return Arrays.binarySearch(this.keys, 0, this.size, key);
+    }
+
+    private void insertAt(int i, long key, Container container) {
+        if (this.size == this.keys.length) {
+            this.keys = Arrays.copyOf(this.keys, this.size * 2);
+            this.containers = Arrays.copyOf(this.containers, this.size * 2);
+        }
+        System.arraycopy(this.keys, i, this.keys, i + 1, this.size - i);
+        System.arraycopy(this.containers, i, this.containers, i + 1, this.size - i);
+        this.keys[i] = key;
+        this.containers[i] = container;
+        this.size++;
+    }
+
+    private void removeAt(int i) {
+        System.arraycopy(this.keys, i + 1, this.keys, i, this.size - i - 1);
+        System.arraycopy(this.containers, i + 1, this.containers, i, this.size - i - 1);
+        this.size--;
+        this.containers[this.size] = null;
+    }
+
+    private interface Container {
+        Container add(char value);
+        Container remove(char value);
+        boolean contains(char value);
+        int cardinality();
+        Container and(Container other);
+        int andCardinality(Container other);
+        int select(int fromLow, long base, long[] out, int count, int limit);
+    }
+
+    private static final class ArrayContainer implements Container {
+        private char[] values;
+        private int cardinality;
+
+        private ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        private ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        public Container add(char value) {
+            int i = Arrays.binarySearch(this.values, 0, this.cardinality, value);
+            if (i >= 0) {
+                return this;
+            }
+            if (this.cardinality == ARRAY_MAX) {
+                return this.toBitmap().add(value);
+            }
+            i = -i - 1;
+            if (this.cardinality == this.values.length) {
+                this.values = Arrays.copyOf(this.values, Math.max(4, Math.min(this.cardinality * 2, ARRAY_MAX)));
+            }
+            System.arraycopy(this.values, i, this.values, i + 1, this.cardinality - i);
+            this.values[i] = value;
+            this.cardinality++;
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            int i = Arrays.binarySearch(this.values, 0, this.cardinality, value);
+            if (i >= 0) {
+                System.arraycopy(this.values, i + 1, this.values, i, this.cardinality - i - 1);
+                this.cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return Arrays.binarySearch(this.values, 0, this.cardinality, value) >= 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return this.cardinality;
+        }
+
+        @Override
+        public Container and(Container other) {
+            char[] result = new char[Math.min(this.cardinality, other.cardinality())];
+            int count = 0;
+            if (other instanceof ArrayContainer array) {
+                int i = 0, j = 0;
+                while (i < this.cardinality && j < array.cardinality) {
+                    if (this.values[i] < array.values[j]) {
+                        i++;
+                    } else if (this.values[i] > array.values[j]) {
+                        j++;
+                    } else {
+                        result[count++] = this.values[i];
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < this.cardinality; i++) {
+                    if (other.contains(this.values[i])) {
+                        result[count++] = this.values[i];
+                    }
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        public int andCardinality(Container other) {
+            int count = 0;
+            if (other instanceof ArrayContainer array) {
+                int i = 0, j = 0;
+                while (i < this.cardinality && j < array.cardinality) {
+                    if (this.values[i] < array.values[j]) {
+                        i++;
+                    } else if (this.values[i] > array.values[j]) {
+                        j++;
+                    } else {
+                        count++;
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < this.cardinality; i++) {
+                    if (other.contains(this.values[i])) {
+                        count++;
+                    }
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public int select(int fromLow, long base, long[] out, int count, int limit) {
+            int i = Arrays.binarySearch(this.values, 0, this.cardinality, (char) fromLow);
+            if (i < 0) {
+                i = -i - 1;
+            }
+            for (; i < this.cardinality && count < limit; i++) {
+                out[count++] = base | this.values[i];
+            }
+            return count;
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer(new long[1024], 0);
+            for (int i = 0; i < this.cardinality; i++) {
+                bitmap.add(this.values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    private static final class BitmapContainer implements Container {
+        private final long[] words;
+        private int cardinality;
+
+        private BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        public Container add(char value) {
+            long before = this.words[value >>> 6];
+            this.words[value >>> 6] = before | (1L << value);
+            if (before != this.words[value >>> 6]) {
+                this.cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            long before = this.words[value >>> 6];
+            this.words[value >>> 6] = before & ~(1L << value);
+            if (before != this.words[value >>> 6]) {
+                this.cardinality--;
+            }
+            return this.cardinality <= ARRAY_MAX ? this.toArray() : this;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return (this.words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return this.cardinality;
+        }
+
+        @Override
+        public Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+            BitmapContainer bitmap = (BitmapContainer) other;
+            long[] result = new long[1024];
+            int count = 0;
+            for (int i = 0; i < 1024; i++) {
+                result[i] = this.words[i] & bitmap.words[i];
+                count += Long.bitCount(result[i]);
+            }
+            BitmapContainer container = new BitmapContainer(result, count);
+            return count <= ARRAY_MAX ? container.toArray() : container;
+        }
+
+        @Override
+        public int andCardinality(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.andCardinality(this);
+            }
+            BitmapContainer bitmap = (BitmapContainer) other;
+            int count = 0;
+            for (int i = 0; i < 1024; i++) {
+                count += Long.bitCount(this.words[i] & bitmap.words[i]);
+            }
+            return count;
+        }
+
+        @Override
+        public int select(int fromLow, long base, long[] out, int count, int limit) {
+            int i = fromLow >>> 6;
+            long word = this.words[i] & (-1L << fromLow);
+            while (count < limit) {
+                while (word == 0) {
+                    if (++i == 1024) {
+                        return count;
+                    }
+                    word = this.words[i];
+                }
+                out[count++] = base | ((long) i << 6) | Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+            return count;
+        }
+
+        private ArrayContainer toArray() {
+            char[] values = new char[Math.max(this.cardinality, 4)];
+            int count = 0;
+            for (int i = 0; i < 1024; i++) {
+                long word = this.words[i];
+                while (word != 0) {
+                    values[count++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(values, count);
+        }
+    }
+}
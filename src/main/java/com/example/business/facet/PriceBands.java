@@ -0,0 +1,59 @@
+package com.example.business.facet;
+
+import java.util.Arrays;
+
+/**
+ * Bilet fiyatı facet'inin aralıkları.
+ *
+ * Sınırlar artan sırada verilir (örn. 0,250,500,1000); her aralık alt sınırı dahil, üst sınırı hariçtir,
+ * son aralık üstten açıktır. Etiketler "0-250", "250-500", "1000+" biçimindedir.
+ */
+public final class PriceBands {
+    private final double[] bounds;
+    private final String[] labels;
+
+    public PriceBands(double[] bounds) {
+        if (bounds.length == 0) {
+            throw new IllegalArgumentException("En az bir fiyat aralığı sınırı tanımlanmalıdır");
+        }
+        this.bounds = bounds.clone();
+        Arrays.sort(this.bounds);
+        this.labels = new String[this.bounds.length];
+        for (int i = 0; i < this.bounds.length; i++) {
+            this.labels[i] = i == this.bounds.length - 1
+                    ? format(this.bounds[i]) + "+"
+                    : format(this.bounds[i]) + "-" + format(this.bounds[i + 1]);
+        }
+    }
+
+    public int size() {
+        return this.bounds.length;
+    }
+
+    // Fiyatın düştüğü aralık; ilk sınırın altındaki fiyatlar ilk aralığa sayılır
+    public int bandOf(double price) {
+        int band = 0;
+        while (band + 1 < this.bounds.length && price >= this.bounds[band + 1]) {
+            band++;
+        }
+        return band;
+    }
+
+    public String label(int band) {
+        return this.labels[band];
+    }
+
+    // Etiketin aralık numarası; bilinmeyen etiket için -1
+    public int indexOf(String label) {
+        for (int i = 0; i < this.labels.length; i++) {
+            if (this.labels[i].equals(label)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String format(double bound) {
+        return bound == Math.rint(bound) ? String.valueOf((long) bound) : String.valueOf(bound);
+    }
+}
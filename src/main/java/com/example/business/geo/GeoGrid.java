@@ -0,0 +1,92 @@
+package com.example.business.geo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Koordinatları sabit boyutlu enlem/boylam hücrelerine bölen grid.
+ *
+ * Her hücre tek bir integer ile temsil edilir: satır * LON_CELLS + sütun. Aynı enlem satırındaki hücreler
+ * ardışık numaralı olduğu için bir arama dairesinin sınırlayıcı kutusu, satır başına tek bir
+ * "geo_cell BETWEEN lo AND hi" aralığına dönüşür ve B-tree index üzerinden range scan ile okunur.
+ *
+ * Hücre formülü events.geo_cell generated kolonunun SQL ifadesi ile birebir aynıdır (CELL_SQL).
+ */
+public final class GeoGrid {
+    public static final double CELL_DEGREES = 0.25; // ~28 km enlem
+    public static final int LON_CELLS = 1440; // 360 / CELL_DEGREES
+    public static final int LAT_CELLS = 720; // 180 / CELL_DEGREES
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    // Sütun 0..LON_CELLS-1 aralığında tutulur; 180. boylam bir sonraki satıra taşmaz
+    public static final String CELL_SQL = "integer generated always as (cast(" +
+            "least(floor((latitude + 90) / " + CELL_DEGREES + "), " + (LAT_CELLS - 1) + ") * " + LON_CELLS + " + " +
+            "least(floor((longitude + 180) / " + CELL_DEGREES + "), " + (LON_CELLS - 1) + ") as integer)) stored";
+
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    private GeoGrid() {
+    }
+
+    public static int cellOf(double latitude, double longitude) {
+        return row(latitude) * LON_CELLS + column(longitude);
+    }
+
+    /**
+     * Merkezi ve yarıçapı verilen dairenin sınırlayıcı kutusunu kapsayan hücre aralıklarını döner.
+     *
+     * - Her enlem satırı için bir aralık üretilir; 180. boylamı aşan kutular iki aralığa bölünür
+     * - Kutu kutba yaklaşıp tüm boylamları kapsarsa satırın tamamı tek aralık olur
+     * - Aralıklar yalnızca aday üretir, kesin (haversine) mesafe filtresi sorguda bu adaylara uygulanır
+     */
+    public static List<CellRange> cover(double latitude, double longitude, double radiusKm) {
+        double deltaLat = radiusKm / KM_PER_DEGREE;
+        double minLat = Math.max(latitude - deltaLat, -90);
+        double maxLat = Math.min(latitude + deltaLat, 90);
+
+        // Boylam derecesi kutuplara doğru kısalır; kutbu içeren kutularda tüm boylamlar taranır
+        double cosLat = Math.min(Math.cos(Math.toRadians(minLat)), Math.cos(Math.toRadians(maxLat)));
+        double deltaLon = cosLat > 0 ? deltaLat / cosLat : 180;
+        boolean allLongitudes = deltaLon >= 180 || maxLat >= 90 || minLat <= -90;
+
+        List<CellRange> ranges = new ArrayList<>();
+        for (int row = row(minLat); row <= row(maxLat); row++) {
+            int base = row * LON_CELLS;
+            if (allLongitudes) {
+                ranges.add(new CellRange(base, base + LON_CELLS - 1));
+                continue;
+            }
+            double west = longitude - deltaLon;
+            double east = longitude + deltaLon;
+            if (west < -180) {
+                ranges.add(new CellRange(base, base + column(east)));
+                ranges.add(new CellRange(base + column(west + 360), base + LON_CELLS - 1));
+            } else if (east > 180) {
+                ranges.add(new CellRange(base + column(west), base + LON_CELLS - 1));
+                ranges.add(new CellRange(base, base + column(east - 360)));
+            } else {
+                ranges.add(new CellRange(base + column(west), base + column(east)));
+            }
+        }
+        return ranges;
+    }
+
+    private static int row(double latitude) {
+        return Math.min((int) Math.floor((latitude + 90) / CELL_DEGREES), LAT_CELLS - 1);
+    }
+
+    private static int column(double longitude) {
+        return Math.min((int) Math.floor((longitude + 180) / CELL_DEGREES), LON_CELLS - 1);
+    }
+
+    // Tek bir enlem satırındaki ardışık hücre aralığı (uçlar dahil)
+    @Getter
+    @AllArgsConstructor
+    public static class CellRange {
+        private final int low;
+        private final int high;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.business.geo;
+
+import com.example.entities.Event;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Konum bazlı aramada bulunan etkinlik ve arama merkezine olan büyük daire mesafesi (km).
+ */
+@Getter
+@AllArgsConstructor
+public class NearbyEvent {
+    private final Event event;
+    private final double distanceKm;
+}
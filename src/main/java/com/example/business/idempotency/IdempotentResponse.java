@@ -0,0 +1,15 @@
+package com.example.business.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Bir isteğin saklanan ilk yanıtı. Tekrar gelen istekte byte'ı byte'ına aynen geri yazılır.
+ */
+@Getter
+@AllArgsConstructor
+public class IdempotentResponse {
+    private final int statusCode;
+    private final String contentType;
+    private final byte[] body;
+}
@@ -0,0 +1,65 @@
+package com.example.business.inventory;
+
+import com.example.config.InventoryConfig;
+import com.example.exception.NotFoundException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Koltuk kiralama (lease) işlemlerinin veritabanı tarafı; ana bağlantı havuzundan ayrı, küçük bir havuz kullanır.
+ *
+ * Neden ayrı havuz:
+ * - Kiralama, kayıt transaction'ının içinden (ana havuzdan bir bağlantı tutulurken) tetiklenir ve
+ *   kayıt rollback olsa bile kalıcı olmalıdır; ana havuzdan ikinci bir bağlantı (REQUIRES_NEW) istemek,
+ *   yoğun bir bilet türünde lease kilidinde bekleyen thread'ler havuzu tükettiğinde connectionTimeout'a kadar bekletir
+ * - Bu havuzun bağlantılarını tutan thread'ler ana havuzu beklemez; döngüsel bekleme oluşmaz
+ *
+ * Her ifade auto-commit ile çalışır; çağıranın transaction'ına katılmaz.
+ * Havuz InventoryConfig'te tanımlanır ve sadece kiralama açıkken oluşturulur.
+ */
+@Component
+@ConditionalOnProperty(name = "eventhub.inventory.lease-enabled", havingValue = "true")
+public class SeatLeaseStore {
+    private static final String REMAINING_SQL = "SELECT remaining FROM ticket_types WHERE ticket_type_id = ?";
+    private static final String RESERVE_SQL = "UPDATE ticket_types SET sold = sold + ? " +
+            "WHERE ticket_type_id = ? AND sold + ? <= quota";
+    private static final String RELEASE_SQL = "UPDATE ticket_types SET sold = sold - ? " +
+            "WHERE ticket_type_id = ? AND sold >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SeatLeaseStore(@Qualifier(InventoryConfig.SEAT_LEASE_DATA_SOURCE) DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    // Kalan kota kadar (en fazla max) koltuğu koşullu UPDATE ile ayırır, başka node araya girerse tekrar dener
+    public int reserveUpTo(Long ticketTypeId, int max) {
+        Integer remaining = this.findRemaining(ticketTypeId);
+        while (remaining > 0) {
+            int block = Math.min(max, remaining);
+            if (this.jdbcTemplate.update(RESERVE_SQL, block, ticketTypeId, block) == 1) {
+                return block;
+            }
+            remaining = this.findRemaining(ticketTypeId);
+        }
+        return 0;
+    }
+
+    // Kullanılmayan kiralık koltukları kotaya iade eder (sold hiçbir zaman negatife düşmez)
+    public void release(Long ticketTypeId, int seats) {
+        this.jdbcTemplate.update(RELEASE_SQL, seats, ticketTypeId, seats);
+    }
+
+    private Integer findRemaining(Long ticketTypeId) {
+        List<Integer> rows = this.jdbcTemplate.queryForList(REMAINING_SQL, Integer.class, ticketTypeId);
+        if (rows.isEmpty()) {
+            throw new NotFoundException("Bilet türü bulunamadı. ID: " + ticketTypeId);
+        }
+        return rows.get(0);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.business.inventory;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bir node'a kiralanmış koltukları tutan, şeritlere (stripe) bölünmüş sayaç.
+ *
+ * LongAdder mantığıyla çalışır: her thread kendi şeridinden CAS ile düşer,
+ * şerit boşsa diğer şeritlere bakar. Böylece aynı bilet türüne gelen yoğun
+ * isteklerde tek bir sayaç üzerinde çekişme (contention) oluşmaz.
+ * Şeritler cache line paylaşmasın diye dizide aralıklı (PADDING) tutulur.
+ */
+public final class StripedSeatCounter {
+    private static final int PADDING = 8; // 8 * 8 byte = 64 byte (bir cache line)
+
+    private final AtomicLongArray cells;
+    private final int stripes;
+
+    public StripedSeatCounter(int stripes) {
+        this.stripes = Math.max(1, stripes);
+        this.cells = new AtomicLongArray(this.stripes * PADDING);
+    }
+
+    /**
+     * Bir koltuk almaya çalışır.
+     *
+     * @return Koltuk alındıysa true, tüm şeritler boşsa false
+     */
+    public boolean tryAcquire() {
+        int start = (int) (Thread.currentThread().threadId() % stripes);
+        for (int i = 0; i < stripes; i++) {
+            int index = ((start + i) % stripes) * PADDING;
+            long current;
+            while ((current = cells.get(index)) > 0) {
+                if (cells.compareAndSet(index, current, current - 1)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // Koltukları şeritlere mümkün olduğunca eşit dağıtarak ekler
+    public void add(long seats) {
+        long perStripe = seats / stripes;
+        long rest = seats % stripes;
+        for (int i = 0; i < stripes; i++) {
+            long amount = perStripe + (i < rest ? 1 : 0);
+            if (amount > 0) {
+                cells.addAndGet(i * PADDING, amount);
+            }
+        }
+    }
+
+    // Tüm şeritleri sıfırlar ve boşaltılan koltuk sayısını döner
+    public long drain() {
+        long drained = 0;
+        for (int i = 0; i < stripes; i++) {
+            drained += cells.getAndSet(i * PADDING, 0);
+        }
+        return drained;
+    }
+
+    // Anlık kalan koltuk sayısı (sadece bilgi amaçlı, eşzamanlı değişimlerde yaklaşık değerdir)
+    public long sum() {
+        long sum = 0;
+        for (int i = 0; i < stripes; i++) {
+            sum += cells.get(i * PADDING);
+        }
+        return sum;
+    }
+}
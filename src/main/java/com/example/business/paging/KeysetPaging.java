@@ -0,0 +1,43 @@
+package com.example.business.paging;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+/**
+ * Keyset (seek) sayfalama yardımcıları.
+ *
+ * Sorgular "WHERE id > :afterId ORDER BY id LIMIT pageSize + 1" şeklinde çalışır:
+ * - OFFSET olmadığı için derin sayfalar da ilk sayfa kadar ucuzdur (primary key index'i üzerinden seek)
+ * - Fazladan okunan tek satır sonraki sayfanın olup olmadığını gösterir, count(*) gerekmez
+ */
+public final class KeysetPaging {
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private KeysetPaging() {
+    }
+
+    // İstenen sayfa boyutunu 1..MAX_PAGE_SIZE aralığına çeker
+    public static int pageSize(int requested) {
+        return Math.min(Math.max(requested, 1), MAX_PAGE_SIZE);
+    }
+
+    // İlk sayfa için (cursor yoksa) başlangıç anahtarı
+    public static long afterId(Long afterId) {
+        return afterId != null ? afterId : 0L;
+    }
+
+    // Sonraki sayfanın varlığını anlamak için bir satır fazla okunur
+    public static Limit lookahead(int pageSize) {
+        return Limit.of(pageSize + 1);
+    }
+
+    public static <T> Slice<T> toSlice(List<T> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<T> content = hasNext ? rows.subList(0, pageSize) : rows;
+        return new SliceImpl<>(content, PageRequest.ofSize(pageSize), hasNext);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.business.paging;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Listeleme yanıtındaki toplam kayıt sayısı ve bu sayının kesin olup olmadığı.
+ */
+@Getter
+@AllArgsConstructor
+public class PageTotal {
+    private final long value;
+    private final boolean exact;
+}
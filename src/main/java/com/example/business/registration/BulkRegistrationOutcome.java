@@ -0,0 +1,22 @@
+package com.example.business.registration;
+
+import com.example.entities.Registration;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Toplu kayıt isteğindeki bir kalemin sonucu.
+ * Kalem başarılıysa registration dolu, başarısızsa error mesajı doludur.
+ */
+@Getter
+@AllArgsConstructor
+public class BulkRegistrationOutcome {
+    private final Long userId;
+    private final Long ticketTypeId;
+    private final Registration registration;
+    private final String error;
+
+    public boolean isSuccess() {
+        return this.registration != null;
+    }
+}
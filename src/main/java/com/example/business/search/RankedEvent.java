@@ -0,0 +1,16 @@
+package com.example.business.search;
+
+import com.example.entities.Event;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Tam metin aramada bulunan etkinlik ve arama sorgusuna göre ilgililik puanı (ts_rank_cd).
+ * Puan, sonraki sayfanın cursor'ında sıralama anahtarı olarak kullanılır.
+ */
+@Getter
+@AllArgsConstructor
+public class RankedEvent {
+    private final Event event;
+    private final float rank;
+}
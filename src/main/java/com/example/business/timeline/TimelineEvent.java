@@ -0,0 +1,38 @@
+package com.example.business.timeline;
+
+import com.example.entities.Event;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Yaklaşan etkinlikler index'inde tutulan, değiştirilemez etkinlik özeti.
+ *
+ * Kategori ve organizatör adları yazma anında düzleştirilir; okuma sırasında
+ * lazy ilişki veya veritabanı erişimi gerekmez ve nesne thread'ler arasında güvenle paylaşılır.
+ */
+@Getter
+@AllArgsConstructor
+public class TimelineEvent {
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final String posterUrl;
+    private final String location;
+    private final LocalDateTime date;
+    private final Double latitude;
+    private final Double longitude;
+    private final Long categoryId;
+    private final String categoryName;
+    private final Long userId;
+    private final String organizerName;
+
+    // Kategori ve organizatörü yüklenmiş bir Event'ten özet oluşturur
+    public static TimelineEvent of(Event event) {
+        return new TimelineEvent(event.getId(), event.getTitle(), event.getDescription(), event.getPosterUrl(),
+                event.getLocation(), event.getDate(), event.getLatitude(), event.getLongitude(),
+                event.getCategory().getId(), event.getCategory().getName(),
+                event.getUser().getId(), event.getUser().getName());
+    }
+}
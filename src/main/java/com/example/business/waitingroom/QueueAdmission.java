@@ -0,0 +1,22 @@
+package com.example.business.waitingroom;
+
+/**
+ * Bekleme odasından alınmış tek kullanımlık kayıt hakkı.
+ *
+ * checkAdmission token'ı kullanıldı olarak işaretler; kayıt başarısız olursa (ör. kota doldu, doğrulama hatası)
+ * çağıran release() ile hakkı geri verir ve aynı token ile tekrar deneyebilir. Başarılı kayıttan sonra token bir daha kullanılamaz.
+ */
+public final class QueueAdmission {
+    // Bekleme odası olmayan etkinlikler için: geri verilecek bir hak yok
+    public static final QueueAdmission NONE = new QueueAdmission(() -> { });
+
+    private final Runnable releaser;
+
+    public QueueAdmission(Runnable releaser) {
+        this.releaser = releaser;
+    }
+
+    public void release() {
+        this.releaser.run();
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * İstek yolunda global kilit almayan, süre dolumuna göre temizlenen sınırlı boyutlu cache.
+ *
+ * - Okuma ConcurrentHashMap üzerinden kilitsizdir ve map'i değiştirmez (LRU sıralaması yok)
+ * - Süresi dolan kayıt okunduğunda silinir
+ * - Kapasite aşılınca tek bir thread (tryLock) önce süresi dolanları, hâlâ doluysa rastgele kayıtları atarak
+ *   boyutu kapasitenin %90'ına indirir; temizlik her put'ta değil, ancak kapasite aşıldığında yapılır
+ * - maxSize 0 veya negatifse cache kapalıdır
+ *
+ * JWT doğrulama / kullanıcı durumu cache'leri ve Idempotency-Key yanıt cache'i tarafından kullanılır.
+ */
+public final class ExpiringCache<K, V> {
+    private final int maxSize;
+    private final int targetSize;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock sweepLock = new ReentrantLock();
+
+    public ExpiringCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.targetSize = maxSize - Math.max(1, maxSize / 10);
+    }
+
+    // Kayıt yoksa veya süresi dolduysa null döner
+    public V get(K key, long now) {
+        Entry<V> entry = this.entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMillis <= now) {
+            this.entries.remove(key, entry);
+            return null;
+        }
+        return entry.value;
+    }
+
+    public void put(K key, V value, long expiresAtMillis) {
+        if (this.maxSize <= 0) {
+            return;
+        }
+        this.entries.put(key, new Entry<>(value, expiresAtMillis));
+        if (this.entries.size() > this.maxSize && this.sweepLock.tryLock()) {
+            try {
+                this.sweep(System.currentTimeMillis());
+            } finally {
+                this.sweepLock.unlock();
+            }
+        }
+    }
+
+    public void remove(K key) {
+        this.entries.remove(key);
+    }
+
+    private void sweep(long now) {
+        this.entries.values().removeIf(entry -> entry.expiresAtMillis <= now);
+        Iterator<K> keys = this.entries.keySet().iterator();
+        while (this.entries.size() > this.targetSize && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAtMillis;
+
+        private Entry(V value, long expiresAtMillis) {
+            this.value = value;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Bilet envanteri kiralama (eventhub.inventory.lease-enabled) için bean tanımları.
+ */
+@Configuration
+public class InventoryConfig {
+    public static final String SEAT_LEASE_DATA_SOURCE = "seatLeaseDataSource";
+
+    /**
+     * Koltuk kiralama ve iade için ana havuzdan ayrı, küçük bağlantı havuzu (bkz. SeatLeaseStore).
+     *
+     * Bu bean:
+     * - Ana veritabanı ayarlarını (spring.datasource.*) kullanır, auto-commit çalışır
+     * - defaultCandidate = false olduğu için ana DataSource'un auto-configuration'ını devre dışı bırakmaz
+     *   ve sadece qualifier ile enjekte edilir
+     * - Sadece kiralama açıkken oluşturulur; kapalıyken ek bağlantı açılmaz
+     */
+    @Bean(name = SEAT_LEASE_DATA_SOURCE, defaultCandidate = false)
+    @Qualifier(SEAT_LEASE_DATA_SOURCE)
+    @ConditionalOnProperty(name = "eventhub.inventory.lease-enabled", havingValue = "true")
+    public HikariDataSource seatLeaseDataSource(DataSourceProperties properties,
+                                                @Value("${eventhub.inventory.lease-pool-size:2}") int poolSize) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("seat-lease");
+        dataSource.setMaximumPoolSize(Math.max(1, poolSize));
+        dataSource.setMinimumIdle(0);
+        dataSource.setAutoCommit(true);
+        return dataSource;
+    }
+}
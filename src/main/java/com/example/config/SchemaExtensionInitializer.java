@@ -0,0 +1,47 @@
+package com.example.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * JPA annotation'ları ile ifade edilemeyen PostgreSQL şema eklerini uygulama açılışında oluşturur.
+ *
+ * Hibernate şemayı oluşturduktan sonra çalışır; tüm ifadeler IF NOT EXISTS ile idempotent'tir,
+ * ddl-auto değeri ne olursa olsun tekrar çalıştırılabilir.
+ *
+ * - events.search_vector: başlık (A), açıklama (B) ve konum (C) ağırlıklı, Türkçe kök ayırmalı
+ *   tsvector. Stored generated kolon olduğu için EventManager.save / update ile her zaman senkron kalır
+ * - idx_events_search_vector: tam metin arama için GIN index
+ */
+@Component
+public class SchemaExtensionInitializer implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(SchemaExtensionInitializer.class);
+
+    private static final List<String> STATEMENTS = List.of(
+            "ALTER TABLE events ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (" +
+                    "setweight(to_tsvector('turkish', coalesce(title, '')), 'A') || " +
+                    "setweight(to_tsvector('turkish', coalesce(description, '')), 'B') || " +
+                    "setweight(to_tsvector('turkish', coalesce(location, '')), 'C')) STORED",
+            "CREATE INDEX IF NOT EXISTS idx_events_search_vector ON events USING GIN (search_vector)"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SchemaExtensionInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        for (String statement : STATEMENTS) {
+            this.jdbcTemplate.execute(statement);
+        }
+        log.info("{} şema eki uygulandı", STATEMENTS.size());
+    }
+}
@@ -1,10 +1,15 @@
 package com.example.dao;
 
 import com.example.entities.Category;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.List;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface CategoryRepo extends JpaRepository<Category,Long> {
     boolean existsByName(String name); // Verilen kategori adının veritabanında mevcut olup olmadığını kontrol eder
+
+    // Keyset sayfalama: primary key index'i üzerinden seek (OFFSET ve count(*) yok)
+    List<Category> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 }
@@ -1,10 +1,127 @@
 package com.example.dao;
 
+import com.example.business.geo.GeoGrid;
+import com.example.dto.response.EventResponse;
 import com.example.entities.Event;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface EventRepo extends JpaRepository<Event,Long> {
-    List<Event> findByCategoryId(Long categoryId);//Belirli bir kategoriye ait tüm etkinlikleri getirir.
-    List<Event> findByUserId(Long userId);// Belirli bir kullanıcıya ait tüm etkinlikleri getirir.
+    /**
+     * Okuma endpoint'leri için EventResponse projeksiyonu: yalnızca response kolonları seçilir ve doğrudan DTO'ya yazılır.
+     * Managed entity, persistence context snapshot'ı veya ModelMapper dönüşümü yoktur; kategori ve organizatör aynı sorguda JOIN edilir.
+     */
+    String EVENT_RESPONSE = "SELECT new com.example.dto.response.EventResponse(e.id, e.title, e.description, e.posterUrl, " +
+            "e.location, e.date, e.latitude, e.longitude, c.id, c.name, u.id, u.name) " +
+            "FROM Event e JOIN e.category c JOIN e.user u ";
+
+    // Export sorgularında JDBC sürücüsünün tek seferde çektiği satır sayısı
+    String EXPORT_FETCH_SIZE = "1000";
+
+    @Query(EVENT_RESPONSE + "WHERE e.id = :id")
+    Optional<EventResponse> findResponseById(@Param("id") Long id);
+
+    // Yetki kontrolleri için sadece organizatörün id'si okunur (event_user_id kolonu, JOIN yok)
+    @Query("SELECT e.user.id FROM Event e WHERE e.id = :id")
+    Optional<Long> findOwnerIdById(@Param("id") Long id);
+
+    /**
+     * NDJSON export için tüm etkinlikleri id sırasıyla forward-only cursor üzerinden okur.
+     * Fetch size sayesinde PostgreSQL sürücüsü sonucu EXPORT_FETCH_SIZE'lık parçalar halinde getirir; satırlar DTO olduğu için
+     * persistence context'e girmez (detach gerekmez). Stream açık bir transaction içinde tüketilmeli ve kapatılmalıdır.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(EVENT_RESPONSE + "ORDER BY e.id")
+    Stream<EventResponse> streamAllResponses();
+
+    // Kategoriye göre keyset sayfalama: (event_category_id, event_id) index'i üzerinden seek
+    @Query(EVENT_RESPONSE + "WHERE c.id = :categoryId AND e.id > :afterId ORDER BY e.id")
+    List<EventResponse> findResponsesByCategoryId(@Param("categoryId") Long categoryId, @Param("afterId") Long afterId, Limit limit);
+
+    // Organizatöre göre keyset sayfalama: (event_user_id, event_id) index'i üzerinden seek
+    @Query(EVENT_RESPONSE + "WHERE u.id = :userId AND e.id > :afterId ORDER BY e.id")
+    List<EventResponse> findResponsesByUserId(@Param("userId") Long userId, @Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Tam metin arama: search_vector GIN index'i üzerinden eşleşen etkinlikleri ilgililik puanına göre sıralar.
+     * Keyset sayfalama (rank, id) çifti üzerinden yapılır; ilk sayfa için afterRank = +Infinity verilir.
+     * websearch_to_tsquery sayesinde kullanıcı girdisi ("tırnaklı ifade", -hariç, or) güvenle işlenir.
+     */
+    @Query(value = "SELECT r.id AS id, r.rank AS rank FROM (" +
+            "SELECT e.event_id AS id, ts_rank_cd(e.search_vector, q) AS rank " +
+            "FROM events e, websearch_to_tsquery('turkish', :query) q " +
+            "WHERE e.search_vector @@ q) r " +
+            "WHERE r.rank < :afterRank OR (r.rank = :afterRank AND r.id < :afterId) " +
+            "ORDER BY r.rank DESC, r.id DESC LIMIT :limit", nativeQuery = true)
+    List<EventSearchHit> search(@Param("query") String query,
+                                @Param("afterRank") float afterRank,
+                                @Param("afterId") long afterId,
+                                @Param("limit") int limit);
+
+    /**
+     * Konum bazlı arama: adaylar geo_cell B-tree index'i üzerinden, her enlem satırı için bir range scan ile okunur.
+     * Haversine mesafesi yalnızca bu aday hücrelerdeki etkinlikler için hesaplanır ve yarıçap dışındakiler elenir.
+     * Hücre aralıkları virgülle ayrılmış alt (lows) ve üst (highs) sınır listeleri olarak verilir.
+     * byDate true ise tarih, aksi halde mesafe sırasıyla döner.
+     */
+    @Query(value = "SELECT c.id AS id, c.distance AS distance FROM (" +
+            "SELECT e.event_id AS id, e.date AS date, 2 * " + GeoGrid.EARTH_RADIUS_KM + " * asin(least(1, sqrt(" +
+            "power(sin(radians(e.latitude - :lat) / 2), 2) + " +
+            "cos(radians(:lat)) * cos(radians(e.latitude)) * power(sin(radians(e.longitude - :lon) / 2), 2)))) AS distance " +
+            "FROM unnest(CAST(string_to_array(:lows, ',') AS integer[]), CAST(string_to_array(:highs, ',') AS integer[])) AS r(lo, hi) " +
+            "JOIN events e ON e.geo_cell BETWEEN r.lo AND r.hi) c " +
+            "WHERE c.distance <= :radiusKm " +
+            "ORDER BY CASE WHEN :byDate THEN c.date END ASC, c.distance ASC, c.id ASC LIMIT :limit", nativeQuery = true)
+    List<EventNearbyHit> findNearby(@Param("lat") double lat,
+                                    @Param("lon") double lon,
+                                    @Param("radiusKm") double radiusKm,
+                                    @Param("lows") String lows,
+                                    @Param("highs") String highs,
+                                    @Param("byDate") boolean byDate,
+                                    @Param("limit") int limit);
+
+    // Verilen ID'lerdeki etkinlikleri kategori ve organizatörleri ile tek sorguda getirir
+    @Query("SELECT e FROM Event e JOIN FETCH e.category JOIN FETCH e.user WHERE e.id IN :ids")
+    List<Event> findAllWithCategoryAndUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Verilen tarihten sonraki etkinlikleri kategori ve organizatörleri ile getirir (zaman çizelgesi index'i için)
+    @Query("SELECT e FROM Event e JOIN FETCH e.category JOIN FETCH e.user WHERE e.date >= :from")
+    List<Event> findUpcomingWithCategoryAndUser(@Param("from") LocalDateTime from);
+
+    // Facet index'inin yeniden oluşturulması için etkinliklerin yalnızca facet kolonları
+    @Query("SELECT e.id AS id, e.category.id AS categoryId, e.date AS date FROM Event e")
+    List<EventFacetRow> findFacetRows();
+
+    // Keyset sayfalama: primary key index'i üzerinden seek (OFFSET ve count(*) yok)
+    @Query(EVENT_RESPONSE + "WHERE e.id > :afterId ORDER BY e.id")
+    List<EventResponse> findResponsesAfter(@Param("afterId") Long afterId, Limit limit);
+
+    interface EventFacetRow {
+        Long getId();
+        Long getCategoryId();
+        LocalDateTime getDate();
+    }
+
+    interface EventNearbyHit {
+        Long getId();
+        Double getDistance();
+    }
+
+    interface EventSearchHit {
+        Long getId();
+        Float getRank();
+    }
 }
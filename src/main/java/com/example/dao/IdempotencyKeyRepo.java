@@ -0,0 +1,57 @@
+package com.example.dao;
+
+import com.example.entities.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyKeyRepo extends JpaRepository<IdempotencyKey, String> {
+
+    // Anahtarı in-flight olarak sahiplenir; anahtar zaten varsa 0 döner (satır kilidi beklemeden)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (key_hash, request_hash, created_at, expires_at) VALUES (:keyHash, :requestHash, :now, :expiresAt) " +
+            "ON CONFLICT (key_hash) DO NOTHING", nativeQuery = true)
+    int tryInsert(@Param("keyHash") String keyHash,
+                  @Param("requestHash") String requestHash,
+                  @Param("now") LocalDateTime now,
+                  @Param("expiresAt") LocalDateTime expiresAt);
+
+    // İşleyen node çökmüş ve in-flight kaydın süresi dolmuşsa anahtar devralınır; yanıt üretilmediği için gövde özeti de yenilenir
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE idempotency_keys SET request_hash = :requestHash, created_at = :now, expires_at = :expiresAt " +
+            "WHERE key_hash = :keyHash AND status_code IS NULL AND expires_at <= :now", nativeQuery = true)
+    int takeOverStale(@Param("keyHash") String keyHash,
+                      @Param("requestHash") String requestHash,
+                      @Param("now") LocalDateTime now,
+                      @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE idempotency_keys SET status_code = :statusCode, content_type = :contentType, body = :body, expires_at = :expiresAt " +
+            "WHERE key_hash = :keyHash", nativeQuery = true)
+    int complete(@Param("keyHash") String keyHash,
+                 @Param("statusCode") int statusCode,
+                 @Param("contentType") String contentType,
+                 @Param("body") byte[] body,
+                 @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM idempotency_keys WHERE key_hash = :keyHash AND status_code IS NULL", nativeQuery = true)
+    int deleteInFlight(@Param("keyHash") String keyHash);
+
+    // expires_at index'i üzerinden en fazla :limit satır silinir; uzun süren kilitler ve WAL patlaması önlenir
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM idempotency_keys WHERE key_hash IN (" +
+            "SELECT key_hash FROM idempotency_keys WHERE expires_at <= :now AND status_code IS NOT NULL LIMIT :limit)", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -0,0 +1,37 @@
+package com.example.dao;
+
+import com.example.entities.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepo extends JpaRepository<RefreshToken, Long> {
+
+    // token_hash unique index'i üzerinden nokta sorgusu; token üretmek için gereken kullanıcı aynı sorguda gelir
+    @Query("SELECT r FROM RefreshToken r JOIN FETCH r.user WHERE r.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHash(@Param("tokenHash") String tokenHash);
+
+    // Token'ı kullanıldı olarak işaretler; başka bir istek aynı token'ı daha önce işaretlediyse 0 döner (reuse)
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.usedAt = :now WHERE r.id = :id AND r.usedAt IS NULL")
+    int markUsed(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // Ailenin tüm token'larını siler (logout veya reuse tespiti)
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.familyId = :familyId")
+    int deleteByFamilyId(@Param("familyId") String familyId);
+
+    // expires_at index'i üzerinden en fazla :limit satır silinir; uzun süren kilitler ve WAL patlaması önlenir
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM refresh_tokens WHERE refresh_token_id IN (" +
+            "SELECT refresh_token_id FROM refresh_tokens WHERE expires_at <= :now LIMIT :limit)", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -0,0 +1,55 @@
+package com.example.dao;
+
+import com.example.entities.Registration;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registration kayıtlarını JPA persist yerine tek bir JDBC batch insert ile yazar.
+ * reWriteBatchedInserts açıkken sürücü bunu çok satırlı tek bir INSERT'e çevirir.
+ *
+ * Çağıranın transaction'ına katılır; kota rezervasyonu çağıran tarafından yapılmış olmalıdır.
+ */
+@Repository
+public class RegistrationBatchInsertRepo {
+    private static final String INSERT_SQL = "INSERT INTO registrations " +
+            "(registered_at, status, hold_expires_at, registration_user_id, registration_ticket_type_id) " +
+            "VALUES (:registeredAt, :status, :holdExpiresAt, :userId, :ticketTypeId)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public RegistrationBatchInsertRepo(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Kayıtları yazar ve üretilen ID'leri aynı sırayla entity'lere set eder
+    public List<Registration> insertAll(List<Registration> registrations) {
+        if (registrations.isEmpty()) {
+            return registrations;
+        }
+        SqlParameterSource[] params = registrations.stream()
+                .map(registration -> new MapSqlParameterSource()
+                        .addValue("registeredAt", Timestamp.valueOf(registration.getRegisteredAt()))
+                        .addValue("status", registration.getStatus().name())
+                        .addValue("holdExpiresAt", registration.getHoldExpiresAt() != null ? Timestamp.valueOf(registration.getHoldExpiresAt()) : null)
+                        .addValue("userId", registration.getUser().getId())
+                        .addValue("ticketTypeId", registration.getTicketType().getId()))
+                .toArray(SqlParameterSource[]::new);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        this.jdbcTemplate.batchUpdate(INSERT_SQL, params, keyHolder, new String[]{"registration_id"});
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < registrations.size(); i++) {
+            registrations.get(i).setId(((Number) keys.get(i).get("registration_id")).longValue());
+        }
+        return registrations;
+    }
+}
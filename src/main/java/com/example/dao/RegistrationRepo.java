@@ -1,14 +1,113 @@
 package com.example.dao;
 
+import com.example.business.export.AttendeeRow;
+import com.example.dto.response.RegistrationResponse;
 import com.example.entities.Registration;
+import com.example.enums.RegistrationStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface RegistrationRepo extends JpaRepository<Registration,Long> {
-    List<Registration> findByUserId(Long userId); // Kullanıcıya göre kayıtları getirir
     List<Registration> findByTicketTypeId(Long ticketTypeId); // Bilet türüne göre kayıtları getirir
-    List<Registration> findByStatus(com.example.enums.RegistrationStatus status); // Duruma göre kayıtları getirir
+
+    /**
+     * Okuma endpoint'leri için RegistrationResponse projeksiyonu: yalnızca response kolonları seçilir ve doğrudan DTO'ya yazılır.
+     * Managed entity veya ModelMapper dönüşümü yoktur; kullanıcı, bilet türü ve etkinlik aynı sorguda JOIN edilir.
+     */
+    String REGISTRATION_RESPONSE = "SELECT new com.example.dto.response.RegistrationResponse(r.id, r.registeredAt, r.status, " +
+            "r.holdExpiresAt, u.id, u.name, t.id, t.name, ev.id, ev.title) " +
+            "FROM Registration r JOIN r.user u JOIN r.ticketType t JOIN t.event ev ";
+
+    // Export sorgularında JDBC sürücüsünün tek seferde çektiği satır sayısı
+    String EXPORT_FETCH_SIZE = "1000";
+
+    @Query(REGISTRATION_RESPONSE + "WHERE r.id = :id")
+    Optional<RegistrationResponse> findResponseById(@Param("id") Long id);
+
+    // NDJSON export: tüm kayıtlar id sırasıyla forward-only cursor üzerinden, EXPORT_FETCH_SIZE'lık parçalar halinde okunur
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(REGISTRATION_RESPONSE + "ORDER BY r.id")
+    Stream<RegistrationResponse> streamAllResponses();
+
+    /**
+     * Katılımcı CSV export'u: etkinliğin verilen durumdaki kayıtları kullanıcı ve bilet türüyle tek sorguda JOIN edilip
+     * bilet türü ve id sırasıyla forward-only cursor üzerinden okunur; (ticket_type, status) index'i kullanılır.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.example.business.export.AttendeeRow(r.id, r.registeredAt, t.id, t.name, t.price, u.id, u.name, u.email) " +
+            "FROM Registration r JOIN r.user u JOIN r.ticketType t " +
+            "WHERE t.event.id = :eventId AND r.status = :status ORDER BY t.id, r.id")
+    Stream<AttendeeRow> streamAttendees(@Param("eventId") Long eventId, @Param("status") RegistrationStatus status);
+
+    // Kullanıcıya göre keyset sayfalama: (registration_user_id, registration_id) index'i üzerinden seek
+    @Query(REGISTRATION_RESPONSE + "WHERE u.id = :userId AND r.id > :afterId ORDER BY r.id")
+    List<RegistrationResponse> findResponsesByUserId(@Param("userId") Long userId, @Param("afterId") Long afterId, Limit limit);
+
+    // Bilet türüne göre keyset sayfalama: (registration_ticket_type_id, registration_id) index'i üzerinden seek
+    @Query(REGISTRATION_RESPONSE + "WHERE t.id = :ticketTypeId AND r.id > :afterId ORDER BY r.id")
+    List<RegistrationResponse> findResponsesByTicketTypeId(@Param("ticketTypeId") Long ticketTypeId, @Param("afterId") Long afterId, Limit limit);
+
+    // Duruma göre keyset sayfalama: (status, registration_id) index'i üzerinden seek; tablo asla tamamen belleğe alınmaz
+    @Query(REGISTRATION_RESPONSE + "WHERE r.status = :status AND r.id > :afterId ORDER BY r.id")
+    List<RegistrationResponse> findResponsesByStatus(@Param("status") RegistrationStatus status, @Param("afterId") Long afterId, Limit limit);
+
+    // Kaydı satır kilidi (SELECT ... FOR UPDATE) ile getirir; aynı kaydın eşzamanlı iptal/silme işlemlerinde kota iki kez iade edilmez
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Registration r WHERE r.id = :id")
+    Optional<Registration> findLockedById(@Param("id") Long id);
+
+    /**
+     * Süresi dolmuş HELD kayıtlardan bir batch'i kilitleyerek getirir.
+     * hold_expires_at index'i üzerinde aralık taraması yapılır, yani maliyet tablo boyutuna değil
+     * süresi dolan tutma sayısına bağlıdır. SKIP LOCKED sayesinde birden fazla node aynı anda
+     * çalışırsa her biri farklı satırları işler.
+     */
+    @Query(value = "SELECT registration_id AS id, registration_ticket_type_id AS \"ticketTypeId\" FROM registrations " +
+            "WHERE status = 'HELD' AND hold_expires_at <= :now " +
+            "ORDER BY hold_expires_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<ExpiredHold> findExpiredHoldsForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // Kullanıcının süresi dolmamış HELD kayıtlarını tek sorguda ACTIVE yapar; süresi dolmuş veya başkasına ait olanlar güncellenmez
+    @Transactional
+    @Modifying
+    @Query("UPDATE Registration r SET r.status = :active, r.holdExpiresAt = null " +
+            "WHERE r.id IN :ids AND r.user.id = :userId AND r.status = :held AND r.holdExpiresAt > :now")
+    int confirmHolds(@Param("ids") Collection<Long> ids,
+                     @Param("userId") Long userId,
+                     @Param("now") LocalDateTime now,
+                     @Param("active") RegistrationStatus active,
+                     @Param("held") RegistrationStatus held);
+
+    // Süresi dolan tutma kaydının ID ve bilet türü bilgisi (entity yüklemeden)
+    interface ExpiredHold {
+        Long getId();
+        Long getTicketTypeId();
+    }
+
+    // Keyset sayfalama: primary key index'i üzerinden seek (OFFSET ve count(*) yok)
+    @Query(REGISTRATION_RESPONSE + "WHERE r.id > :afterId ORDER BY r.id")
+    List<RegistrationResponse> findResponsesAfter(@Param("afterId") Long afterId, Limit limit);
 }
@@ -1,11 +1,112 @@
 package com.example.dao;
 
+import com.example.dto.response.TicketTypeResponse;
 import com.example.entities.TicketType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TicketTypeRepo extends JpaRepository<TicketType,Long> {
-    List<TicketType> findByEventId(Long eventId);// Belirli bir etkinliğe ait tüm bilet türlerini getirir
+    /**
+     * Okuma endpoint'leri için TicketTypeResponse projeksiyonu: yalnızca response kolonları seçilir ve doğrudan DTO'ya yazılır.
+     * Managed entity veya ModelMapper dönüşümü yoktur; etkinlik aynı sorguda JOIN edilir.
+     */
+    String TICKET_TYPE_RESPONSE = "SELECT new com.example.dto.response.TicketTypeResponse(t.id, t.name, t.price, t.quota, " +
+            "t.sold, t.remaining, ev.id, ev.title) FROM TicketType t JOIN t.event ev ";
+
+    @Query(TICKET_TYPE_RESPONSE + "WHERE t.id = :id")
+    Optional<TicketTypeResponse> findResponseById(@Param("id") Long id);
+
+    @Query(TICKET_TYPE_RESPONSE + "WHERE ev.id = :eventId ORDER BY t.id")
+    List<TicketTypeResponse> findResponsesByEventId(@Param("eventId") Long eventId);// Belirli bir etkinliğe ait tüm bilet türlerini getirir
+
+    // Bilet türünün ait olduğu etkinliğin ID'sini getirir (entity yüklemeden)
+    @Query("SELECT t.event.id FROM TicketType t WHERE t.id = :id")
+    Optional<Long> findEventIdById(@Param("id") Long id);
+
+    // Verilen ID'lerdeki bilet türlerini etkinlikleri ile birlikte tek sorguda (IN) getirir
+    @Query("SELECT t FROM TicketType t JOIN FETCH t.event WHERE t.id IN :ids")
+    List<TicketType> findAllWithEventByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Kota yeterliyse satılan koltuk sayısını tek bir koşullu UPDATE ile artırır.
+     * Kontrol ve artırma aynı satır güncellemesinde yapıldığı için birden fazla node aynı anda
+     * çalışsa bile kota aşılamaz; ayrıca count sorgusu veya SELECT ... FOR UPDATE gerekmez.
+     *
+     * @return Güncellenen satır sayısı (0 ise kota dolu veya bilet türü yok)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE ticket_types SET sold = sold + :count " +
+            "WHERE ticket_type_id = :id AND sold + :count <= quota", nativeQuery = true)
+    int reserveSeats(@Param("id") Long id, @Param("count") int count);
+
+    // İptal / silme durumunda satılan koltukları geri bırakır (sold hiçbir zaman negatife düşmez)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE ticket_types SET sold = sold - :count " +
+            "WHERE ticket_type_id = :id AND sold >= :count", nativeQuery = true)
+    int releaseSeats(@Param("id") Long id, @Param("count") int count);
+
+    // Bilet türünün kalan kotasını döner (bilet türü yoksa null)
+    @Query("SELECT t.remaining FROM TicketType t WHERE t.id = :id")
+    Integer findRemainingSeats(@Param("id") Long id);
+
+    // Doluluk bilgisini entity ve etkinlik yüklemeden, sadece ticket_types satırından okur
+    @Query("SELECT t.id AS id, t.quota AS quota, t.sold AS sold, t.remaining AS remaining FROM TicketType t WHERE t.id = :id")
+    Optional<TicketTypeAvailability> findAvailabilityById(@Param("id") Long id);
+
+    @Query("SELECT t.id AS id, t.quota AS quota, t.sold AS sold, t.remaining AS remaining FROM TicketType t WHERE t.event.id = :eventId ORDER BY t.id")
+    List<TicketTypeAvailability> findAvailabilityByEventId(@Param("eventId") Long eventId);
+
+    /**
+     * sold değeri ACTIVE / HELD kayıt sayısından farklı olan (drift) bilet türlerini bulur.
+     * Sayım idx_registrations_ticket_type_status index'i üzerinden tek GROUP BY ile yapılır.
+     */
+    @Query(value = "SELECT t.ticket_type_id FROM ticket_types t " +
+            "LEFT JOIN (SELECT registration_ticket_type_id, COUNT(*) AS cnt FROM registrations " +
+            "WHERE status IN ('ACTIVE', 'HELD') GROUP BY registration_ticket_type_id) r " +
+            "ON r.registration_ticket_type_id = t.ticket_type_id " +
+            "WHERE t.sold <> COALESCE(r.cnt, 0) ORDER BY t.ticket_type_id LIMIT :limit", nativeQuery = true)
+    List<Long> findDriftedIds(@Param("limit") int limit);
+
+    // Satırı kilitler; devam eden kota UPDATE'leri commit olana kadar bekler
+    @Query(value = "SELECT ticket_type_id FROM ticket_types WHERE ticket_type_id = :id FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(@Param("id") Long id);
+
+    // sold değerini kayıtlardan yeniden hesaplar (lockById ile aynı transaction içinde çağrılmalıdır)
+    @Modifying
+    @Query(value = "UPDATE ticket_types SET sold = (SELECT COUNT(*) FROM registrations " +
+            "WHERE registration_ticket_type_id = :id AND status IN ('ACTIVE', 'HELD')) " +
+            "WHERE ticket_type_id = :id", nativeQuery = true)
+    int recalculateSold(@Param("id") Long id);
+
+    // Facet index'inin yeniden oluşturulması için bilet türlerinin etkinlik ve fiyat bilgisi
+    @Query("SELECT t.id AS id, t.event.id AS eventId, t.price AS price FROM TicketType t")
+    List<TicketTypeFacetRow> findFacetRows();
+
+    interface TicketTypeFacetRow {
+        Long getId();
+        Long getEventId();
+        Double getPrice();
+    }
+
+    interface TicketTypeAvailability {
+        Long getId();
+        Integer getQuota();
+        Integer getSold();
+        Integer getRemaining();
+    }
+
+    // Keyset sayfalama: primary key index'i üzerinden seek (OFFSET ve count(*) yok)
+    @Query(TICKET_TYPE_RESPONSE + "WHERE t.id > :afterId ORDER BY t.id")
+    List<TicketTypeResponse> findResponsesAfter(@Param("afterId") Long afterId, Limit limit);
 }
@@ -1,7 +1,12 @@
 package com.example.dao;
 
 import com.example.entities.User;
+import com.example.jwt.UserStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.List;
 import org.springframework.stereotype.Repository;
 import java.util.Optional;
 
@@ -9,5 +14,11 @@ import java.util.Optional;
 public interface UserRepo extends JpaRepository<User,Long> {
     boolean existsByEmail(String email); // Email'in veritabanında mevcut olup olmadığını kontrol eder
     Optional<User> findByEmail(String email); // Email ile kullanıcı bulma
-    Optional<User> findByRefreshToken(String refreshToken);// Refresh token ile kullanıcı bulma
+
+    // JWT revocation kontrolü: entity yerine sadece id, rol ve enabled okunur (email unique index'i üzerinden)
+    @Query("SELECT new com.example.jwt.UserStatus(u.id, u.role, u.enabled) FROM User u WHERE u.email = :email")
+    Optional<UserStatus> findStatusByEmail(@Param("email") String email);
+
+    // Keyset sayfalama: primary key index'i üzerinden seek (OFFSET ve count(*) yok)
+    List<User> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 }
@@ -0,0 +1,35 @@
+package com.example.dao;
+
+import com.example.entities.WaitlistEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface WaitlistEntryRepo extends JpaRepository<WaitlistEntry, Long> {
+    boolean existsByUserIdAndTicketTypeId(Long userId, Long ticketTypeId);
+
+    // Keyset sayfalama: (bilet türü, id) index'i üzerinden seek, liste sırasıyla
+    List<WaitlistEntry> findByTicketTypeIdAndIdGreaterThanOrderByIdAsc(Long ticketTypeId, Long afterId, Limit limit);
+
+    long countByTicketTypeIdAndIdLessThan(Long ticketTypeId, Long id); // Kaydın önünde bekleyen kişi sayısı
+
+    /**
+     * Bekleme listesinin başındaki en fazla :limit kaydı kilitleyerek getirir.
+     * (bilet türü, id) index'i üzerinden sadece baştaki satırlar okunur; SKIP LOCKED sayesinde
+     * aynı anda boşalan koltuklar farklı node'larda birbirini beklemeden farklı kişilere verilir.
+     */
+    @Query(value = "SELECT waitlist_entry_id AS id, waitlist_user_id AS \"userId\" FROM waitlist_entries " +
+            "WHERE waitlist_ticket_type_id = :ticketTypeId ORDER BY waitlist_entry_id LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<WaitlistHead> findHeadsForUpdate(@Param("ticketTypeId") Long ticketTypeId, @Param("limit") int limit);
+
+    interface WaitlistHead {
+        Long getId();
+        Long getUserId();
+    }
+}
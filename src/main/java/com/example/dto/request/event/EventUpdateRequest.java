@@ -1,5 +1,7 @@
 package com.example.dto.request.event;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -33,6 +35,14 @@ public class EventUpdateRequest {
     @Future(message = "Etkinlik tarihi gelecekte olmalıdır")
     private LocalDateTime date;
 
+    @DecimalMin(value = "-90", message = "Enlem -90 ile 90 arasında olmalıdır")
+    @DecimalMax(value = "90", message = "Enlem -90 ile 90 arasında olmalıdır")
+    private Double latitude; // Opsiyonel, yakındaki etkinlikler aramasında kullanılır
+
+    @DecimalMin(value = "-180", message = "Boylam -180 ile 180 arasında olmalıdır")
+    @DecimalMax(value = "180", message = "Boylam -180 ile 180 arasında olmalıdır")
+    private Double longitude;
+
     @NotNull(message = "Kategori ID boş olamaz")
     private Long categoryId;
 
@@ -0,0 +1,16 @@
+package com.example.dto.request.export;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+//Bir etkinliğin katılımcı listesi için CSV export işi başlatırken kullanılan request DTO'su
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendeeExportRequest {
+
+    @NotNull(message = "Etkinlik ID boş olamaz")
+    private Long eventId;
+}
@@ -0,0 +1,19 @@
+package com.example.dto.request.registration;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+//Toplu kayıt isteğindeki tek bir kullanıcı / bilet türü çifti
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegistrationBulkItemRequest {
+
+    @NotNull(message = "Kullanıcı ID boş olamaz")
+    private Long userId;
+
+    @NotNull(message = "Bilet türü ID boş olamaz")
+    private Long ticketTypeId;
+}
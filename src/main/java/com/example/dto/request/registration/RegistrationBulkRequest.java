@@ -0,0 +1,24 @@
+package com.example.dto.request.registration;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+//Grup (kurumsal) kayıtları için kullanılan request DTO'su. Tüm kayıtlar tek transaction'da ACTIVE olarak oluşturulur.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegistrationBulkRequest {
+
+    @NotEmpty(message = "Kayıt listesi boş olamaz")
+    @Size(max = 500, message = "Tek istekte en fazla 500 kayıt oluşturulabilir")
+    private List<@Valid RegistrationBulkItemRequest> items;
+
+    // true ise bir kalem bile başarısız olursa hiçbir kayıt oluşturulmaz
+    private boolean allOrNothing;
+}
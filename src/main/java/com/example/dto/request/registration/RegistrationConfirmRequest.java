@@ -0,0 +1,18 @@
+package com.example.dto.request.registration;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+//Tutulan (HELD) kayıtları onaylamak için kullanılan request DTO'su.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegistrationConfirmRequest {
+
+    @NotEmpty(message = "Kayıt ID listesi boş olamaz")
+    private List<Long> registrationIds;
+}
@@ -0,0 +1,26 @@
+package com.example.dto.request.registration;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+//Koltuk tutma (hold) işlemi için kullanılan request DTO'su. Belirtilen sayıda koltuk süreli olarak ayrılır.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegistrationHoldRequest {
+
+    @NotNull(message = "Kullanıcı ID boş olamaz")
+    private Long userId;
+
+    @NotNull(message = "Bilet türü ID boş olamaz")
+    private Long ticketTypeId;
+
+    @NotNull(message = "Adet boş olamaz")
+    @Min(value = 1, message = "Adet en az 1 olmalıdır")
+    @Max(value = 10, message = "Tek seferde en fazla 10 koltuk tutulabilir")
+    private Integer quantity;
+}
@@ -31,4 +31,7 @@ public class UserUpdateRequest {
 
     @NotNull(message = "Rol boş olamaz")
     private Role role;
+
+    // false ise kullanıcı devre dışı bırakılır; gönderilmezse mevcut değer korunur
+    private Boolean enabled;
 }
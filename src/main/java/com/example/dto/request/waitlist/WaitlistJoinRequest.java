@@ -0,0 +1,19 @@
+package com.example.dto.request.waitlist;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+//Kotası dolmuş bir bilet türünün bekleme listesine girmek için kullanılan request DTO'su
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistJoinRequest {
+
+    @NotNull(message = "Kullanıcı ID boş olamaz")
+    private Long userId;
+
+    @NotNull(message = "Bilet türü ID boş olamaz")
+    private Long ticketTypeId;
+}
@@ -0,0 +1,24 @@
+package com.example.dto.response;
+
+import com.example.enums.ExportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+//Katılımcı CSV export işinin durumunu client'a dönerken kullanılan response DTO'su.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendeeExportResponse {
+    private String jobId;
+    private Long eventId;
+    private ExportStatus status;
+    private long rowCount; // Sadece DONE durumunda dolu
+    private long fileSize; // gzip'li dosyanın byte cinsinden boyutu (DONE)
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+    private String error; // Sadece FAILED durumunda dolu
+    private String downloadUrl; // Sadece DONE durumunda dolu
+}
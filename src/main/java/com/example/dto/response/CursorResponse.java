@@ -10,14 +10,19 @@ import java.util.List;
  * Sayfalama (cursor / pagination) sonuçlarını client’a dönerken
  * kullanılan generic response DTO’su.
  *
+ * Sonraki sayfa için nextCursor değeri olduğu gibi cursor parametresine gönderilir;
+ * nextCursor null ise son sayfaya gelinmiştir.
+ *
  * @param <T> Liste içinde dönecek veri tipi
  */
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 public class CursorResponse <T>{
-    private int pageNumber;   // Mevcut sayfa numarası
     private int pageSize;    // Sayfa başına düşen kayıt sayısı
-    private long totalElements;   // Toplam kayıt sayısı
+    private boolean hasNext;   // Sonraki sayfa var mı
+    private String nextCursor;   // Sonraki sayfanın opak cursor'ı (son sayfada null)
+    private Long totalElements;   // Toplam kayıt sayısı (total=NONE iken null)
+    private Boolean totalExact;   // true: count(*) ile kesin, false: yaklaşık (total=ESTIMATED), null: toplam istenmedi
     private List<T> items;   // İlgili sayfaya ait veri listesi
 }
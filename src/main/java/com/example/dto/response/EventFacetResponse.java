@@ -0,0 +1,18 @@
+package com.example.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+//Facet'li etkinlik listesinin response DTO'su. Facet sayıları ve filtrelenmiş, cursor sayfalı etkinlik listesini içerir.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventFacetResponse {
+    private List<FacetCountResponse> categories;
+    private List<FacetCountResponse> priceBands;
+    private List<FacetCountResponse> months;
+    private CursorResponse<EventResponse> events; // totalElements her zaman kesindir (bitmap kesişiminden)
+}
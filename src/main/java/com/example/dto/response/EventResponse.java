@@ -16,6 +16,8 @@ public class EventResponse {
     private String posterUrl;
     private String location;
     private LocalDateTime date;
+    private Double latitude;
+    private Double longitude;
     private Long categoryId;
     private String categoryName;
     private Long userId; // Organizer ID
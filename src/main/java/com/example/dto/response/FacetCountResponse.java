@@ -0,0 +1,14 @@
+package com.example.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+//Bir facet değerini ve o değere sahip etkinlik sayısını taşıyan response DTO'su.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetCountResponse {
+    private String value; // Kategori ID, fiyat aralığı etiketi (örn. "250-500") veya ay (yyyy-MM)
+    private long count;
+}
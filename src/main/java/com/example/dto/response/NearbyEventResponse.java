@@ -0,0 +1,14 @@
+package com.example.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+//Yakındaki etkinlikler aramasında dönen response DTO'su. Etkinlik ve arama merkezine olan mesafeyi (km) içerir.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyEventResponse {
+    private EventResponse event;
+    private double distanceKm;
+}
@@ -0,0 +1,18 @@
+package com.example.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+//Toplu kayıt isteğindeki bir kalemin sonucu. Başarılıysa registration, değilse error doludur.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegistrationBulkItemResponse {
+    private int index; // İstekteki sırası
+    private Long userId;
+    private Long ticketTypeId;
+    private boolean success;
+    private RegistrationResponse registration;
+    private String error;
+}
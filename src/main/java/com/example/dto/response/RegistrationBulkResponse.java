@@ -0,0 +1,18 @@
+package com.example.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+//Toplu kayıt işleminin özeti ve kalem bazında sonuçları
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegistrationBulkResponse {
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private List<RegistrationBulkItemResponse> items;
+}
@@ -14,6 +14,7 @@ public class RegistrationResponse {
     private Long id;
     private LocalDateTime registeredAt;
     private RegistrationStatus status;
+    private LocalDateTime holdExpiresAt; // Sadece HELD kayıtlarda dolu
     private Long userId;
     private String userName;
     private Long ticketTypeId;
@@ -0,0 +1,17 @@
+package com.example.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+//Bilet türünün doluluk bilgisini dönen hafif response DTO'su ("X koltuk kaldı" gösterimi için)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketTypeAvailabilityResponse {
+    private Long ticketTypeId;
+    private Integer quota;
+    private Integer sold;
+    private Integer remaining; // Kota sonradan düşürülmüş olsa bile negatif dönmez
+    private boolean soldOut;
+}
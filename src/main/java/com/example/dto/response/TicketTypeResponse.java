@@ -13,6 +13,8 @@ public class TicketTypeResponse {
     private String name;
     private Double price;
     private Integer quota;
+    private Integer sold;
+    private Integer remaining;
     private Long eventId;
     private String eventTitle;
 }
@@ -17,5 +17,6 @@ public class UserResponse {
     private AuthProvider authProvider;
     private String avatarUrl;
     private Role role;
+    private Boolean enabled;
     private LocalDateTime createdAt;
 }
@@ -0,0 +1,18 @@
+package com.example.dto.response;
+
+import com.example.enums.QueueStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+//Bekleme odası token'ının durumunu client'a dönerken kullanılan response DTO'su.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitingRoomResponse {
+    private String token; // Kayıt isteklerinde X-Queue-Token header'ı ile gönderilir
+    private Long eventId;
+    private QueueStatus status;
+    private long position; // Önündeki kişi sayısı (ADMITTED ise 0)
+    private long estimatedWaitSeconds; // Mevcut kabul hızına göre tahmini bekleme süresi
+}
@@ -0,0 +1,19 @@
+package com.example.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+//Bekleme listesi kaydını client'a dönerken kullanılan response DTO'su
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistEntryResponse {
+    private Long id;
+    private Long userId;
+    private Long ticketTypeId;
+    private long position; // 1'den başlar, 1 ise boşalan ilk koltuk bu kullanıcıya verilir
+    private LocalDateTime createdAt;
+}
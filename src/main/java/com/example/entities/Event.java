@@ -1,13 +1,20 @@
 package com.example.entities;
 
 import jakarta.persistence.*;
+import com.example.business.geo.GeoGrid;
 import lombok.*;
+import org.hibernate.annotations.Generated;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "events")
+@Table(name = "events",
+        indexes = {
+                @Index(name = "idx_events_geo_cell", columnList = "geo_cell"),
+                @Index(name = "idx_events_category_id", columnList = "event_category_id, event_id"),
+                @Index(name = "idx_events_user_id", columnList = "event_user_id, event_id")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -35,6 +42,17 @@ public class Event {
     @Column(name = "date")
     private LocalDateTime date;
 
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
+    // Konumun grid hücresi (bkz. GeoGrid). Veritabanı tarafından hesaplanır, konumsuz etkinliklerde null'dır
+    @Generated
+    @Column(name = "geo_cell", insertable = false, updatable = false, columnDefinition = GeoGrid.CELL_SQL)
+    private Integer geoCell;
+
     @OneToMany(mappedBy = "event",cascade = CascadeType.ALL,fetch = FetchType.LAZY)
     private List<TicketType> ticketTypes;
 
@@ -0,0 +1,45 @@
+package com.example.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency-Key ile gelen isteklerin ilk yanıtını saklayan kompakt tablo.
+ *
+ * - keyHash: kullanıcı + method + path + Idempotency-Key değerinin SHA-256 özeti (hex)
+ * - requestHash: istek gövdesinin SHA-256 özeti; anahtar farklı gövde ile tekrar kullanılırsa istek reddedilir
+ * - statusCode null ise istek hâlâ işleniyor demektir (in-flight)
+ * - expiresAt index'li tutulur; süresi dolan satırlar temizlik işi tarafından batch'ler halinde silinir
+ */
+@Entity
+@Table(name = "idempotency_keys",
+        indexes = @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyKey {
+    @Id
+    @Column(name = "key_hash", length = 64)
+    private String keyHash;
+
+    @Column(name = "request_hash", length = 64, nullable = false)
+    private String requestHash;
+
+    @Column(name = "status_code")
+    private Integer statusCode;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(name = "body")
+    private byte[] body;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
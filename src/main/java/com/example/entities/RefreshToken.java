@@ -0,0 +1,57 @@
+package com.example.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Kullanıcıya verilen refresh token'lar. Her giriş (cihaz) ayrı bir token ailesi (familyId) başlatır.
+ *
+ * - tokenHash: refresh token'ın SHA-256 özeti (hex, 64 karakter); ham token saklanmaz, unique index ile nokta sorgusu yapılır
+ * - Refresh'te token döndürülür (rotation): eski satır usedAt ile işaretlenir, aynı ailede yeni satır eklenir
+ * - Kullanılmış bir token tekrar gelirse (reuse) token çalınmış kabul edilir ve ailenin tamamı silinir
+ * - expiresAt index'li tutulur; süresi dolan satırlar temizlik işi tarafından batch'ler halinde silinir
+ */
+@Entity
+@Table(name = "refresh_tokens",
+        indexes = {
+                @Index(name = "idx_refresh_tokens_token_hash", columnList = "token_hash", unique = true),
+                @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id"),
+                @Index(name = "idx_refresh_tokens_user_id", columnList = "refresh_token_user_id"),
+                @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "refresh_token_id")
+    private Long id;
+
+    @Column(name = "token_hash", length = 64, nullable = false)
+    private String tokenHash;
+
+    @Column(name = "family_id", length = 36, nullable = false)
+    private String familyId;
+
+    // Kullanıcı silinince token'ları da veritabanı tarafından silinir (ON DELETE CASCADE)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "refresh_token_user_id", referencedColumnName = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // Token döndürüldüğü (yerine yenisi verildiği) an; null ise token hâlâ kullanılabilir
+    @Column(name = "used_at")
+    private LocalDateTime usedAt;
+}
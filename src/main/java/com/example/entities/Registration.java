@@ -7,7 +7,14 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "registrations")
+@Table(name = "registrations",
+        indexes = {
+                @Index(name = "idx_registrations_hold_expires_at", columnList = "hold_expires_at"),
+                @Index(name = "idx_registrations_ticket_type_status", columnList = "registration_ticket_type_id, status"),
+                @Index(name = "idx_registrations_ticket_type_id", columnList = "registration_ticket_type_id, registration_id"),
+                @Index(name = "idx_registrations_user_id", columnList = "registration_user_id, registration_id"),
+                @Index(name = "idx_registrations_status_id", columnList = "status, registration_id")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -26,6 +33,10 @@ public class Registration {
     @Enumerated(EnumType.STRING)
     private RegistrationStatus status;
 
+    // HELD kayıtların sona erme zamanı, diğer durumlarda null (index sadece süresi dolan tutmaları tarar)
+    @Column(name = "hold_expires_at")
+    private LocalDateTime holdExpiresAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "registration_user_id",referencedColumnName = "user_id",nullable = false)
     private User user;
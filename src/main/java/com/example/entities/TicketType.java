@@ -2,6 +2,8 @@ package com.example.entities;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Generated;
 
 import java.util.List;
 
@@ -28,6 +30,19 @@ public class TicketType {
     @Column(name = "quota")
     private Integer quota;
 
+    // Satılan koltuk sayısı. Sadece TicketTypeRepo'daki koşullu UPDATE sorguları ile değişir,
+    // entity üzerinden yapılan güncellemeler bu kolonu ezmez (updatable = false).
+    @ColumnDefault("0")
+    @Column(name = "sold", nullable = false, updatable = false)
+    private Integer sold = 0;
+
+    // Kalan koltuk sayısı (quota - sold). Veritabanında stored generated kolon olarak tutulur,
+    // sold veya quota her değiştiğinde aynı satır güncellemesi içinde yeniden hesaplanır.
+    @Generated
+    @Column(name = "remaining", insertable = false, updatable = false,
+            columnDefinition = "integer generated always as (quota - sold) stored")
+    private Integer remaining;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "ticket_type_event_id",referencedColumnName = "event_id",nullable = false)
     private Event event;
@@ -4,6 +4,7 @@ import com.example.enums.AuthProvider;
 import com.example.enums.Role;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.jspecify.annotations.Nullable;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -36,9 +37,6 @@ public class User implements UserDetails {
     @Column(name = "password")
     private String password;
 
-    @Column(name = "refresh_token")
-    private String refreshToken;
-
     @Enumerated(EnumType.STRING)
     private AuthProvider authProvider;
 
@@ -51,6 +49,11 @@ public class User implements UserDetails {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    // false ise kullanıcı giriş yapamaz ve elindeki access token'lar revocation kontrolünde reddedilir (null: aktif)
+    @Column(name = "enabled", nullable = false)
+    @ColumnDefault("true")
+    private Boolean enabled = true;
+
     @OneToMany(mappedBy = "user",fetch = FetchType.LAZY,cascade = CascadeType.ALL)
     private List<Registration> registrations;
 
@@ -89,6 +92,6 @@ public class User implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return true;
+        return !Boolean.FALSE.equals(this.enabled);
     }
 }
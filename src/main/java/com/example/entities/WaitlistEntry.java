@@ -0,0 +1,45 @@
+package com.example.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Kotası dolmuş bir bilet türü için bekleme listesi kaydı.
+ *
+ * Sıra, identity ID'nin artan değeri ile belirlenir (FIFO);
+ * (bilet türü, id) index'i sayesinde sıradaki kişi listeyi taramadan bulunur.
+ */
+@Entity
+@Table(name = "waitlist_entries",
+        uniqueConstraints = @UniqueConstraint(name = "uk_waitlist_user_ticket_type",
+                columnNames = {"waitlist_user_id", "waitlist_ticket_type_id"}),
+        indexes = @Index(name = "idx_waitlist_ticket_type_id", columnList = "waitlist_ticket_type_id, waitlist_entry_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(exclude = {"user", "ticketType"})
+@EqualsAndHashCode(exclude = {"user", "ticketType"})
+public class WaitlistEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "waitlist_entry_id")
+    private Long id;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "waitlist_user_id", referencedColumnName = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "waitlist_ticket_type_id", referencedColumnName = "ticket_type_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private TicketType ticketType;
+}
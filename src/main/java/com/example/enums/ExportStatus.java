@@ -0,0 +1,5 @@
+package com.example.enums;
+
+public enum ExportStatus {
+    PENDING, RUNNING, DONE, FAILED // Arka planda üretilen export dosyasının durumu
+}
@@ -0,0 +1,6 @@
+package com.example.enums;
+
+public enum NearbySort {
+    DISTANCE, // En yakından uzağa
+    DATE // En erken tarihten geç tarihe (aynı tarihte yakın olan önce)
+}
@@ -0,0 +1,5 @@
+package com.example.enums;
+
+public enum QueueStatus {
+    WAITING, ADMITTED, EXPIRED // Bekleme odasındaki token'ın durumu
+}
@@ -1,5 +1,5 @@
 package com.example.enums;
 
 public enum RegistrationStatus {
-    ACTIVE, CANCELED
+    ACTIVE, CANCELED, HELD // HELD: koltuk süreli olarak tutuluyor, onaylanınca ACTIVE olur
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.example.enums;
+
+public enum TotalMode {
+    NONE, // Toplam sayı hesaplanmaz (count sorgusu yok)
+    EXACT, // count(*) ile kesin toplam
+    ESTIMATED // Planner istatistiklerinden / arka planda yenilenen sayaçtan yaklaşık toplam
+}
@@ -0,0 +1,11 @@
+package com.example.exception;
+
+/**
+ * Devre dışı bırakılmış (enabled=false) bir kullanıcı için token üretilmek istendiğinde fırlatılan exception.
+ * 403 FORBIDDEN olarak döner.
+ */
+public class AccountDisabledException extends RuntimeException {
+    public AccountDisabledException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.exception;
+
+/**
+ * Henüz tamamlanmamış veya hata ile sonuçlanmış bir export dosyası indirilmeye çalışıldığında
+ * fırlatılan exception. 409 CONFLICT olarak döner; client durumu sorgulayıp tekrar denemelidir.
+ */
+public class ExportNotReadyException extends RuntimeException {
+    public ExportNotReadyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.exception;
+
+/**
+ * Kimliği doğrulanmış kullanıcı, sahibi olmadığı bir kaynak üzerinde işlem yapmak istediğinde fırlatılan exception.
+ * Ör. etkinliğin organizatörü veya admin olmayan bir kullanıcının katılımcı listesini dışa aktarmaya çalışması.
+ * 403 FORBIDDEN olarak döner.
+ */
+public class ForbiddenException extends RuntimeException {
+    public ForbiddenException(String message) {
+        super(message);
+    }
+}
@@ -61,6 +61,127 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(ResultHelper.conflictError(e.getMessage()), HttpStatus.CONFLICT);
     }
 
+    /**
+     * Çözülemeyen sayfalama cursor'ı gönderildiğinde fırlatılan InvalidCursorException'ı yakalar.
+     *
+     * @param e InvalidCursorException
+     * @return 400 BAD REQUEST içeren standart hata response'u
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Result> handleInvalidCursorException(InvalidCursorException e) {
+        return new ResponseEntity<>(ResultHelper.badRequestError(e.getMessage()), HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Konum bazlı aramada geçersiz koordinat veya yarıçap gönderildiğinde fırlatılan InvalidLocationException'ı yakalar.
+     *
+     * @param e InvalidLocationException
+     * @return 400 BAD REQUEST içeren standart hata response'u
+     */
+    @ExceptionHandler(InvalidLocationException.class)
+    public ResponseEntity<Result> handleInvalidLocationException(InvalidLocationException e) {
+        return new ResponseEntity<>(ResultHelper.badRequestError(e.getMessage()), HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Facet'li listelemede geçersiz filtre gönderildiğinde fırlatılan InvalidFacetException'ı yakalar.
+     *
+     * @param e InvalidFacetException
+     * @return 400 BAD REQUEST içeren standart hata response'u
+     */
+    @ExceptionHandler(InvalidFacetException.class)
+    public ResponseEntity<Result> handleInvalidFacetException(InvalidFacetException e) {
+        return new ResponseEntity<>(ResultHelper.badRequestError(e.getMessage()), HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Envanter kiralama açıkken desteklenmeyen bir işlem istendiğinde fırlatılan LeaseModeUnsupportedException'ı yakalar.
+     *
+     * @param e LeaseModeUnsupportedException
+     * @return 409 CONFLICT içeren standart hata response'u
+     */
+    @ExceptionHandler(LeaseModeUnsupportedException.class)
+    public ResponseEntity<Result> handleLeaseModeUnsupportedException(LeaseModeUnsupportedException e) {
+        return new ResponseEntity<>(ResultHelper.conflictError(e.getMessage()), HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Kotası dolmamış bilet türünün bekleme listesine girilmeye çalışıldığında fırlatılan TicketsAvailableException'ı yakalar.
+     *
+     * @param e TicketsAvailableException
+     * @return 409 CONFLICT içeren standart hata response'u
+     */
+    @ExceptionHandler(TicketsAvailableException.class)
+    public ResponseEntity<Result> handleTicketsAvailableException(TicketsAvailableException e) {
+        return new ResponseEntity<>(ResultHelper.conflictError(e.getMessage()), HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Bilet türünün kotası dolduğunda fırlatılan SoldOutException'ı yakalar.
+     *
+     * @param e SoldOutException
+     * @return 409 CONFLICT içeren standart hata response'u
+     */
+    @ExceptionHandler(SoldOutException.class)
+    public ResponseEntity<Result> handleSoldOutException(SoldOutException e) {
+        return new ResponseEntity<>(ResultHelper.conflictError(e.getMessage()), HttpStatus.CONFLICT);
+    }
+
+    /**
+     * HELD kaydın durumu güncelleme ile değiştirilmeye çalışıldığında fırlatılan HeldStatusChangeException'ı yakalar.
+     *
+     * @param e HeldStatusChangeException
+     * @return 409 CONFLICT içeren standart hata response'u
+     */
+    @ExceptionHandler(HeldStatusChangeException.class)
+    public ResponseEntity<Result> handleHeldStatusChangeException(HeldStatusChangeException e) {
+        return new ResponseEntity<>(ResultHelper.conflictError(e.getMessage()), HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Süresi dolmuş koltuk tutma kayıtları onaylanmaya çalışıldığında fırlatılan HoldExpiredException'ı yakalar.
+     *
+     * @param e HoldExpiredException
+     * @return 409 CONFLICT içeren standart hata response'u
+     */
+    @ExceptionHandler(HoldExpiredException.class)
+    public ResponseEntity<Result> handleHoldExpiredException(HoldExpiredException e) {
+        return new ResponseEntity<>(ResultHelper.conflictError(e.getMessage()), HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Tamamlanmamış bir export dosyası indirilmeye çalışıldığında fırlatılan ExportNotReadyException'ı yakalar.
+     *
+     * @param e ExportNotReadyException
+     * @return 409 CONFLICT içeren standart hata response'u
+     */
+    @ExceptionHandler(ExportNotReadyException.class)
+    public ResponseEntity<Result> handleExportNotReadyException(ExportNotReadyException e) {
+        return new ResponseEntity<>(ResultHelper.conflictError(e.getMessage()), HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Sistem geçici olarak yoğun olduğunda fırlatılan ServiceBusyException'ı yakalar.
+     *
+     * @param e ServiceBusyException
+     * @return 503 SERVICE UNAVAILABLE içeren standart hata response'u
+     */
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<Result> handleServiceBusyException(ServiceBusyException e) {
+        return new ResponseEntity<>(ResultHelper.serviceUnavailableError(e.getMessage()), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    /**
+     * Bekleme odasından kabul almadan yapılan kayıt isteklerinde fırlatılan QueueAdmissionException'ı yakalar.
+     *
+     * @param e QueueAdmissionException
+     * @return 429 TOO MANY REQUESTS içeren standart hata response'u
+     */
+    @ExceptionHandler(QueueAdmissionException.class)
+    public ResponseEntity<Result> handleQueueAdmissionException(QueueAdmissionException e) {
+        return new ResponseEntity<>(ResultHelper.tooManyRequestsError(e.getMessage()), HttpStatus.TOO_MANY_REQUESTS);
+    }
+
     /**
      * Event bulunamadığında fırlatılan EventNotFoundException'ı yakalar.
      *
@@ -82,5 +203,59 @@ public class GlobalExceptionHandler {
     public ResponseEntity<Result> handleImageUploadException(ImageUploadException e) {
         return new ResponseEntity<>(ResultHelper.badRequestError(e.getMessage()), HttpStatus.BAD_REQUEST);
     }
-}
 
+    /**
+     * Devre dışı bırakılmış bir kullanıcı giriş yapmaya veya token yenilemeye çalıştığında fırlatılan AccountDisabledException'ı yakalar.
+     *
+     * @param e AccountDisabledException
+     * @return 403 FORBIDDEN içeren standart hata response'u
+     */
+    @ExceptionHandler(AccountDisabledException.class)
+    public ResponseEntity<Result> handleAccountDisabledException(AccountDisabledException e) {
+        return new ResponseEntity<>(ResultHelper.forbiddenError(e.getMessage()), HttpStatus.FORBIDDEN);
+    }
+
+    /**
+     * Kullanıcı sahibi olmadığı bir kaynak üzerinde işlem yapmak istediğinde fırlatılan ForbiddenException'ı yakalar.
+     *
+     * @param e ForbiddenException
+     * @return 403 FORBIDDEN içeren standart hata response'u
+     */
+    @ExceptionHandler(ForbiddenException.class)
+    public ResponseEntity<Result> handleForbiddenException(ForbiddenException e) {
+        return new ResponseEntity<>(ResultHelper.forbiddenError(e.getMessage()), HttpStatus.FORBIDDEN);
+    }
+
+    /**
+     * Kimliği doğrulanmış kullanıcı gerektiren bir işlemde kullanıcı bilgisi bulunamadığında fırlatılan UnauthorizedException'ı yakalar.
+     *
+     * @param e UnauthorizedException
+     * @return 401 UNAUTHORIZED içeren standart hata response'u
+     */
+    @ExceptionHandler(UnauthorizedException.class)
+    public ResponseEntity<Result> handleUnauthorizedException(UnauthorizedException e) {
+        return new ResponseEntity<>(ResultHelper.unauthorizedError(e.getMessage()), HttpStatus.UNAUTHORIZED);
+    }
+
+    /**
+     * Kullanılmış bir refresh token tekrar gönderildiğinde fırlatılan RefreshTokenReuseException'ı yakalar.
+     *
+     * @param e RefreshTokenReuseException
+     * @return 401 UNAUTHORIZED içeren standart hata response'u
+     */
+    @ExceptionHandler(RefreshTokenReuseException.class)
+    public ResponseEntity<Result> handleRefreshTokenReuseException(RefreshTokenReuseException e) {
+        return new ResponseEntity<>(ResultHelper.unauthorizedError(e.getMessage()), HttpStatus.UNAUTHORIZED);
+    }
+
+    /**
+     * Bir bütün olarak işlenemeyecek grup kaydı isteklerinde fırlatılan InvalidBulkRequestException'ı yakalar.
+     *
+     * @param e InvalidBulkRequestException
+     * @return 400 BAD REQUEST içeren standart hata response'u
+     */
+    @ExceptionHandler(InvalidBulkRequestException.class)
+    public ResponseEntity<Result> handleInvalidBulkRequestException(InvalidBulkRequestException e) {
+        return new ResponseEntity<>(ResultHelper.badRequestError(e.getMessage()), HttpStatus.BAD_REQUEST);
+    }
+}
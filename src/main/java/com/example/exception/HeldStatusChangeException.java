@@ -0,0 +1,12 @@
+package com.example.exception;
+
+/**
+ * HELD durumundaki bir kaydın durumu güncelleme (PUT) ile değiştirilmeye çalışıldığında fırlatılan exception.
+ * Tutulan koltuk sadece /confirm ile (süresi dolmadan ve sahibi tarafından) onaylanabilir; aksi halde süresi dolmuş
+ * ama henüz temizlenmemiş bir tutma ACTIVE yapılabilirdi. 409 CONFLICT olarak döner.
+ */
+public class HeldStatusChangeException extends RuntimeException {
+    public HeldStatusChangeException(String message) {
+        super(message);
+    }
+}
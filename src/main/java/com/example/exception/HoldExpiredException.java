@@ -0,0 +1,11 @@
+package com.example.exception;
+
+/**
+ * Süresi dolmuş veya artık HELD durumunda olmayan koltuk tutma kayıtları
+ * onaylanmaya çalışıldığında fırlatılan exception. 409 CONFLICT olarak döner.
+ */
+public class HoldExpiredException extends RuntimeException {
+    public HoldExpiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.exception;
+
+/**
+ * Aynı Idempotency-Key ile gelen önceki istek beklenen süre içinde tamamlanmadığında fırlatılan exception.
+ *
+ * IdempotencyFilter tarafından yakalanır ve 409 CONFLICT olarak döner;
+ * client aynı anahtarla biraz sonra tekrar deneyebilir.
+ */
+public class IdempotencyConflictException extends RuntimeException {
+    public IdempotencyConflictException(String message) {
+        super(message);
+    }
+}
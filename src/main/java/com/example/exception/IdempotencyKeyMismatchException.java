@@ -0,0 +1,13 @@
+package com.example.exception;
+
+/**
+ * Aynı Idempotency-Key farklı bir istek gövdesi ile tekrar kullanıldığında fırlatılan exception.
+ *
+ * IdempotencyFilter tarafından yakalanır ve 422 UNPROCESSABLE ENTITY olarak döner;
+ * ilk isteğin yanıtı farklı bir isteğe tekrar oynatılmaz.
+ */
+public class IdempotencyKeyMismatchException extends RuntimeException {
+    public IdempotencyKeyMismatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.exception;
+
+/**
+ * Grup kaydı isteği bir bütün olarak işlenemeyecek durumdaysa (ör. bekleme odası olan etkinliklerde
+ * birden fazla etkinliğin bilet türleri tek istekte gönderildiyse) fırlatılan exception.
+ * 400 BAD REQUEST olarak döner.
+ */
+public class InvalidBulkRequestException extends RuntimeException {
+    public InvalidBulkRequestException(String message) {
+        super(message);
+    }
+}
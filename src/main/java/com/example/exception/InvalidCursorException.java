@@ -0,0 +1,11 @@
+package com.example.exception;
+
+/**
+ * Sayfalama isteğinde gönderilen cursor çözülemediğinde fırlatılan exception.
+ * 400 BAD REQUEST olarak döner.
+ */
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.exception;
+
+/**
+ * Facet'li listelemede tanımsız bir fiyat aralığı veya hatalı biçimde ay filtresi gönderildiğinde fırlatılan exception.
+ * 400 BAD REQUEST olarak döner.
+ */
+public class InvalidFacetException extends RuntimeException {
+    public InvalidFacetException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.exception;
+
+/**
+ * Konum bazlı aramada enlem, boylam veya yarıçap geçerli aralıkta olmadığında fırlatılan exception.
+ * 400 BAD REQUEST olarak döner.
+ */
+public class InvalidLocationException extends RuntimeException {
+    public InvalidLocationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.exception;
+
+/**
+ * Envanter kiralama (eventhub.inventory.lease-enabled) açıkken doğru çalışamayan bir işlem istendiğinde fırlatılan exception.
+ * Kiralama açıkken sold, node'ların kiraladığı henüz satılmamış koltukları da içerir; kalan koltuk sayısı veritabanından
+ * doğru okunamadığı için doluluk bilgisi ve bekleme listesine girme kapatılır. 409 CONFLICT olarak döner.
+ */
+public class LeaseModeUnsupportedException extends RuntimeException {
+    public LeaseModeUnsupportedException(String message) {
+        super(message);
+    }
+}
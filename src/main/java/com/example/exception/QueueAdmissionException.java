@@ -0,0 +1,12 @@
+package com.example.exception;
+
+/**
+ * Bekleme odası aktif olan bir etkinlik için geçerli (kabul edilmiş) bir
+ * kuyruk token'ı olmadan kayıt yapılmaya çalışıldığında fırlatılan exception.
+ * 429 TOO MANY REQUESTS olarak döner.
+ */
+public class QueueAdmissionException extends RuntimeException {
+    public QueueAdmissionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.exception;
+
+/**
+ * Daha önce döndürülmüş (kullanılmış) bir refresh token tekrar gönderildiğinde fırlatılan exception.
+ * Token çalınmış kabul edilir, ailesindeki tüm token'lar iptal edilir ve 401 UNAUTHORIZED döner; kullanıcı yeniden giriş yapmalıdır.
+ */
+public class RefreshTokenReuseException extends RuntimeException {
+    public RefreshTokenReuseException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.exception;
+
+/**
+ * İstek, sistem geçici olarak yoğun olduğu için kabul edilemediğinde fırlatılan exception.
+ * (Ör. kayıt yazma kuyruğu dolu.) 503 SERVICE UNAVAILABLE olarak döner, client tekrar deneyebilir.
+ */
+public class ServiceBusyException extends RuntimeException {
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.exception;
+
+/**
+ * Bilet türünün kotası dolduğunda fırlatılan exception.
+ *
+ * Kayıt oluşturma / aktifleştirme sırasında koşullu kota UPDATE'i
+ * hiçbir satırı güncelleyemezse kullanılır ve 409 CONFLICT olarak döner.
+ */
+public class SoldOutException extends RuntimeException {
+    public SoldOutException(String message) {
+        super(message);
+    }
+}
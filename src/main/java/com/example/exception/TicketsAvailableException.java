@@ -0,0 +1,12 @@
+package com.example.exception;
+
+/**
+ * Kotası dolmamış bir bilet türünün bekleme listesine girilmeye çalışıldığında fırlatılan exception.
+ *
+ * Client'ın doğrudan kayıt oluşturması gerektiğini belirtir ve 409 CONFLICT olarak döner.
+ */
+public class TicketsAvailableException extends RuntimeException {
+    public TicketsAvailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.exception;
+
+/**
+ * Kimliği doğrulanmış bir kullanıcı gerektiren işlemde istekte kullanıcı bilgisi bulunamadığında fırlatılan exception.
+ * Ör. JWT ile kimlik doğrulaması yapılmamış bir isteğin bekleme odasına girmeye çalışması.
+ * 401 UNAUTHORIZED olarak döner.
+ */
+public class UnauthorizedException extends RuntimeException {
+    public UnauthorizedException(String message) {
+        super(message);
+    }
+}
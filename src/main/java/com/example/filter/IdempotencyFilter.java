@@ -0,0 +1,133 @@
+package com.example.filter;
+
+import com.example.business.abstracts.IIdempotencyService;
+import com.example.business.idempotency.IdempotentResponse;
+import com.example.exception.IdempotencyConflictException;
+import com.example.exception.IdempotencyKeyMismatchException;
+import com.example.result.ResultHelper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+
+/**
+ * Idempotency-Key header'ı ile gelen POST isteklerini tekilleştiren filtre.
+ *
+ * - Security filter zincirinden sonra çalışır, anahtar kullanıcıya göre ayrıştırılır
+ * - İlk isteğin yanıtı (status + body) saklanır; aynı anahtarla gelen tekrar istekler
+ *   controller'a ve servis katmanına hiç ulaşmadan saklanan yanıtı alır
+ * - Anahtarla birlikte istek gövdesinin özeti saklanır; aynı anahtar farklı gövde ile
+ *   gelirse 422 döner (başka bir isteğin yanıtı oynatılmaz)
+ * - Sadece eventhub.idempotency.paths içindeki endpoint'lerde çalışır
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IIdempotencyService idempotencyService;
+    private final Set<String> paths;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public IdempotencyFilter(IIdempotencyService idempotencyService,
+                             @Value("${eventhub.idempotency.paths:/v1/registrations,/v1/registrations/bulk,/v1/events}") Set<String> paths) {
+        this.idempotencyService = idempotencyService;
+        this.paths = Set.copyOf(paths);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+                || request.getHeader(HEADER) == null
+                || !this.paths.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            filterChain.doFilter(request, response); // Yetkisiz istekler security tarafından zaten reddedilir
+            return;
+        }
+
+        String key = request.getHeader(HEADER);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            this.writeError(response, HttpServletResponse.SC_BAD_REQUEST,
+                    this.objectMapper.writeValueAsString(ResultHelper.badRequestError("Idempotency-Key 1-" + MAX_KEY_LENGTH + " karakter olmalıdır")));
+            return;
+        }
+        // Aynı anahtar farklı kullanıcı veya endpoint'te çakışmasın diye hepsi birlikte özetlenir
+        String keyHash = hash(authentication.getName() + "\n" + request.getMethod() + " " + request.getRequestURI() + "\n" + key);
+        CachedBodyRequestWrapper cachedRequest = new CachedBodyRequestWrapper(request);
+        String requestHash = hash(cachedRequest.getBody());
+
+        IdempotentResponse stored;
+        try {
+            stored = this.idempotencyService.begin(keyHash, requestHash).orElse(null);
+        } catch (IdempotencyConflictException e) {
+            this.writeError(response, HttpServletResponse.SC_CONFLICT,
+                    this.objectMapper.writeValueAsString(ResultHelper.conflictError(e.getMessage())));
+            return;
+        } catch (IdempotencyKeyMismatchException e) {
+            this.writeError(response, HttpServletResponse.SC_UNPROCESSABLE_CONTENT,
+                    this.objectMapper.writeValueAsString(ResultHelper.unprocessableError(e.getMessage())));
+            return;
+        }
+        if (stored != null) {
+            response.setStatus(stored.getStatusCode());
+            response.setContentType(stored.getContentType());
+            response.setHeader(REPLAYED_HEADER, "true");
+            response.getOutputStream().write(stored.getBody());
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(cachedRequest, wrapper);
+            this.idempotencyService.complete(keyHash, requestHash,
+                    new IdempotentResponse(wrapper.getStatus(), wrapper.getContentType(), wrapper.getContentAsByteArray()));
+            completed = true;
+        } finally {
+            if (!completed) {
+                this.idempotencyService.abandon(keyHash);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void writeError(HttpServletResponse response, int status, String body) throws IOException {
+        response.setStatus(status);
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(body);
+    }
+
+    private static String hash(String value) {
+        return hash(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String hash(byte[] value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
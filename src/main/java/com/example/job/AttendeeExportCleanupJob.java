@@ -0,0 +1,22 @@
+package com.example.job;
+
+import com.example.business.abstracts.IAttendeeExportService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Saklama süresi dolan katılımcı export işlerini ve diskteki gzip'li CSV dosyalarını silen zamanlanmış iş.
+ */
+@Component
+public class AttendeeExportCleanupJob {
+    private final IAttendeeExportService attendeeExportService;
+
+    public AttendeeExportCleanupJob(IAttendeeExportService attendeeExportService) {
+        this.attendeeExportService = attendeeExportService;
+    }
+
+    @Scheduled(fixedDelayString = "${eventhub.attendee-export.cleanup-interval-ms:60000}")
+    public void purgeExpired() {
+        this.attendeeExportService.purgeExpired();
+    }
+}
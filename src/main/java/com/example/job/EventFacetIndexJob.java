@@ -0,0 +1,31 @@
+package com.example.job;
+
+import com.example.business.abstracts.IEventFacetService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Etkinlik facet bitmap'lerini açılışta dolduran ve periyodik olarak veritabanından yeniden oluşturan zamanlanmış iş.
+ * Periyodik yeniden oluşturma, diğer instance'larda yapılan yazmaları bu instance'ın index'ine taşır.
+ */
+@Component
+public class EventFacetIndexJob {
+    private final IEventFacetService eventFacetService;
+
+    public EventFacetIndexJob(IEventFacetService eventFacetService) {
+        this.eventFacetService = eventFacetService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        this.eventFacetService.rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${eventhub.facets.rebuild-interval-ms:300000}",
+            fixedDelayString = "${eventhub.facets.rebuild-interval-ms:300000}")
+    public void rebuild() {
+        this.eventFacetService.rebuild();
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.job;
+
+import com.example.business.abstracts.IEventTimelineService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Yaklaşan etkinlikler index'ini açılışta dolduran, periyodik olarak yeniden oluşturan
+ * ve tarihi geçen etkinlikleri index'ten çıkaran zamanlanmış iş.
+ */
+@Component
+public class EventTimelineJob {
+    private final IEventTimelineService eventTimelineService;
+
+    public EventTimelineJob(IEventTimelineService eventTimelineService) {
+        this.eventTimelineService = eventTimelineService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        this.eventTimelineService.rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${eventhub.timeline.rebuild-interval-ms:300000}",
+            fixedDelayString = "${eventhub.timeline.rebuild-interval-ms:300000}")
+    public void rebuild() {
+        this.eventTimelineService.rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${eventhub.timeline.evict-interval-ms:60000}")
+    public void evictPast() {
+        this.eventTimelineService.evictPast();
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.job;
+
+import com.example.business.abstracts.IIdempotencyService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Süresi dolan Idempotency-Key kayıtlarını expires_at index'i üzerinden batch'ler halinde silen zamanlanmış iş.
+ */
+@Component
+public class IdempotencyKeyCleanupJob {
+    private final IIdempotencyService idempotencyService;
+    private final int batchSize;
+
+    public IdempotencyKeyCleanupJob(IIdempotencyService idempotencyService,
+                                    @Value("${eventhub.idempotency.cleanup-batch-size:1000}") int batchSize) {
+        this.idempotencyService = idempotencyService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${eventhub.idempotency.cleanup-interval-ms:60000}")
+    public void purgeExpired() {
+        int deleted;
+        do {
+            deleted = this.idempotencyService.purgeExpired(this.batchSize);
+        } while (deleted == this.batchSize);
+    }
+}
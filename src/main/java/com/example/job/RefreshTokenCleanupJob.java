@@ -0,0 +1,29 @@
+package com.example.job;
+
+import com.example.business.abstracts.IRefreshTokenService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Süresi dolan refresh token kayıtlarını expires_at index'i üzerinden batch'ler halinde silen zamanlanmış iş.
+ */
+@Component
+public class RefreshTokenCleanupJob {
+    private final IRefreshTokenService refreshTokenService;
+    private final int batchSize;
+
+    public RefreshTokenCleanupJob(IRefreshTokenService refreshTokenService,
+                                  @Value("${eventhub.refresh-token.cleanup-batch-size:1000}") int batchSize) {
+        this.refreshTokenService = refreshTokenService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${eventhub.refresh-token.cleanup-interval-ms:60000}")
+    public void purgeExpired() {
+        int deleted;
+        do {
+            deleted = this.refreshTokenService.purgeExpired(this.batchSize);
+        } while (deleted == this.batchSize);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.job;
+
+import com.example.business.abstracts.IRegistrationService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Süresi dolan koltuk tutmalarını (HELD) periyodik olarak serbest bırakan zamanlanmış iş.
+ *
+ * Her çalışmada hold_expires_at index'i üzerinden sadece süresi dolmuş kayıtlar
+ * batch'ler halinde işlenir; tutma başına timer veya tam tablo taraması yapılmaz.
+ */
+@Component
+public class RegistrationHoldExpiryJob {
+    private final IRegistrationService registrationService;
+    private final int batchSize;
+
+    public RegistrationHoldExpiryJob(IRegistrationService registrationService,
+                                     @Value("${eventhub.hold.batch-size:500}") int batchSize) {
+        this.registrationService = registrationService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${eventhub.hold.expiry-interval-ms:5000}")
+    public void expireHolds() {
+        // Batch dolu geldiyse birikmiş başka kayıt olabilir, boşalana kadar devam edilir
+        int expired;
+        do {
+            expired = this.registrationService.expireHolds(this.batchSize);
+        } while (expired == this.batchSize);
+    }
+}
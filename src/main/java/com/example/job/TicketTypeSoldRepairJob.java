@@ -0,0 +1,40 @@
+package com.example.job;
+
+import com.example.business.abstracts.ITicketTypeService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * ticket_types.sold değerini ACTIVE / HELD kayıt sayısı ile periyodik olarak karşılaştırıp
+ * drift varsa düzelten zamanlanmış iş (örn. elle yapılan SQL müdahaleleri sonrası).
+ *
+ * Envanter kiralama (eventhub.inventory.lease-enabled) açıkken sold, node'ların kiraladığı
+ * henüz satılmamış koltukları da içerdiği için iş çalışmaz.
+ */
+@Component
+public class TicketTypeSoldRepairJob {
+    private final ITicketTypeService ticketTypeService;
+    private final boolean leaseEnabled;
+    private final int batchSize;
+
+    public TicketTypeSoldRepairJob(ITicketTypeService ticketTypeService,
+                                   @Value("${eventhub.inventory.lease-enabled:false}") boolean leaseEnabled,
+                                   @Value("${eventhub.ticket-type.repair-batch-size:500}") int batchSize) {
+        this.ticketTypeService = ticketTypeService;
+        this.leaseEnabled = leaseEnabled;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${eventhub.ticket-type.repair-interval-ms:600000}",
+            initialDelayString = "${eventhub.ticket-type.repair-interval-ms:600000}")
+    public void repair() {
+        if (this.leaseEnabled) {
+            return;
+        }
+        int repaired;
+        do {
+            repaired = this.ticketTypeService.repairSoldCounts(this.batchSize);
+        } while (repaired == this.batchSize);
+    }
+}
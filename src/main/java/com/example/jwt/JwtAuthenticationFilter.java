@@ -7,8 +7,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
@@ -19,6 +18,8 @@ import java.io.IOException;
  * Bu filter:
  * - Request header içinden JWT’yi okur
  * - Token geçerliyse kullanıcıyı authenticate eder
+ * - Principal'ı token claim'lerinden (uid, email, rol) kurar; istek başına User entity'si yüklenmez
+ * - Kullanıcının silinmiş, devre dışı bırakılmış veya rolünün değişmiş olmasını kısa TTL'li UserStatusCache ile kontrol eder
  * - Authentication bilgisini SecurityContext’e set eder
  *
  * Not:
@@ -28,11 +29,12 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
+    private final UserStatusCache userStatusCache;
+    private final WebAuthenticationDetailsSource detailsSource = new WebAuthenticationDetailsSource();
 
-    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService, UserStatusCache userStatusCache) {
         this.jwtService = jwtService;
-        this.userDetailsService = userDetailsService;
+        this.userStatusCache = userStatusCache;
     }
 
     /**
@@ -52,29 +54,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         String token = authHeader.substring(7);// "Bearer " prefix’i kaldırılarak sadece JWT alınır
         try {
-            // Token'ın geçerliliğini kontrol et (hem expired hem de parse hatası kontrolü)
-            if (!jwtService.isTokenValid(token)) {
+            // Token tek seferde doğrulanır (imza + süre); geçersizse null döner. Aynı token daha önce doğrulandıysa cache'ten gelir
+            VerifiedToken verified = jwtService.verify(token);
+            if (verified == null) {
                 filterChain.doFilter(request, response);
                 return;
             }
-            String username = jwtService.getUsernameByToken(token);// Token içinden username bilgisi alınır
+            String username = verified.getSubject();// Token içinden username bilgisi alınır
 
             // Username varsa ve SecurityContext içinde henüz authentication yoksa
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);// Username üzerinden kullanıcı bilgileri yüklenir
+                // Revocation kontrolü: kullanıcı hâlâ mevcut, aktif ve token'daki rolde olmalı (DB'ye TTL başına en fazla 1 kez gidilir)
+                UserStatus status = userStatusCache.get(username);
+                if (isActive(status, verified)) {
+                    // uid claim'i olmayan eski token'larda id, durum kaydından alınır
+                    Long userId = verified.getUserId() != null ? verified.getUserId() : status.getId();
+                    JwtPrincipal principal = new JwtPrincipal(userId, username, verified.getRole());
 
-                // Kullanıcı mevcutsa ve token süresi dolmamışsa
-                if (userDetails != null) {
                     // Spring Security Authentication nesnesi oluşturulur
                     UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(
-                                    userDetails,          // authenticated principal
-                                    null,                 // credentials (JWT olduğu için null)
-                                    userDetails.getAuthorities() // roller / yetkiler
+                            UsernamePasswordAuthenticationToken.authenticated(
+                                    principal,                  // authenticated principal (claim'lerden)
+                                    null,                       // credentials (JWT olduğu için null)
+                                    principal.getAuthorities()  // roller / yetkiler
                             );
-                    // Authentication detayları set edilir
-                    authentication.setDetails(userDetails);
+                    // Authentication detayları set edilir (remote address vb.)
+                    authentication.setDetails(detailsSource.buildDetails(request));
 
                     // Authentication SecurityContext’e eklenir Bundan sonra request authenticated kabul edilir
                     SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -88,4 +94,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Filtre zincirinin devam etmesi sağlanır
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Token'ın sahibi hâlâ geçerli mi?
+     * - Kullanıcı silinmişse veya devre dışı bırakılmışsa token reddedilir
+     * - Rol değiştiyse (ör. yetkisi düşürüldüyse) token reddedilir; client refresh ile güncel rolde yeni token alır
+     * - Aynı email ile yeniden oluşturulmuş bir hesap eski hesabın token'ını kullanamaz (uid eşleşmeli)
+     */
+    private static boolean isActive(UserStatus status, VerifiedToken verified) {
+        if (status == null || !status.isActive() || status.getRole() == null) {
+            return false;
+        }
+        if (!status.getRole().name().equals(verified.getRole())) {
+            return false;
+        }
+        return verified.getUserId() == null || verified.getUserId().equals(status.getId());
+    }
 }
@@ -0,0 +1,41 @@
+package com.example.jwt;
+
+import lombok.Getter;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+/**
+ * JWT claim'lerinden kurulan, veritabanına bağlı olmayan authenticated principal.
+ *
+ * - userId, email ve rol token'dan gelir; istek başına User entity'si yüklenmez
+ * - getName() email döner, böylece Authentication.getName() önceki (User principal'lı) davranışla aynı kalır
+ * - User entity'si gereken handler'lar userId ile IUserService.get(...) çağırır
+ */
+@Getter
+public class JwtPrincipal implements AuthenticatedPrincipal {
+    private final Long userId;
+    private final String email;
+    private final String role;
+    private final List<GrantedAuthority> authorities;
+
+    public JwtPrincipal(Long userId, String email, String role) {
+        this.userId = userId;
+        this.email = email;
+        this.role = role;
+        // User.getAuthorities() ile aynı format: ROLE_<rol>
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
+    }
+
+    @Override
+    public String getName() {
+        return this.email;
+    }
+
+    @Override
+    public String toString() {
+        return "JwtPrincipal{userId=" + this.userId + ", email=" + this.email + ", role=" + this.role + "}";
+    }
+}
@@ -1,17 +1,23 @@
 package com.example.jwt;
 
+import com.example.cache.ExpiringCache;
 import com.example.entities.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import javax.crypto.SecretKey;
 import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 /**
@@ -21,6 +27,15 @@ import java.util.function.Function;
  * - Kullanıcıya token üretir
  * - Token içinden username ve role gibi bilgileri okur
  * - Token süresinin geçerli olup olmadığını kontrol eder
+ *
+ * Performans:
+ * - İmzalama anahtarı ve parser uygulama açılışında bir kez oluşturulur (thread-safe, her çağrıda yeniden kurulmaz)
+ * - verify() token'ı tek seferde parse eder ve imzayı bir kez doğrular; filtre aynı token için ikinci kez parse etmez
+ * - Doğrulanmış token'lar, token'ın SHA-256 özetiyle anahtarlanan sınırlı bir cache'te süreleri dolana kadar tutulur.
+ *   Aynı access token'ı tekrar tekrar gönderen client'lar için JSON parse ve HMAC doğrulaması atlanır.
+ *   Cache ConcurrentHashMap tabanlıdır (ExpiringCache); cache isabeti kilit almaz ve map'i değiştirmez
+ *
+ * Refresh token'lar typ=refresh claim'i taşır ve verify() tarafından access token olarak kabul edilmez.
  */
 @Component
 public class JwtService {
@@ -28,6 +43,24 @@ public class JwtService {
     // JWT imzalama ve doğrulama işlemleri için kullanılan gizli anahtar
     public static final String SECRET_KEY = "oHhulXZTRYwbmmbzFsKwutab74uoFfrjUVRvL7qbUKc=";
 
+    // Refresh token geçerlilik süresi (4 saat); refresh_tokens tablosundaki expires_at da bu süreyle hesaplanır
+    public static final long REFRESH_TOKEN_VALIDITY_MS = 1000L * 60 * 60 * 4;
+
+    // Refresh token'ları access token'lardan ayıran claim; refresh token'lar sadece /auth/refresh'te (DB özeti ile) geçerlidir
+    private static final String TOKEN_TYPE_CLAIM = "typ";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+
+    private final SecretKey key;
+    private final JwtParser parser;
+    private final ExpiringCache<String, VerifiedToken> verifiedTokens;
+
+    public JwtService(@Value("${eventhub.jwt.verified-cache-size:10000}") int verifiedCacheSize) {
+        // Base64 formatındaki SECRET_KEY byte dizisine çevrilir ve HS256 için uygun Key nesnesi oluşturulur
+        this.key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+        this.parser = Jwts.parser().verifyWith(this.key).build();
+        this.verifiedTokens = new ExpiringCache<>(verifiedCacheSize);
+    }
+
     //Kullanıcı bilgilerine göre JWT üretir.
     public String generateToken(UserDetails userDetails){
         // Token içine eklenecek ek bilgiler (custom claims) için Map
@@ -39,6 +72,8 @@ public class JwtService {
 
             // Kullanıcının rolü token içine "role" claim’i olarak eklenir
             claimsMap.put("role", user.getRole().name());
+            // Kullanıcı id'si "uid" claim'i olarak eklenir; filtre principal'ı veritabanına gitmeden kurar
+            claimsMap.put("uid", user.getId());
         }
 
         // JWT oluşturma işlemi başlar
@@ -58,7 +93,9 @@ public class JwtService {
      * Refresh token:
      * - Access token'dan daha uzun süreli (4 saat)
      * - Sadece yeni access token almak için kullanılır
-     * - Database'de saklanır
+     * - Database'de (refresh_tokens) sadece SHA-256 özeti saklanır
+     * - jti claim'i her token'ı tekil yapar; aynı saniyede aynı kullanıcı için üretilen token'lar da farklıdır
+     * - typ=refresh claim'i taşır; Bearer access token olarak kullanılamaz
      *
      * @param userDetails Kullanıcı bilgileri
      * @return Refresh token string
@@ -70,13 +107,16 @@ public class JwtService {
         if (userDetails instanceof User) {
             User user = (User) userDetails;
             claimsMap.put("role", user.getRole().name());
+            claimsMap.put("uid", user.getId());
         }
+        claimsMap.put(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE);
 
         return Jwts.builder()
                 .claims(claimsMap)
                 .setSubject(userDetails.getUsername())
+                .id(UUID.randomUUID().toString())
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + 1000L * 60 * 60 * 4)) // 4 saat
+                .setExpiration(new Date(System.currentTimeMillis() + REFRESH_TOKEN_VALIDITY_MS)) // 4 saat
                 .signWith(getKey(), SignatureAlgorithm.HS256)
                 .compact();
     }
@@ -88,31 +128,64 @@ public class JwtService {
      * @return Token geçerliyse true, değilse false
      */
     public boolean isTokenValid(String token) {
+        return verify(token) != null;
+    }
+
+    /**
+     * Token'ı doğrular ve içindeki bilgileri döner; istek başına tek parse ve tek imza doğrulaması yapılır.
+     *
+     * Önce cache'e bakılır; token daha önce doğrulanmış ve süresi dolmamışsa kriptografik işlem yapılmaz.
+     * Cache anahtarı token'ın tamamının SHA-256 özetidir (imza kısmı değil): payload'ı değiştirilmiş bir token
+     * farklı bir anahtara düşer ve yeniden doğrulanır.
+     *
+     * @param token Doğrulanacak token
+     * @return Doğrulanmış token bilgileri; imza geçersizse, token bozuksa, süresi dolmuşsa veya refresh token ise null
+     */
+    public VerifiedToken verify(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        String digest = TokenDigest.sha256Hex(token);
+        long now = System.currentTimeMillis();
+
+        VerifiedToken cached = this.verifiedTokens.get(digest, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims;
         try {
-            return !isTokenExpired(token);
-        } catch (Exception e) {
-            return false;
+            claims = this.parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null; // Süresi dolmuş, imzası geçersiz veya bozuk token
+        }
+        if (claims.getExpiration() == null) {
+            return null;
         }
+        // Refresh token access token yerine kullanılamaz
+        if (REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) {
+            return null;
+        }
+
+        // uid claim'i JSON sayısı olarak gelir (Integer veya Long); bu claim'den önce üretilmiş token'larda yoktur
+        Number userId = claims.get("uid", Number.class);
+        VerifiedToken verified = new VerifiedToken(userId != null ? userId.longValue() : null, claims.getSubject(),
+                claims.get("role", String.class), claims.getExpiration().getTime());
+        this.verifiedTokens.put(digest, verified, verified.getExpiresAtMillis());
+        return verified;
     }
 
     // Token içerisinden kullanıcının rol bilgisini okur.
     public String getRoleFromToken(String token) {
-        // exportToken metodu kullanılarak role claim’i String olarak alınır
-        return exportToken(token, claims ->
-                claims.get("role", String.class)
-        );
+        VerifiedToken verified = verify(token);
+        return verified != null ? verified.getRole() : null;
     }
 
     // Token içerisindeki bilgileri (claims) okuyup istenilen alanı döndürmek için kullanılan generic yardımcı metot.
     public <T> T exportToken(String token, Function<Claims, T> claimsTFunction){
 
-        // Token parse edilir ve imza doğrulaması yapılır
-        Claims claims = Jwts
-                .parser()
-                .setSigningKey(getKey())// Token doğrulaması için kullanılacak imzalama anahtarı
-                .build()// Parser nesnesi oluşturulur
-                .parseClaimsJws(token)// Token çözülür
-                .getBody();// Token’ın payload (claims) kısmı alınır
+        // Token önceden oluşturulmuş parser ile çözülür ve imza doğrulaması yapılır
+        Claims claims = this.parser.parseSignedClaims(token).getPayload();
 
         // Claims içinden istenilen alan fonksiyon ile döndürülür
         return claimsTFunction.apply(claims);
@@ -121,25 +194,17 @@ public class JwtService {
     // Token içerisinden username bilgisini döndürür.
     public String getUsernameByToken(String token){
         // Token’ın subject alanı username olarak okunur
-        return exportToken(token, Claims::getSubject);
+        VerifiedToken verified = verify(token);
+        return verified != null ? verified.getSubject() : null;
     }
 
-    // Token’ın süresinin dolup dolmadığını kontrol eder.
+    // Token’ın süresinin dolup dolmadığını kontrol eder (bozuk veya imzası geçersiz token da geçersiz sayılır).
     public boolean isTokenExpired(String token) {
-        try {
-            Date expiredDate = exportToken(token, Claims::getExpiration);
-            return expiredDate.before(new Date()); // Süresi dolmuşsa true
-        } catch (Exception e) {
-            return true; // Hata varsa token geçersiz say
-        }
+        return verify(token) == null;
     }
 
-    // SECRET_KEY bilgisinden imzalama için kullanılacak Key nesnesini üretir.
+    // İmzalama için kullanılan Key nesnesi (constructor'da SECRET_KEY'den bir kez üretilir).
     public Key getKey(){
-        // Base64 formatındaki SECRET_KEY byte dizisine çevrilir
-        byte[] keyBytes = Decoders.BASE64.decode(SECRET_KEY);
-
-        // HS256 algoritması için uygun Key nesnesi oluşturulur
-        return Keys.hmacShaKeyFor(keyBytes);
+        return this.key;
     }
 }
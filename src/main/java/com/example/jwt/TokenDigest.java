@@ -0,0 +1,38 @@
+package com.example.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Token'ların SHA-256 özeti (hex, 64 karakter).
+ *
+ * Ham token saklanmaması gereken her yerde kullanılır: refresh_tokens.token_hash kolonu ve
+ * JwtService'in doğrulanmış token cache'inin anahtarı. Her özet için provider araması yapmamak adına
+ * örnek alınan MessageDigest clone() ile kopyalanır.
+ */
+public final class TokenDigest {
+
+    private static final MessageDigest SHA_256 = sha256();
+
+    private TokenDigest() {
+    }
+
+    public static String sha256Hex(String token) {
+        try {
+            MessageDigest sha256 = (MessageDigest) SHA_256.clone();
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("SHA-256 kopyalanamadı", e);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 desteklenmiyor", e);
+        }
+    }
+}
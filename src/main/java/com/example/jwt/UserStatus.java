@@ -0,0 +1,22 @@
+package com.example.jwt;
+
+import com.example.enums.Role;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Revocation kontrolü için kullanıcının güncel durumu: User entity'sinin tamamı yerine
+ * yalnızca id, rol ve enabled alanlarını okuyan projection (UserRepo.findStatusByEmail).
+ * Değiştirilemez; UserStatusCache'te birden fazla thread tarafından paylaşılır.
+ */
+@Getter
+@AllArgsConstructor
+public class UserStatus {
+    private final Long id;
+    private final Role role;
+    private final Boolean enabled;
+
+    public boolean isActive() {
+        return !Boolean.FALSE.equals(this.enabled);
+    }
+}
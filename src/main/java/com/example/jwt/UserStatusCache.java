@@ -0,0 +1,63 @@
+package com.example.jwt;
+
+import com.example.cache.ExpiringCache;
+import com.example.dao.UserRepo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * JWT ile gelen isteklerde kullanıcının hâlâ aktif olup olmadığını (revocation) kontrol etmek için
+ * kısa TTL'li kullanıcı durumu cache'i.
+ *
+ * - Her kullanıcı için veritabanına en fazla TTL süresinde bir kez gidilir (id, rol, enabled projection'ı)
+ * - Bulunamayan kullanıcılar da (silinmiş hesap) TTL süresince "yok" olarak cache'lenir
+ * - Devre dışı bırakılan veya rolü değişen kullanıcının eski token'ları en geç TTL sonra reddedilir;
+ *   değişikliği yapan node'da UserManager evict() çağırdığı için etki hemen görülür
+ * - Her istekte okunduğu için ConcurrentHashMap tabanlı ExpiringCache kullanılır; cache isabeti kilit almaz
+ */
+@Component
+public class UserStatusCache {
+    // ConcurrentHashMap null değer tutamaz; bulunamayan kullanıcı bu işaretle cache'lenir
+    private static final UserStatus MISSING = new UserStatus(null, null, false);
+
+    private final UserRepo userRepo;
+    private final long ttlMs;
+    private final ExpiringCache<String, UserStatus> statuses;
+
+    public UserStatusCache(UserRepo userRepo,
+                           @Value("${eventhub.jwt.revocation-check-ttl-ms:30000}") long ttlMs,
+                           @Value("${eventhub.jwt.revocation-cache-size:10000}") int cacheSize) {
+        this.userRepo = userRepo;
+        this.ttlMs = ttlMs;
+        this.statuses = new ExpiringCache<>(cacheSize);
+    }
+
+    /**
+     * Email'e ait kullanıcının güncel durumunu döner.
+     *
+     * @param email Token subject'i
+     * @return Kullanıcı durumu; kullanıcı yoksa null
+     */
+    public UserStatus get(String email) {
+        long now = System.currentTimeMillis();
+        UserStatus cached = this.statuses.get(email, now);
+        if (cached != null) {
+            return cached == MISSING ? null : cached;
+        }
+
+        // Aynı anda gelen iki istek aynı kaydı iki kez okuyabilir, sonuç aynıdır
+        UserStatus status = this.userRepo.findStatusByEmail(email).orElse(null);
+        this.statuses.put(email, status != null ? status : MISSING, now + this.ttlMs);
+        return status;
+    }
+
+    /**
+     * Kullanıcı güncellendiğinde veya silindiğinde cache'teki kaydı siler; sonraki istek durumu yeniden okur.
+     */
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        this.statuses.remove(email);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * İmzası doğrulanmış bir JWT'nin istek işlerken ihtiyaç duyulan alanları.
+ * Değiştirilemez; JwtService'in doğrulanmış token cache'inde birden fazla thread tarafından paylaşılır.
+ */
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+    private final Long userId; // uid claim'i; eski token'larda null olabilir
+    private final String subject; // Username (email)
+    private final String role;
+    private final long expiresAtMillis;
+}
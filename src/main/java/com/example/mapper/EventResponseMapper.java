@@ -0,0 +1,37 @@
+package com.example.mapper;
+
+import com.example.dto.response.EventResponse;
+import com.example.entities.Category;
+import com.example.entities.Event;
+import com.example.entities.User;
+
+/**
+ * Event → EventResponse dönüşümü.
+ *
+ * Reflection veya ModelMapper type map'i kullanmadan alanları doğrudan kopyalar;
+ * Category ve User alanları düzleştirilir (ModelMapper'daki gibi null ilişkiler null alan olarak kalır).
+ */
+public final class EventResponseMapper implements ResponseMapper<Event, EventResponse> {
+
+    @Override
+    public EventResponse map(Event event) {
+        if (event == null) {
+            return null;
+        }
+        Category category = event.getCategory();
+        User user = event.getUser();
+        return new EventResponse(
+                event.getId(),
+                event.getTitle(),
+                event.getDescription(),
+                event.getPosterUrl(),
+                event.getLocation(),
+                event.getDate(),
+                event.getLatitude(),
+                event.getLongitude(),
+                category != null ? category.getId() : null,
+                category != null ? category.getName() : null,
+                user != null ? user.getId() : null,
+                user != null ? user.getName() : null);
+    }
+}
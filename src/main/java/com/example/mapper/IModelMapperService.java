@@ -1,19 +1,27 @@
 package com.example.mapper;
 
+import com.example.dto.response.EventResponse;
+import com.example.dto.response.RegistrationResponse;
+import com.example.dto.response.TicketTypeResponse;
+import com.example.entities.Event;
+import com.example.entities.Registration;
+import com.example.entities.TicketType;
 import org.modelmapper.ModelMapper;
 
 /**
  * Request, Response ve özel durumlar için kullanılan
- * ModelMapper konfigürasyonlarını sağlayan servis arayüzü.
+ * mapper'ları sağlayan servis arayüzü.
  *
  * Amaç:
  * - DTO ↔ Entity dönüşümlerini merkezi olarak yönetmek
  * - Farklı kullanım senaryoları için farklı mapping stratejileri sunmak
+ *
+ * Dönen tüm mapper'lar uygulama açılışında bir kez oluşturulur ve thread-safe'tir; çağıran taraf konfigürasyonlarını değiştirmemelidir.
  */
 public interface IModelMapperService {
     ModelMapper forRequest();
     ModelMapper forResponse();
-    ModelMapper forEventResponse();    // Event entity’si için özel response mapping’lerinde kullanılan ModelMapper
-    ModelMapper forTicketTypeResponse(); //TicketType entity → TicketTypeResponse DTO dönüşümleri için
-    ModelMapper forRegistrationResponse(); // Registration entity → RegistrationResponse DTO dönüşümleri için
+    ResponseMapper<Event, EventResponse> forEventResponse();    // Event entity → EventResponse DTO dönüşümleri için (Category ve User düzleştirilir)
+    ResponseMapper<TicketType, TicketTypeResponse> forTicketTypeResponse(); //TicketType entity → TicketTypeResponse DTO dönüşümleri için
+    ResponseMapper<Registration, RegistrationResponse> forRegistrationResponse(); // Registration entity → RegistrationResponse DTO dönüşümleri için
 }
@@ -10,12 +10,27 @@ import org.modelmapper.ModelMapper;
 import org.modelmapper.convention.MatchingStrategies;
 import org.springframework.stereotype.Service;
 
+/**
+ * Tüm mapper'lar constructor'da bir kez kurulur ve sonrasında değiştirilmez:
+ * - Request ve response için ayrı ModelMapper örnekleri vardır; eşzamanlı isteklerde ortak nesnenin
+ *   matching stratejisi değiştirilmez (STANDARD/LOOSE yarışı olmaz)
+ * - Event, TicketType ve Registration response'ları reflection kullanmayan elle yazılmış mapper'larla üretilir;
+ *   çağrı başına yeni ModelMapper ve type map oluşturulmaz
+ */
 @Service
 public class ModelManagerService implements IModelMapperService{
-    private final ModelMapper modelMapper;
+    private final ModelMapper requestMapper;
+    private final ModelMapper responseMapper;
+    private final ResponseMapper<Event, EventResponse> eventResponseMapper = new EventResponseMapper();
+    private final ResponseMapper<TicketType, TicketTypeResponse> ticketTypeResponseMapper = new TicketTypeResponseMapper();
+    private final ResponseMapper<Registration, RegistrationResponse> registrationResponseMapper = new RegistrationResponseMapper();
 
     public ModelManagerService(ModelMapper modelMapper) {
-        this.modelMapper = modelMapper;
+        this.requestMapper = modelMapper;
+        this.requestMapper.getConfiguration().setAmbiguityIgnored(true).setMatchingStrategy(MatchingStrategies.STANDARD);
+
+        this.responseMapper = new ModelMapper();
+        this.responseMapper.getConfiguration().setAmbiguityIgnored(true).setMatchingStrategy(MatchingStrategies.LOOSE);
     }
 
     /**
@@ -27,8 +42,7 @@ public class ModelManagerService implements IModelMapperService{
      */
     @Override
     public ModelMapper forRequest() {
-        this.modelMapper.getConfiguration().setAmbiguityIgnored(true).setMatchingStrategy(MatchingStrategies.STANDARD);
-        return this.modelMapper;
+        return this.requestMapper;
     }
 
     /**
@@ -40,89 +54,49 @@ public class ModelManagerService implements IModelMapperService{
      */
     @Override
     public ModelMapper forResponse() {
-        this.modelMapper.getConfiguration().setAmbiguityIgnored(true).setMatchingStrategy(MatchingStrategies.LOOSE);
-        return this.modelMapper;
+        return this.responseMapper;
     }
+
     /**
-     * Event entity’si için özel response mapping’leri sağlayan ModelMapper.
+     * Event entity’si için özel response mapper'ı.
      *
      * Amaç:
      * - Nested entity alanlarını (Category, User) düzleştirerek
      *   EventResponse DTO’suna map etmek
      * - Controller katmanında manuel mapping ihtiyacını ortadan kaldırmak
      *
-     * @return Event → EventResponse dönüşümleri için özel yapılandırılmış ModelMapper
+     * @return Event → EventResponse dönüşümleri için paylaşılan mapper
      */
     @Override
-    public ModelMapper forEventResponse() {
-        ModelMapper mapper = new ModelMapper();
-        mapper.getConfiguration().setAmbiguityIgnored(true).setMatchingStrategy(MatchingStrategies.LOOSE);
-
-        // Event -> EventResponse için custom mapping
-        mapper.typeMap(Event.class, EventResponse.class)
-                .addMappings(m -> {
-                    m.map(src -> src.getCategory().getId(), EventResponse::setCategoryId);
-                    m.map(src -> src.getCategory().getName(), EventResponse::setCategoryName);
-                    m.map(src -> src.getUser().getId(), EventResponse::setUserId);
-                    m.map(src -> src.getUser().getName(), EventResponse::setOrganizerName);
-                });
-
-        return mapper;
+    public ResponseMapper<Event, EventResponse> forEventResponse() {
+        return this.eventResponseMapper;
     }
 
     /**
-     * TicketType entity'si için özel response mapping'leri sağlayan ModelMapper.
+     * TicketType entity'si için özel response mapper'ı.
      *
      * Amaç:
      * - Nested entity alanlarını (Event) düzleştirerek
      *   TicketTypeResponse DTO'suna map etmek
-     * - Controller katmanında manuel mapping ihtiyacını ortadan kaldırmak
      *
-     * @return TicketType → TicketTypeResponse dönüşümleri için özel yapılandırılmış ModelMapper
+     * @return TicketType → TicketTypeResponse dönüşümleri için paylaşılan mapper
      */
     @Override
-    public ModelMapper forTicketTypeResponse() {
-        ModelMapper mapper = new ModelMapper();
-        mapper.getConfiguration()
-                .setAmbiguityIgnored(true)
-                .setMatchingStrategy(MatchingStrategies.LOOSE);
-
-        mapper.typeMap(TicketType.class, TicketTypeResponse.class)
-                .addMappings(m -> {
-                    m.map(src -> src.getEvent().getId(), TicketTypeResponse::setEventId);
-                    m.map(src -> src.getEvent().getTitle(), TicketTypeResponse::setEventTitle);
-                });
-
-        return mapper;
+    public ResponseMapper<TicketType, TicketTypeResponse> forTicketTypeResponse() {
+        return this.ticketTypeResponseMapper;
     }
 
     /**
-     * Registration entity'si için özel response mapping'leri sağlayan ModelMapper.
+     * Registration entity'si için özel response mapper'ı.
      *
      * Amaç:
      * - Nested entity alanlarını (User, TicketType, Event) düzleştirerek
      *   RegistrationResponse DTO'suna map etmek
-     * - Controller katmanında manuel mapping ihtiyacını ortadan kaldırmak
      *
-     * @return Registration → RegistrationResponse dönüşümleri için özel yapılandırılmış ModelMapper
+     * @return Registration → RegistrationResponse dönüşümleri için paylaşılan mapper
      */
     @Override
-    public ModelMapper forRegistrationResponse() {
-        ModelMapper mapper = new ModelMapper();
-        mapper.getConfiguration()
-                .setAmbiguityIgnored(true)
-                .setMatchingStrategy(MatchingStrategies.LOOSE);
-
-        mapper.typeMap(Registration.class, RegistrationResponse.class)
-                .addMappings(m -> {
-                    m.map(src -> src.getUser().getId(), RegistrationResponse::setUserId);
-                    m.map(src -> src.getUser().getName(), RegistrationResponse::setUserName);
-                    m.map(src -> src.getTicketType().getId(), RegistrationResponse::setTicketTypeId);
-                    m.map(src -> src.getTicketType().getName(), RegistrationResponse::setTicketTypeName);
-                    m.map(src -> src.getTicketType().getEvent().getId(), RegistrationResponse::setEventId);
-                    m.map(src -> src.getTicketType().getEvent().getTitle(), RegistrationResponse::setEventTitle);
-                });
-
-        return mapper;
+    public ResponseMapper<Registration, RegistrationResponse> forRegistrationResponse() {
+        return this.registrationResponseMapper;
     }
 }
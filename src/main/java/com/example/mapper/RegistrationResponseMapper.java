@@ -0,0 +1,36 @@
+package com.example.mapper;
+
+import com.example.dto.response.RegistrationResponse;
+import com.example.entities.Event;
+import com.example.entities.Registration;
+import com.example.entities.TicketType;
+import com.example.entities.User;
+
+/**
+ * Registration → RegistrationResponse dönüşümü.
+ *
+ * Alanlar reflection olmadan doğrudan kopyalanır; User, TicketType ve TicketType üzerinden Event alanları düzleştirilir.
+ */
+public final class RegistrationResponseMapper implements ResponseMapper<Registration, RegistrationResponse> {
+
+    @Override
+    public RegistrationResponse map(Registration registration) {
+        if (registration == null) {
+            return null;
+        }
+        User user = registration.getUser();
+        TicketType ticketType = registration.getTicketType();
+        Event event = ticketType != null ? ticketType.getEvent() : null;
+        return new RegistrationResponse(
+                registration.getId(),
+                registration.getRegisteredAt(),
+                registration.getStatus(),
+                registration.getHoldExpiresAt(),
+                user != null ? user.getId() : null,
+                user != null ? user.getName() : null,
+                ticketType != null ? ticketType.getId() : null,
+                ticketType != null ? ticketType.getName() : null,
+                event != null ? event.getId() : null,
+                event != null ? event.getTitle() : null);
+    }
+}
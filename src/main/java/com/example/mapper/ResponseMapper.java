@@ -0,0 +1,15 @@
+package com.example.mapper;
+
+/**
+ * Entity → Response DTO dönüşümünü yapan mapper.
+ *
+ * Uygulamalar uygulama açılışında bir kez oluşturulur, state tutmaz ve thread-safe'tir;
+ * liste endpoint'lerinde satır başına çağrılsa bile yeni nesne/konfigürasyon üretmez.
+ *
+ * @param <S> Kaynak entity tipi
+ * @param <D> Hedef response DTO tipi
+ */
+@FunctionalInterface
+public interface ResponseMapper<S, D> {
+    D map(S source);
+}
@@ -0,0 +1,30 @@
+package com.example.mapper;
+
+import com.example.dto.response.TicketTypeResponse;
+import com.example.entities.Event;
+import com.example.entities.TicketType;
+
+/**
+ * TicketType → TicketTypeResponse dönüşümü.
+ *
+ * Alanlar reflection olmadan doğrudan kopyalanır; Event alanları düzleştirilir.
+ */
+public final class TicketTypeResponseMapper implements ResponseMapper<TicketType, TicketTypeResponse> {
+
+    @Override
+    public TicketTypeResponse map(TicketType ticketType) {
+        if (ticketType == null) {
+            return null;
+        }
+        Event event = ticketType.getEvent();
+        return new TicketTypeResponse(
+                ticketType.getId(),
+                ticketType.getName(),
+                ticketType.getPrice(),
+                ticketType.getQuota(),
+                ticketType.getSold(),
+                ticketType.getRemaining(),
+                event != null ? event.getId() : null,
+                event != null ? event.getTitle() : null);
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.result;
+
+import com.example.exception.InvalidCursorException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset sayfalamada client'a verilen opak cursor değerini üretir ve çözer.
+ *
+ * Cursor son okunan kaydın sıralama anahtarını (id) içerir; client bunu olduğu gibi
+ * bir sonraki isteğin cursor parametresine koyar.
+ * Format: base64url("v1:" + id), puanlı aramalarda base64url("r1:" + rank + ":" + id)
+ */
+public final class CursorCodec {
+    private static final String PREFIX = "v1:";
+    private static final String RANKED_PREFIX = "r1:";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(long lastId) {
+        return toBase64(PREFIX + lastId);
+    }
+
+    // Float.toString birebir geri çözülebilir değer üretir; eşit puanlı kayıtlar id ile ayrılır
+    public static String encodeRanked(float lastRank, long lastId) {
+        return toBase64(RANKED_PREFIX + lastRank + ":" + lastId);
+    }
+
+    /**
+     * @return Cursor içindeki son id; cursor boşsa null (ilk sayfa)
+     * @throws InvalidCursorException Cursor bozuksa
+     */
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (value.startsWith(PREFIX)) {
+                return Long.parseLong(value.substring(PREFIX.length()));
+            }
+        } catch (IllegalArgumentException e) {
+            // Geçersiz base64 veya sayı, aşağıda hata fırlatılır
+        }
+        throw new InvalidCursorException("Geçersiz cursor değeri");
+    }
+
+    /**
+     * @return Puanlı cursor içindeki son (rank, id) çifti; cursor boşsa null (ilk sayfa)
+     * @throws InvalidCursorException Cursor bozuksa
+     */
+    public static RankedKey decodeRanked(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (value.startsWith(RANKED_PREFIX)) {
+                String[] parts = value.substring(RANKED_PREFIX.length()).split(":");
+                if (parts.length == 2) {
+                    return new RankedKey(Float.parseFloat(parts[0]), Long.parseLong(parts[1]));
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // Geçersiz base64 veya sayı, aşağıda hata fırlatılır
+        }
+        throw new InvalidCursorException("Geçersiz cursor değeri");
+    }
+
+    // Sonraki sayfa varsa, sayfanın son kaydının anahtarından cursor üretir
+    public static <T> String next(Slice<T> slice, Function<T, Long> idExtractor) {
+        List<T> content = slice.getContent();
+        if (!slice.hasNext() || content.isEmpty()) {
+            return null;
+        }
+        return encode(idExtractor.apply(content.get(content.size() - 1)));
+    }
+
+    public static <T> String nextRanked(Slice<T> slice, Function<T, Float> rankExtractor, Function<T, Long> idExtractor) {
+        List<T> content = slice.getContent();
+        if (!slice.hasNext() || content.isEmpty()) {
+            return null;
+        }
+        T last = content.get(content.size() - 1);
+        return encodeRanked(rankExtractor.apply(last), idExtractor.apply(last));
+    }
+
+    private static String toBase64(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Puanlı sıralamada son kaydın anahtarı
+    @Getter
+    @AllArgsConstructor
+    public static class RankedKey {
+        private final float rank;
+        private final long id;
+    }
+}
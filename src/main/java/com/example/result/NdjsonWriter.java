@@ -0,0 +1,75 @@
+package com.example.result;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Export endpoint'leri için NDJSON (satır başına bir JSON nesnesi) response gövdesi üretir.
+ *
+ * - Kaynaktan okunan her satır hemen serialize edilip response'a yazılır; liste oluşturulmaz, heap kullanımı satır sayısından bağımsızdır
+ * - Belirli aralıklarla flush edilerek client'ın veriyi aktarım sürerken alması sağlanır
+ * - Client bağlantıyı koparırsa yazma hatası kaynağa geri fırlatılır; stream ve DB bağlantısı hemen kapanır
+ * - Uygulamanın JsonMapper'ı kullanıldığı için tarih vb. alanlar diğer endpoint'lerle aynı formatta yazılır
+ */
+@Component
+public class NdjsonWriter {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int FLUSH_EVERY_ROWS = 1000;
+    private static final byte NEW_LINE = '\n';
+
+    private final ObjectWriter writer;
+
+    public NdjsonWriter(JsonMapper jsonMapper) {
+        this.writer = jsonMapper.writer();
+    }
+
+    /**
+     * @param source Satırları sırayla verilen consumer'a aktaran kaynak (örn. IEventService::export)
+     * @return Response yazılırken (ayrı bir thread'de) kaynağı çalıştıran gövde
+     */
+    public <T> StreamingResponseBody body(Consumer<Consumer<T>> source) {
+        return out -> {
+            BufferedOutputStream buffer = new BufferedOutputStream(out, BUFFER_SIZE);
+            RowSink<T> sink = new RowSink<>(this.writer, buffer);
+            try {
+                source.accept(sink);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            buffer.flush();
+        };
+    }
+
+    private static final class RowSink<T> implements Consumer<T> {
+        private final ObjectWriter writer;
+        private final OutputStream out;
+        private int unflushed;
+
+        private RowSink(ObjectWriter writer, OutputStream out) {
+            this.writer = writer;
+            this.out = out;
+        }
+
+        @Override
+        public void accept(T row) {
+            try {
+                this.out.write(this.writer.writeValueAsBytes(row));
+                this.out.write(NEW_LINE);
+                if (++this.unflushed == FLUSH_EVERY_ROWS) {
+                    this.out.flush();
+                    this.unflushed = 0;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
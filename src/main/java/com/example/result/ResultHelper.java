@@ -1,7 +1,8 @@
 package com.example.result;
 
+import com.example.business.paging.PageTotal;
 import com.example.dto.response.CursorResponse;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 /**
  * API response’ları için hazır Result ve ResultData nesneleri
@@ -35,21 +36,38 @@ public class ResultHelper {
     }
 
     /**
-     * Sayfalı listeleme işlemleri için kullanılan response helper metodu.
+     * Arka planda işlenmek üzere kabul edilen istekler için kullanılan response.
      *
-     * Page nesnesinden alınan bilgiler ile CursorResponse oluşturur ve
+     * @param data Kabul edilen işin durumu (client bunu sorgulayarak sonucu takip eder)
+     * @param <T>  Döndürülecek veri tipi
+     * @return     202 status kodu ile oluşturulmuş ResultData
+     */
+    public static <T> ResultData <T> accepted(T data){
+        return new ResultData<>(true,"İşlem kabul edildi","202",data);
+    }
+
+    /**
+     * Keyset sayfalı listeleme işlemleri için kullanılan response helper metodu.
+     *
+     * Slice nesnesinden alınan bilgiler ile CursorResponse oluşturur ve
      * standart success response formatında client’a döner.
      *
-     * @param pageData Spring Data Page nesnesi
-     * @param <T>      Sayfa içinde yer alan veri tipi
-     * @return         CursorResponse içeren başarılı ResultData
+     * @param sliceData     Spring Data Slice nesnesi
+     * @param nextCursor    Sonraki sayfanın cursor'ı (son sayfada null)
+     * @param total         Toplam kayıt sayısı ve kesin olup olmadığı (istenmediyse null)
+     * @param <T>           Sayfa içinde yer alan veri tipi
+     * @return              CursorResponse içeren başarılı ResultData
      */
-    public static <T> ResultData<CursorResponse<T>> cursor (Page<T> pageData) {
+    public static <T> ResultData<CursorResponse<T>> cursor (Slice<T> sliceData, String nextCursor, PageTotal total) {
         CursorResponse<T> cursor = new CursorResponse<>();
-        cursor.setItems(pageData.getContent());
-        cursor.setPageNumber(pageData.getNumber());
-        cursor.setPageSize(pageData.getSize());
-        cursor.setTotalElements(pageData.getTotalElements());
+        cursor.setItems(sliceData.getContent());
+        cursor.setPageSize(sliceData.getSize());
+        cursor.setHasNext(sliceData.hasNext());
+        cursor.setNextCursor(nextCursor);
+        if (total != null) {
+            cursor.setTotalElements(total.getValue());
+            cursor.setTotalExact(total.isExact());
+        }
         return ResultHelper.success(cursor);
     }
 
@@ -70,6 +88,22 @@ public class ResultHelper {
         return new Result(false, msg, "409");
     }
 
+    /**
+     * Conflict (409) yanıtı, hata ile birlikte veri de döner.
+     * Ör. grup kaydında hiçbir kalem oluşturulamadığında kalem bazında sonuçlar client'a iletilir.
+     */
+    public static <T> ResultData<T> conflict(String msg, T data) {
+        return new ResultData<>(false, msg, "409", data);
+    }
+
+    /**
+     * 422 Unprocessable Entity hatası için Result oluşturur.
+     * İstek geçerli ama önceki bir istekle çelişiyorsa (ör. aynı Idempotency-Key farklı gövde ile) kullanılır.
+     */
+    public static Result unprocessableError(String msg) {
+        return new Result(false, msg, "422");
+    }
+
     /**
      * 400 Bad Request durumları için kullanılan standart hata response’u oluşturur.
      * @param msg Client’a döndürülecek hata mesajı
@@ -85,4 +119,28 @@ public class ResultHelper {
     public static Result unauthorizedError(String msg) {
         return new Result(false, msg, "401");
     }
+
+    /**
+     * 403 Forbidden hatası için Result oluşturur.
+     * Kimliği doğrulanmış ama işlem yapmasına izin verilmeyen (ör. devre dışı bırakılmış) kullanıcılar için kullanılır.
+     */
+    public static Result forbiddenError(String msg) {
+        return new Result(false, msg, "403");
+    }
+
+    /**
+     * 503 Service Unavailable hatası için Result oluşturur.
+     * Sistem geçici olarak yoğun olduğunda (kuyruk dolu vb.) kullanılır.
+     */
+    public static Result serviceUnavailableError(String msg) {
+        return new Result(false, msg, "503");
+    }
+
+    /**
+     * 429 Too Many Requests hatası için Result oluşturur.
+     * Client'ın sırası gelmeden (bekleme odası) istek attığı durumlarda kullanılır.
+     */
+    public static Result tooManyRequestsError(String msg) {
+        return new Result(false, msg, "429");
+    }
 }
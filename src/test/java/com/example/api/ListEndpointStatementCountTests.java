@@ -0,0 +1,153 @@
+package com.example.api;
+
+import com.example.dao.CategoryRepo;
+import com.example.dao.EventRepo;
+import com.example.dao.RegistrationRepo;
+import com.example.dao.TicketTypeRepo;
+import com.example.dao.UserRepo;
+import com.example.entities.Category;
+import com.example.entities.Event;
+import com.example.entities.TicketType;
+import com.example.entities.User;
+import com.example.enums.RegistrationStatus;
+import com.example.jwt.JwtService;
+import com.example.support.TestData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Liste endpoint'lerinin satır sayısından bağımsız, sabit sayıda SQL ifadesi çalıştırdığını doğrular (N+1 yok).
+ *
+ * Her listede ROWS kayıt vardır ve her kaydın ilişkili entity'leri (kategori, organizatör, kullanıcı,
+ * bilet türü, etkinlik) birbirinden farklıdır; lazy yükleme olsaydı ifade sayısı ROWS ile birlikte artardı.
+ * Listeler pageSize=ROWS ile istenir; varsayılan sayfa boyutu tüm satırları kapsamazsa N+1 gizlenirdi.
+ * İfade sayısı Hibernate istatistiklerinden okunur; revocation kontrolü dahil üst sınır MAX_STATEMENTS'tır.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        // Arka plan işlerinin sorguları ölçüme karışmasın
+        "eventhub.hold.expiry-interval-ms=3600000",
+        "eventhub.idempotency.cleanup-interval-ms=3600000",
+        "eventhub.ticket-type.repair-interval-ms=3600000"
+})
+class ListEndpointStatementCountTests {
+
+    private static final int ROWS = 25;
+    private static final String EVENT_TITLE = "N+1 Test Event";
+    // UserStatusCache'in ilk istekteki kullanıcı durum sorgusu + tek keyset projeksiyon sorgusu (count yok: total=NONE)
+    private static final long MAX_STATEMENTS = 2;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private CategoryRepo categoryRepo;
+    @Autowired
+    private UserRepo userRepo;
+    @Autowired
+    private EventRepo eventRepo;
+    @Autowired
+    private TicketTypeRepo ticketTypeRepo;
+    @Autowired
+    private RegistrationRepo registrationRepo;
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private TestData data;
+    private Category sharedCategory;
+    private User organizer;
+    private User attendee;
+    private TicketType sharedTicketType;
+
+    @BeforeEach
+    void setUp() {
+        data = new TestData(categoryRepo, userRepo, eventRepo, ticketTypeRepo, registrationRepo);
+        String suffix = UUID.randomUUID().toString();
+        sharedCategory = data.saveCategory("n1-shared-" + suffix);
+        organizer = data.saveUser("n1-organizer-" + suffix);
+        attendee = data.saveUser("n1-attendee-" + suffix);
+
+        for (int i = 0; i < ROWS; i++) {
+            // Kategori listesi: her etkinliğin organizatörü farklı
+            data.saveEvent(EVENT_TITLE, sharedCategory, data.saveUser("n1-org-" + i + "-" + suffix));
+            // Organizatör listesi: her etkinliğin kategorisi farklı
+            Event event = data.saveEvent(EVENT_TITLE, data.saveCategory("n1-cat-" + i + "-" + suffix), organizer);
+            // Kullanıcı kayıt listesi: her kaydın bilet türü ve etkinliği farklı
+            data.saveRegistration(attendee, data.saveTicketType(event, ROWS));
+        }
+
+        Event sharedEvent = data.saveEvent(EVENT_TITLE, sharedCategory, organizer);
+        sharedTicketType = data.saveTicketType(sharedEvent, ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            // Bilet türü kayıt listesi: her kaydın kullanıcısı farklı
+            data.saveRegistration(data.saveUser("n1-att-" + i + "-" + suffix), sharedTicketType);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        data.deleteAll();
+    }
+
+    @Test
+    void eventsByCategory() throws Exception {
+        assertConstantStatements("/v1/events/category/" + sharedCategory.getId());
+    }
+
+    @Test
+    void eventsByUser() throws Exception {
+        assertConstantStatements("/v1/events/user/" + organizer.getId());
+    }
+
+    @Test
+    void registrationsByUser() throws Exception {
+        assertConstantStatements("/v1/registrations/user/" + attendee.getId());
+    }
+
+    @Test
+    void registrationsByTicketType() throws Exception {
+        assertConstantStatements("/v1/registrations/ticket-type/" + sharedTicketType.getId());
+    }
+
+    @Test
+    void registrationsByStatus() throws Exception {
+        assertConstantStatements("/v1/registrations/status/" + RegistrationStatus.ACTIVE);
+    }
+
+    private void assertConstantStatements(String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path + "?pageSize=" + ROWS))
+                .header("Authorization", "Bearer " + jwtService.generateToken(attendee))
+                .GET()
+                .build();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        HttpResponse<String> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+        long statements = statistics.getPrepareStatementCount();
+
+        assertEquals(200, response.statusCode());
+        assertEquals(ROWS, new ObjectMapper().readTree(response.body()).path("data").path("items").size(),
+                path + " tam sayfa dönmedi");
+        assertTrue(statements <= MAX_STATEMENTS,
+                path + " " + statements + " SQL ifadesi çalıştırdı, beklenen en fazla " + MAX_STATEMENTS);
+    }
+}
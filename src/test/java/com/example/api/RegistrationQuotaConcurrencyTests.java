@@ -0,0 +1,153 @@
+package com.example.api;
+
+import com.example.dao.CategoryRepo;
+import com.example.dao.EventRepo;
+import com.example.dao.RegistrationRepo;
+import com.example.dao.TicketTypeRepo;
+import com.example.dao.UserRepo;
+import com.example.entities.Category;
+import com.example.entities.Event;
+import com.example.entities.TicketType;
+import com.example.entities.User;
+import com.example.enums.AuthProvider;
+import com.example.enums.Role;
+import com.example.jwt.JwtService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Aynı bilet türüne binlerce paralel POST /v1/registrations isteği gönderip
+ * kotanın hiçbir durumda aşılmadığını doğrular.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class RegistrationQuotaConcurrencyTests {
+
+    private static final int QUOTA = 100;
+    private static final int REQUESTS = 2000;
+    private static final int THREADS = 64;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private CategoryRepo categoryRepo;
+    @Autowired
+    private UserRepo userRepo;
+    @Autowired
+    private EventRepo eventRepo;
+    @Autowired
+    private TicketTypeRepo ticketTypeRepo;
+    @Autowired
+    private RegistrationRepo registrationRepo;
+    @Autowired
+    private JwtService jwtService;
+
+    private Category category;
+    private User user;
+    private TicketType ticketType;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString();
+
+        category = new Category();
+        category.setName("quota-test-" + suffix);
+        category = categoryRepo.save(category);
+
+        user = new User();
+        user.setName("Quota Test");
+        user.setEmail("quota-" + suffix + "@example.com");
+        user.setAuthProvider(AuthProvider.LOCAL);
+        user.setRole(Role.USER);
+        user.setCreatedAt(LocalDateTime.now());
+        user = userRepo.save(user);
+
+        Event event = new Event();
+        event.setTitle("Quota Test Event");
+        event.setDate(LocalDateTime.now().plusDays(1));
+        event.setCategory(category);
+        event.setUser(user);
+        event = eventRepo.save(event);
+
+        ticketType = new TicketType();
+        ticketType.setName("Normal");
+        ticketType.setPrice(100.0);
+        ticketType.setQuota(QUOTA);
+        ticketType.setEvent(event);
+        ticketType = ticketTypeRepo.save(ticketType);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepo.deleteById(user.getId());
+        categoryRepo.deleteById(category.getId());
+    }
+
+    @Test
+    void parallelRegistrationsNeverExceedQuota() throws Exception {
+        String token = jwtService.generateToken(user);
+        String body = "{\"userId\":" + user.getId() + ",\"ticketTypeId\":" + ticketType.getId() + "}";
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/v1/registrations"))
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + token)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger conflict = new AtomicInteger();
+        AtomicInteger other = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    if (status == 201) {
+                        created.incrementAndGet();
+                    } else if (status == 409) {
+                        conflict.incrementAndGet();
+                    } else {
+                        other.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(0, other.get());
+        assertEquals(QUOTA, created.get());
+        assertEquals(REQUESTS - QUOTA, conflict.get());
+        assertEquals(QUOTA, ticketTypeRepo.findById(ticketType.getId()).orElseThrow().getSold());
+        assertEquals(QUOTA, registrationRepo.findByTicketTypeId(ticketType.getId()).size());
+    }
+}
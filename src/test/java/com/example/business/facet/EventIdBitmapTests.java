@@ -0,0 +1,168 @@
+package com.example.business.facet;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * EventIdBitmap'i TreeSet ile karşılaştırır.
+ *
+ * Sınır durumları: 65536'lık blok geçişleri (id >>> 16) ve bir bloğun 4096 elemanı aşıp bit dizisine geçmesi,
+ * sonra silmelerle tekrar sıralı diziye dönmesi. Veritabanı gerektirmez.
+ */
+class EventIdBitmapTests {
+
+    private static final int ARRAY_MAX = 4096;
+    private static final long BLOCK = 65536;
+
+    @Test
+    void addRemoveContainsMatchTreeSetAcrossBlockBoundaries() {
+        EventIdBitmap bitmap = new EventIdBitmap();
+        TreeSet<Long> oracle = new TreeSet<>();
+
+        // Blok sınırlarının iki yanı
+        for (long block = 0; block < 4; block++) {
+            for (long delta = -2; delta <= 2; delta++) {
+                long id = block * BLOCK + delta;
+                if (id >= 0) {
+                    add(bitmap, oracle, id);
+                }
+            }
+        }
+        add(bitmap, oracle, 0xFFFF);
+        add(bitmap, oracle, 5L << 32); // Üst bitleri dolu, seyrek blok
+        assertSameContents(bitmap, oracle);
+
+        remove(bitmap, oracle, BLOCK);
+        remove(bitmap, oracle, BLOCK - 1);
+        remove(bitmap, oracle, 12345); // Olmayan id
+        remove(bitmap, oracle, 5L << 32); // Bloğun son elemanı: blok kaldırılır
+        assertSameContents(bitmap, oracle);
+        assertFalse(bitmap.contains(5L << 32));
+    }
+
+    @Test
+    void containerSwitchesToBitmapAboveArrayMaxAndBack() {
+        EventIdBitmap bitmap = new EventIdBitmap();
+        TreeSet<Long> oracle = new TreeSet<>();
+        long base = 2 * BLOCK;
+
+        // Tam ARRAY_MAX eleman: sıralı dizi sınırda
+        for (int i = 0; i < ARRAY_MAX; i++) {
+            add(bitmap, oracle, base + i * 3L);
+        }
+        assertSameContents(bitmap, oracle);
+
+        // Bir eleman daha: bit dizisine geçer
+        add(bitmap, oracle, base + 1);
+        add(bitmap, oracle, base + 1); // Tekrar ekleme sayıyı değiştirmez
+        assertSameContents(bitmap, oracle);
+
+        // Bir silme ile tekrar ARRAY_MAX'a iner ve diziye döner
+        remove(bitmap, oracle, base + 1);
+        assertSameContents(bitmap, oracle);
+        remove(bitmap, oracle, base + 3);
+        add(bitmap, oracle, base + 0xFFFF); // Bloğun son değeri
+        assertSameContents(bitmap, oracle);
+    }
+
+    @Test
+    void randomOperationsMatchTreeSet() {
+        Random random = new Random(42);
+        EventIdBitmap bitmap = new EventIdBitmap();
+        TreeSet<Long> oracle = new TreeSet<>();
+
+        // Üç blok: biri yoğun (bit dizisi), biri sınırda gidip gelen, biri seyrek
+        for (int step = 0; step < 60_000; step++) {
+            long block = random.nextInt(3);
+            int range = block == 0 ? 8000 : block == 1 ? 9000 : 65536;
+            long id = block * BLOCK + random.nextInt(range);
+            if (random.nextInt(4) == 0) {
+                remove(bitmap, oracle, id);
+            } else {
+                add(bitmap, oracle, id);
+            }
+            if (step % 10_000 == 0) {
+                assertSameContents(bitmap, oracle);
+            }
+        }
+        assertSameContents(bitmap, oracle);
+    }
+
+    @Test
+    void selectPagesInAscendingOrder() {
+        Random random = new Random(7);
+        EventIdBitmap bitmap = new EventIdBitmap();
+        TreeSet<Long> oracle = new TreeSet<>();
+        for (int i = 0; i < 20_000; i++) {
+            add(bitmap, oracle, random.nextInt((int) (4 * BLOCK)));
+        }
+
+        // Keyset sayfalama: her sayfa bir öncekinin son id'sinden devam eder
+        long afterId = -1;
+        for (int limit : new int[]{1, 7, 100, 4097, 100_000}) {
+            long[] page = bitmap.select(afterId, limit);
+            assertArrayEquals(expectedPage(oracle, afterId, limit), page);
+            if (page.length > 0) {
+                afterId = page[page.length - 1];
+            }
+        }
+
+        // Blok sınırlarından başlayan sayfalar
+        for (long after : new long[]{BLOCK - 1, BLOCK, 2 * BLOCK - 1, 3 * BLOCK + 0xFFFF, 10 * BLOCK}) {
+            assertArrayEquals(expectedPage(oracle, after, 50), bitmap.select(after, 50));
+        }
+    }
+
+    @Test
+    void andMatchesSetIntersection() {
+        Random random = new Random(3);
+        EventIdBitmap a = new EventIdBitmap();
+        EventIdBitmap b = new EventIdBitmap();
+        TreeSet<Long> oracleA = new TreeSet<>();
+        TreeSet<Long> oracleB = new TreeSet<>();
+        // a: ilk blok yoğun (bit dizisi), b: ilk blok seyrek (dizi); ikinci blokta ikisi de yoğun
+        for (int i = 0; i < 10_000; i++) {
+            add(a, oracleA, random.nextInt(20_000));
+            add(a, oracleA, BLOCK + random.nextInt(12_000));
+            add(b, oracleB, BLOCK + random.nextInt(12_000));
+        }
+        for (int i = 0; i < 500; i++) {
+            add(b, oracleB, random.nextInt(20_000));
+        }
+
+        TreeSet<Long> expected = new TreeSet<>(oracleA);
+        expected.retainAll(oracleB);
+        assertSameContents(EventIdBitmap.and(a, b), expected);
+        assertEquals(expected.size(), EventIdBitmap.andCardinality(a, b));
+        assertEquals(expected.size(), EventIdBitmap.andCardinality(b, a));
+    }
+
+    private static void add(EventIdBitmap bitmap, TreeSet<Long> oracle, long id) {
+        bitmap.add(id);
+        oracle.add(id);
+    }
+
+    private static void remove(EventIdBitmap bitmap, TreeSet<Long> oracle, long id) {
+        bitmap.remove(id);
+        oracle.remove(id);
+    }
+
+    private static void assertSameContents(EventIdBitmap bitmap, TreeSet<Long> oracle) {
+        assertEquals(oracle.size(), bitmap.cardinality());
+        assertArrayEquals(oracle.stream().mapToLong(Long::longValue).toArray(), bitmap.select(-1, oracle.size() + 1));
+        for (long id : oracle) {
+            assertTrue(bitmap.contains(id), () -> "Eksik id: " + id);
+        }
+    }
+
+    private static long[] expectedPage(TreeSet<Long> oracle, long afterId, int limit) {
+        return oracle.tailSet(afterId, false).stream().limit(limit).mapToLong(Long::longValue).toArray();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.business.facet;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * PriceBands aralık ve etiket hesaplarını doğrular. Veritabanı gerektirmez.
+ */
+class PriceBandsTests {
+
+    private final PriceBands bands = new PriceBands(new double[]{500, 0, 1000, 250}); // Sırasız verilir, sıralanır
+
+    @Test
+    void bandOfUsesInclusiveLowerAndExclusiveUpperBounds() {
+        assertEquals(4, this.bands.size());
+        assertEquals(0, this.bands.bandOf(-10)); // İlk sınırın altı ilk aralığa sayılır
+        assertEquals(0, this.bands.bandOf(0));
+        assertEquals(0, this.bands.bandOf(249.99));
+        assertEquals(1, this.bands.bandOf(250));
+        assertEquals(2, this.bands.bandOf(999.99));
+        assertEquals(3, this.bands.bandOf(1000));
+        assertEquals(3, this.bands.bandOf(1_000_000)); // Son aralık üstten açık
+    }
+
+    @Test
+    void labelsRoundTripThroughIndexOf() {
+        assertEquals("0-250", this.bands.label(0));
+        assertEquals("500-1000", this.bands.label(2));
+        assertEquals("1000+", this.bands.label(3));
+        for (int band = 0; band < this.bands.size(); band++) {
+            assertEquals(band, this.bands.indexOf(this.bands.label(band)));
+        }
+        assertEquals(-1, this.bands.indexOf("100-200"));
+        assertEquals("12.5-20", new PriceBands(new double[]{12.5, 20}).label(0)); // Kesirli sınırlar olduğu gibi yazılır
+    }
+
+    @Test
+    void rejectsEmptyBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new PriceBands(new double[0]));
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.dao;
+
+import com.example.dto.response.EventResponse;
+import com.example.dto.response.RegistrationResponse;
+import com.example.entities.Category;
+import com.example.entities.Event;
+import com.example.entities.Registration;
+import com.example.entities.TicketType;
+import com.example.entities.User;
+import com.example.mapper.IModelMapperService;
+import com.example.support.TestData;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Okuma endpoint'lerinin eski (managed entity + response mapper) ve yeni (DTO projeksiyonu) yollarının
+ * aynı satırlar için aynı response'ları ürettiğini doğrular.
+ *
+ * Her iki yol da aynı satırları tek sorguda okur (eski yol N+1 olmadan, JOIN FETCH ile).
+ * Süre ve bellek karşılaştırması JMH tarafında yapılır (src/jmh, ReadProjectionBenchmark).
+ */
+@SpringBootTest
+class ReadProjectionParityTests {
+
+    private static final int ROWS = 20;
+
+    @Autowired
+    private CategoryRepo categoryRepo;
+    @Autowired
+    private UserRepo userRepo;
+    @Autowired
+    private EventRepo eventRepo;
+    @Autowired
+    private TicketTypeRepo ticketTypeRepo;
+    @Autowired
+    private RegistrationRepo registrationRepo;
+    @Autowired
+    private IModelMapperService modelMapperService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TestData data;
+    private TicketType ticketType;
+    private long firstEventId;
+
+    @BeforeEach
+    void setUp() {
+        data = new TestData(categoryRepo, userRepo, eventRepo, ticketTypeRepo, registrationRepo);
+        String suffix = UUID.randomUUID().toString();
+        Category category = data.saveCategory("parity-" + suffix);
+
+        User organizer = data.saveUser("parity-org-" + suffix);
+        Event first = null;
+        for (int i = 0; i < ROWS; i++) {
+            Event event = data.saveEvent("Parity Event " + i, category, organizer);
+            if (first == null) {
+                first = event;
+            }
+        }
+        firstEventId = first.getId();
+
+        ticketType = data.saveTicketType(first, ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            data.saveRegistration(data.saveUser("parity-att-" + i + "-" + suffix), ticketType);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        data.deleteAll();
+    }
+
+    @Test
+    void eventPageMatchesEntityMapping() {
+        TransactionTemplate readOnly = readOnlyTransaction();
+        List<EventResponse> entity = readOnly.execute(status ->
+                entityManager.createQuery("SELECT e FROM Event e JOIN FETCH e.category JOIN FETCH e.user " +
+                                "WHERE e.id >= :firstId ORDER BY e.id", Event.class)
+                        .setParameter("firstId", firstEventId)
+                        .setMaxResults(ROWS)
+                        .getResultList().stream()
+                        .map(event -> modelMapperService.forEventResponse().map(event))
+                        .toList());
+        List<EventResponse> projection = readOnly.execute(status ->
+                eventRepo.findResponsesAfter(firstEventId - 1, Limit.of(ROWS)));
+
+        assertEquals(ROWS, entity.size());
+        assertEquals(entity, projection);
+    }
+
+    @Test
+    void registrationsByTicketTypeMatchEntityMapping() {
+        TransactionTemplate readOnly = readOnlyTransaction();
+        List<RegistrationResponse> entity = readOnly.execute(status ->
+                entityManager.createQuery("SELECT r FROM Registration r JOIN FETCH r.user JOIN FETCH r.ticketType t " +
+                                "JOIN FETCH t.event WHERE t.id = :ticketTypeId ORDER BY r.id", Registration.class)
+                        .setParameter("ticketTypeId", ticketType.getId())
+                        .getResultList().stream()
+                        .map(registration -> modelMapperService.forRegistrationResponse().map(registration))
+                        .toList());
+        List<RegistrationResponse> projection = readOnly.execute(status ->
+                registrationRepo.findResponsesByTicketTypeId(ticketType.getId(), 0L, Limit.of(ROWS)));
+
+        assertEquals(ROWS, entity.size());
+        assertEquals(entity, projection);
+    }
+
+    private TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.mapper;
+
+import com.example.dto.response.EventResponse;
+import com.example.dto.response.RegistrationResponse;
+import com.example.dto.response.TicketTypeResponse;
+import com.example.entities.Category;
+import com.example.entities.Event;
+import com.example.entities.Registration;
+import com.example.entities.TicketType;
+import com.example.entities.User;
+import com.example.enums.RegistrationStatus;
+import com.example.support.LegacyModelMappers;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Elle yazılmış response mapper'larını eski ModelMapper yapılandırmasıyla karşılaştırır:
+ * aynı entity için iki yol aynı DTO'yu üretmelidir (null ilişkiler dahil).
+ * Satır başına maliyet karşılaştırması JMH tarafında yapılır (src/jmh, MapperBenchmark).
+ */
+class ResponseMapperParityTests {
+
+    private final IModelMapperService modelMapperService = new ModelManagerService(new ModelMapper());
+
+    @Test
+    void eventMapperMatchesModelMapper() {
+        ModelMapper legacy = LegacyModelMappers.event();
+        Event event = event(1L);
+        assertEquals(legacy.map(event, EventResponse.class), modelMapperService.forEventResponse().map(event));
+
+        event.setCategory(null);
+        event.setUser(null);
+        assertEquals(legacy.map(event, EventResponse.class), modelMapperService.forEventResponse().map(event));
+    }
+
+    @Test
+    void ticketTypeMapperMatchesModelMapper() {
+        ModelMapper legacy = LegacyModelMappers.ticketType();
+        TicketType ticketType = ticketType(1L, event(1L));
+        assertEquals(legacy.map(ticketType, TicketTypeResponse.class), modelMapperService.forTicketTypeResponse().map(ticketType));
+
+        ticketType.setEvent(null);
+        assertEquals(legacy.map(ticketType, TicketTypeResponse.class), modelMapperService.forTicketTypeResponse().map(ticketType));
+    }
+
+    @Test
+    void registrationMapperMatchesModelMapper() {
+        ModelMapper legacy = LegacyModelMappers.registration();
+        Registration registration = registration(1L, ticketType(1L, event(1L)));
+        assertEquals(legacy.map(registration, RegistrationResponse.class), modelMapperService.forRegistrationResponse().map(registration));
+
+        registration.getTicketType().setEvent(null);
+        registration.setUser(null);
+        assertEquals(legacy.map(registration, RegistrationResponse.class), modelMapperService.forRegistrationResponse().map(registration));
+    }
+
+    private static Event event(Long id) {
+        Category category = new Category();
+        category.setId(7L);
+        category.setName("Müzik");
+
+        Event event = new Event();
+        event.setId(id);
+        event.setTitle("Konser " + id);
+        event.setDescription("Açık hava konseri");
+        event.setPosterUrl("/uploads/poster.png");
+        event.setLocation("İstanbul");
+        event.setDate(LocalDateTime.of(2026, 6, 1, 20, 0));
+        event.setLatitude(41.0082);
+        event.setLongitude(28.9784);
+        event.setCategory(category);
+        event.setUser(user(3L));
+        return event;
+    }
+
+    private static TicketType ticketType(Long id, Event event) {
+        TicketType ticketType = new TicketType();
+        ticketType.setId(id);
+        ticketType.setName("VIP");
+        ticketType.setPrice(750.0);
+        ticketType.setQuota(100);
+        ticketType.setSold(40);
+        ticketType.setRemaining(60);
+        ticketType.setEvent(event);
+        return ticketType;
+    }
+
+    private static Registration registration(Long id, TicketType ticketType) {
+        Registration registration = new Registration();
+        registration.setId(id);
+        registration.setRegisteredAt(LocalDateTime.of(2026, 5, 1, 12, 0));
+        registration.setStatus(RegistrationStatus.ACTIVE);
+        registration.setUser(user(100L + id));
+        registration.setTicketType(ticketType);
+        return registration;
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setName("Kullanıcı " + id);
+        user.setEmail("user" + id + "@example.com");
+        return user;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.support;
+
+import com.example.dto.response.EventResponse;
+import com.example.dto.response.RegistrationResponse;
+import com.example.dto.response.TicketTypeResponse;
+import com.example.entities.Event;
+import com.example.entities.Registration;
+import com.example.entities.TicketType;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+
+/**
+ * Elle yazılmış response mapper'larından önce ModelManagerService'in her çağrıda kurduğu ModelMapper yapılandırmaları.
+ *
+ * Karşılaştırma için birebir kopyalandı; eşdeğerlik testleri ve JMH benchmark'ları (src/jmh) tarafından kullanılır.
+ */
+public final class LegacyModelMappers {
+
+    private LegacyModelMappers() {
+    }
+
+    public static ModelMapper event() {
+        ModelMapper mapper = loose();
+        mapper.typeMap(Event.class, EventResponse.class)
+                .addMappings(m -> {
+                    m.map(src -> src.getCategory().getId(), EventResponse::setCategoryId);
+                    m.map(src -> src.getCategory().getName(), EventResponse::setCategoryName);
+                    m.map(src -> src.getUser().getId(), EventResponse::setUserId);
+                    m.map(src -> src.getUser().getName(), EventResponse::setOrganizerName);
+                });
+        return mapper;
+    }
+
+    public static ModelMapper ticketType() {
+        ModelMapper mapper = loose();
+        mapper.typeMap(TicketType.class, TicketTypeResponse.class)
+                .addMappings(m -> {
+                    m.map(src -> src.getEvent().getId(), TicketTypeResponse::setEventId);
+                    m.map(src -> src.getEvent().getTitle(), TicketTypeResponse::setEventTitle);
+                });
+        return mapper;
+    }
+
+    public static ModelMapper registration() {
+        ModelMapper mapper = loose();
+        mapper.typeMap(Registration.class, RegistrationResponse.class)
+                .addMappings(m -> {
+                    m.map(src -> src.getUser().getId(), RegistrationResponse::setUserId);
+                    m.map(src -> src.getUser().getName(), RegistrationResponse::setUserName);
+                    m.map(src -> src.getTicketType().getId(), RegistrationResponse::setTicketTypeId);
+                    m.map(src -> src.getTicketType().getName(), RegistrationResponse::setTicketTypeName);
+                    m.map(src -> src.getTicketType().getEvent().getId(), RegistrationResponse::setEventId);
+                    m.map(src -> src.getTicketType().getEvent().getTitle(), RegistrationResponse::setEventTitle);
+                });
+        return mapper;
+    }
+
+    private static ModelMapper loose() {
+        ModelMapper mapper = new ModelMapper();
+        mapper.getConfiguration().setAmbiguityIgnored(true).setMatchingStrategy(MatchingStrategies.LOOSE);
+        return mapper;
+    }
+}
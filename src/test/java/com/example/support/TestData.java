@@ -0,0 +1,102 @@
+package com.example.support;
+
+import com.example.dao.CategoryRepo;
+import com.example.dao.EventRepo;
+import com.example.dao.RegistrationRepo;
+import com.example.dao.TicketTypeRepo;
+import com.example.dao.UserRepo;
+import com.example.entities.Category;
+import com.example.entities.Event;
+import com.example.entities.Registration;
+import com.example.entities.TicketType;
+import com.example.entities.User;
+import com.example.enums.AuthProvider;
+import com.example.enums.RegistrationStatus;
+import com.example.enums.Role;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Veritabanı testleri için kayıt oluşturan yardımcı sınıf.
+ *
+ * Oluşturulan kullanıcılar ve kategoriler hatırlanır; deleteAll() bunları siler.
+ * Kullanıcı silinince etkinlikleri, bilet türleri ve kayıtları cascade ile silinir.
+ * Test başına bir örnek oluşturulur (@BeforeEach), @AfterEach'te deleteAll() çağrılır.
+ */
+public class TestData {
+    private final CategoryRepo categoryRepo;
+    private final UserRepo userRepo;
+    private final EventRepo eventRepo;
+    private final TicketTypeRepo ticketTypeRepo;
+    private final RegistrationRepo registrationRepo;
+
+    private final List<Category> categories = new ArrayList<>();
+    private final List<User> users = new ArrayList<>();
+
+    public TestData(CategoryRepo categoryRepo, UserRepo userRepo, EventRepo eventRepo,
+                    TicketTypeRepo ticketTypeRepo, RegistrationRepo registrationRepo) {
+        this.categoryRepo = categoryRepo;
+        this.userRepo = userRepo;
+        this.eventRepo = eventRepo;
+        this.ticketTypeRepo = ticketTypeRepo;
+        this.registrationRepo = registrationRepo;
+    }
+
+    public Category saveCategory(String name) {
+        Category category = new Category();
+        category.setName(name);
+        category = this.categoryRepo.save(category);
+        this.categories.add(category);
+        return category;
+    }
+
+    public User saveUser(String name) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(name + "@example.com");
+        user.setAuthProvider(AuthProvider.LOCAL);
+        user.setRole(Role.USER);
+        user.setCreatedAt(LocalDateTime.now());
+        user = this.userRepo.save(user);
+        this.users.add(user);
+        return user;
+    }
+
+    public Event saveEvent(String title, Category category, User user) {
+        Event event = new Event();
+        event.setTitle(title);
+        event.setDescription(title);
+        event.setLocation("İstanbul");
+        event.setDate(LocalDateTime.now().plusDays(1));
+        event.setCategory(category);
+        event.setUser(user);
+        return this.eventRepo.save(event);
+    }
+
+    public TicketType saveTicketType(Event event, int quota) {
+        TicketType ticketType = new TicketType();
+        ticketType.setName("Normal");
+        ticketType.setPrice(100.0);
+        ticketType.setQuota(quota);
+        ticketType.setEvent(event);
+        return this.ticketTypeRepo.save(ticketType);
+    }
+
+    public Registration saveRegistration(User user, TicketType ticketType) {
+        Registration registration = new Registration();
+        registration.setUser(user);
+        registration.setTicketType(ticketType);
+        registration.setStatus(RegistrationStatus.ACTIVE);
+        registration.setRegisteredAt(LocalDateTime.now());
+        return this.registrationRepo.save(registration);
+    }
+
+    public void deleteAll() {
+        this.users.forEach(user -> this.userRepo.deleteById(user.getId()));
+        this.categories.forEach(category -> this.categoryRepo.deleteById(category.getId()));
+        this.users.clear();
+        this.categories.clear();
+    }
+}